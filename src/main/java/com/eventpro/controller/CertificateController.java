@@ -0,0 +1,247 @@
+package com.eventpro.controller;
+
+import com.eventpro.model.CertificateJob;
+import com.eventpro.service.CertificateBundleService;
+import com.eventpro.service.CertificateFileService;
+import com.eventpro.service.CertificateFileService.CertificateFile;
+import com.eventpro.service.CertificateJobService;
+import com.eventpro.service.CertificateVerificationService;
+import com.eventpro.service.CertificateVerificationService.CertificateSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * REST Controller for certificates
+ */
+@RestController
+@RequestMapping("/api/certificates")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class CertificateController {
+    
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    private final CertificateVerificationService verificationService;
+    private final CertificateFileService certificateFileService;
+    private final CertificateBundleService certificateBundleService;
+    private final CertificateJobService certificateJobService;
+    
+    /**
+     * Verify a certificate by its verification code
+     */
+    @GetMapping("/verify/{verificationCode}")
+    public ResponseEntity<CertificateSummary> verifyCertificate(@PathVariable String verificationCode) {
+        return verificationService.verify(verificationCode)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get verification index statistics
+     */
+    @GetMapping("/verification/statistics")
+    public ResponseEntity<Map<String, Object>> getVerificationStatistics() {
+        return ResponseEntity.ok(verificationService.getStatistics());
+    }
+    
+    /**
+     * Download a certificate PDF. Supports a single byte range and
+     * If-None-Match. When the connector supports sendfile the kernel copies
+     * the file to the socket; otherwise FileChannel.transferTo streams it
+     * through a small copy buffer, so memory use does not grow with the file.
+     */
+    @GetMapping("/{certificateId}/download")
+    public void downloadCertificate(@PathVariable String certificateId,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        Optional<CertificateFile> found = certificateFileService.findFile(certificateId);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CertificateFile file = found.get();
+        
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+        
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        long start = 0;
+        long end = file.size() - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(file.etag()))) {
+            long[] bounds = parseRange(range, file.size());
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.size());
+            }
+        }
+        
+        long length = end - start + 1;
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.downloadName()).build().toString());
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+        
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            // The servlet stream is not a channel, so this copies through a small heap buffer per chunk
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+            out.flush();
+        }
+    }
+    
+    /**
+     * Download every certificate of an event as a ZIP, streamed as it is built
+     */
+    @GetMapping("/events/{eventId}/bundle")
+    public ResponseEntity<StreamingResponseBody> downloadEventBundle(@PathVariable Long eventId) {
+        if (!certificateBundleService.hasCertificates(eventId)) {
+            return ResponseEntity.notFound().build();
+        }
+        log.info("📦 REST: Streaming certificate bundle for event {}", eventId);
+        StreamingResponseBody body = out -> certificateBundleService.writeBundle(eventId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("certificados-evento-" + eventId + ".zip").build().toString())
+                .body(body);
+    }
+    
+    /**
+     * Start certificate generation for an event as a resumable job. Returns
+     * the job already running for the event instead of starting a second one.
+     */
+    @PostMapping("/events/{eventId}/jobs")
+    public ResponseEntity<CertificateJob> startCertificateJob(@PathVariable Long eventId,
+                                                             @RequestParam(defaultValue = "false") boolean premium) {
+        log.info("🗂️ REST: Starting certificate job for event {} (premium: {})", eventId, premium);
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(certificateJobService.startJob(eventId, premium));
+        } catch (RuntimeException e) {
+            log.error("❌ Error starting certificate job: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Progress of a certificate job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CertificateJob> getCertificateJob(@PathVariable Long jobId) {
+        return certificateJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Certificate jobs of an event, newest first
+     */
+    @GetMapping("/events/{eventId}/jobs")
+    public ResponseEntity<List<CertificateJob>> getCertificateJobs(@PathVariable Long eventId) {
+        return ResponseEntity.ok(certificateJobService.getJobsForEvent(eventId));
+    }
+    
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+    }
+    
+    /**
+     * Parse a single "bytes=" range. Returns {start, end} for a satisfiable
+     * range, an empty array to ignore the header (malformed or multiple
+     * ranges, answered with the whole file) and null when unsatisfiable.
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+                if (end < start) {
+                    return last.isEmpty() || Long.parseLong(last) >= start ? null : new long[0];
+                }
+            }
+            return start < size ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.eventpro.controller;
+
+import com.eventpro.service.CheckInService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for door scanner check-ins
+ */
+@RestController
+@RequestMapping("/api/checkins")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class CheckInController {
+    
+    private final CheckInService checkInService;
+    
+    /**
+     * Ingest a batch of check-in/check-out scans
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CheckInService.ScanBatchAck> ingestScans(@RequestBody List<CheckInService.Scan> scans) {
+        log.debug("🎫 REST: Ingesting {} scans", scans.size());
+        CheckInService.ScanBatchAck ack = checkInService.ingest(scans);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ack);
+    }
+    
+    /**
+     * Get the number of scans waiting to be applied
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<Integer> getPendingScans() {
+        return ResponseEntity.ok(checkInService.getPendingScans());
+    }
+}
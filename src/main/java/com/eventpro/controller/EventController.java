@@ -2,6 +2,7 @@ package com.eventpro.controller;
 
 import com.eventpro.model.Event;
 import com.eventpro.model.EventType;
+import com.eventpro.service.EventCache;
 import com.eventpro.service.EventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,11 +10,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -57,12 +60,34 @@ public class EventController {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, Math.min(size, EventService.MAX_PAGE_SIZE), sort);
         
         Page<Event> events = eventService.getAllEvents(pageable);
         return ResponseEntity.ok(events);
     }
     
+    /**
+     * Get events with cursor-based (keyset) pagination
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<EventService.EventSlice> scrollEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "startDate") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        log.debug("📋 REST: Scrolling events - cursor: {}, size: {}", cursor, size);
+        try {
+            EventService.EventSlice slice = eventService.getEventsSlice(cursor, size, sortBy,
+                    sortDir.equalsIgnoreCase("desc"), includeTotal);
+            return ResponseEntity.ok(slice);
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid scroll request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Get event by ID
      */
@@ -109,9 +134,15 @@ public class EventController {
      * Get upcoming events
      */
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
+    public ResponseEntity<List<Event>> getUpcomingEvents(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
         log.debug("📅 REST: Fetching upcoming events");
-        List<Event> upcomingEvents = eventService.getUpcomingEvents();
+        List<Event> upcomingEvents = (from != null || to != null) ?
+                eventService.getUpcomingEventsBetween(from != null ? from : LocalDateTime.now(),
+                        to != null ? to : LocalDateTime.now().plusYears(100), limit) :
+                eventService.getUpcomingEvents(limit);
         return ResponseEntity.ok(upcomingEvents);
     }
     
@@ -126,7 +157,7 @@ public class EventController {
         
         log.debug("🔍 REST: Searching events with query: {}", q);
         
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, Math.min(size, EventService.MAX_PAGE_SIZE));
         Page<Event> events = eventService.searchEvents(q, pageable);
         return ResponseEntity.ok(events);
     }
@@ -205,4 +236,13 @@ public class EventController {
         EventService.EventStatistics stats = eventService.getEventStatistics();
         return ResponseEntity.ok(stats);
     }
+    
+    /**
+     * Get event cache statistics
+     */
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<EventCache.CacheStatistics> getEventCacheStatistics() {
+        log.debug("📊 REST: Fetching event cache statistics");
+        return ResponseEntity.ok(eventService.getEventCacheStatistics());
+    }
 }
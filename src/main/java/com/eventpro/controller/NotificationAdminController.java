@@ -0,0 +1,47 @@
+package com.eventpro.controller;
+
+import com.eventpro.model.NotificationType;
+import com.eventpro.patterns.factory.NotificationChannelRegistry;
+import com.eventpro.patterns.factory.notifications.DeadLetter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for operating on undeliverable notifications
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class NotificationAdminController {
+    
+    private static final int MAX_LIMIT = 10_000;
+    
+    private final NotificationChannelRegistry channelRegistry;
+    
+    /**
+     * List pending dead letters, oldest first
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetter>> getDeadLetters(@RequestParam(required = false) NotificationType channel,
+                                                           @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(channelRegistry.getDeadLetters(channel, Math.min(Math.max(limit, 1), MAX_LIMIT)));
+    }
+    
+    /**
+     * Replay pending dead letters through their channels
+     */
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Object>> replayDeadLetters(@RequestParam(required = false) NotificationType channel,
+                                                                 @RequestParam(defaultValue = "1000") int limit) {
+        log.info("🔁 REST: Replaying dead-lettered notifications (channel: {}, limit: {})", channel, limit);
+        int replayed = channelRegistry.replayDeadLetters(channel, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+}
@@ -0,0 +1,57 @@
+package com.eventpro.controller;
+
+import com.eventpro.service.NotificationFanOutService;
+import com.eventpro.service.NotificationFanOutService.FanOutJob;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for registrant notifications
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class NotificationController {
+    
+    private final NotificationFanOutService fanOutService;
+    
+    /**
+     * Notify every registrant of an event
+     */
+    @PostMapping("/fanout/events/{eventId}")
+    public ResponseEntity<FanOutJob> notifyRegistrants(@PathVariable Long eventId,
+                                                       @Valid @RequestBody FanOutRequest request) {
+        log.info("📣 REST: Notifying registrants of event {}", eventId);
+        FanOutJob job = fanOutService.notifyRegistrants(eventId, request.subject(), request.message());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+    
+    /**
+     * Get the progress of a fan-out job
+     */
+    @GetMapping("/fanout/{jobId}")
+    public ResponseEntity<FanOutJob> getFanOutJob(@PathVariable String jobId) {
+        return fanOutService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get the fan-out jobs of an event
+     */
+    @GetMapping("/fanout/events/{eventId}")
+    public ResponseEntity<List<FanOutJob>> getFanOutJobsForEvent(@PathVariable Long eventId) {
+        return ResponseEntity.ok(fanOutService.getJobsForEvent(eventId));
+    }
+    
+    public record FanOutRequest(@NotBlank String subject, @NotBlank String message) {}
+}
@@ -1,8 +1,12 @@
 package com.eventpro.controller;
 
+import com.eventpro.model.NotificationType;
 import com.eventpro.patterns.singleton.DatabaseConnectionManager;
+import com.eventpro.patterns.factory.NotificationChannelRegistry;
 import com.eventpro.patterns.factory.NotificationFactory;
+import com.eventpro.patterns.factory.notifications.NotificationRateLimiter;
 import com.eventpro.patterns.observer.EventManager;
+import com.eventpro.patterns.strategy.CertificateBatchEngine;
 import com.eventpro.patterns.strategy.CertificateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +29,11 @@ public class PatternsController {
     
     private final DataSource dataSource;
     private final NotificationFactory notificationFactory;
+    private final NotificationRateLimiter notificationRateLimiter;
+    private final NotificationChannelRegistry notificationChannelRegistry;
     private final EventManager eventManager;
     private final CertificateService certificateService;
+    private final CertificateBatchEngine certificateBatchEngine;
     
     /**
      * Demonstrate Singleton pattern
@@ -104,6 +111,8 @@ public class PatternsController {
             response.put("message", "Observer pattern demonstrated successfully");
             response.put("observerCount", eventManager.getObserverCount());
             response.put("observers", eventManager.getObserverNames());
+            response.put("dispatch", eventManager.getDispatchStatistics());
+            response.put("outbox", eventManager.getOutboxStatistics());
             
             return ResponseEntity.ok(response);
             
@@ -117,6 +126,34 @@ public class PatternsController {
         }
     }
     
+    /**
+     * Notification channel pools, queues and failures
+     */
+    @GetMapping("/factory/channels")
+    public ResponseEntity<Map<NotificationType, Map<String, Object>>> getNotificationChannels() {
+        return ResponseEntity.ok(notificationChannelRegistry.getStatistics());
+    }
+    
+    /**
+     * Notification channel budgets, current send rate and backlog
+     */
+    @GetMapping("/factory/rate-limits")
+    public ResponseEntity<Map<String, Map<String, Object>>> getNotificationRateLimits() {
+        return ResponseEntity.ok(notificationRateLimiter.getStatistics());
+    }
+    
+    /**
+     * Per-observer latency, error and queue-depth metrics
+     */
+    @GetMapping("/observer/metrics")
+    public ResponseEntity<Map<String, Object>> getObserverMetrics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("observers", eventManager.getObserverMetrics());
+        response.put("dispatch", eventManager.getDispatchStatistics());
+        response.put("outbox", eventManager.getOutboxStatistics());
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Demonstrate Strategy pattern
      */
@@ -144,6 +181,27 @@ public class PatternsController {
         }
     }
     
+    /**
+     * Progress of recent certificate batches and worker pool usage
+     */
+    @GetMapping("/strategy/batches")
+    public ResponseEntity<Map<String, Object>> getCertificateBatches() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("engine", certificateBatchEngine.getStatistics());
+        response.put("jobs", certificateBatchEngine.getJobs());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Progress of one certificate batch
+     */
+    @GetMapping("/strategy/batches/{jobId}")
+    public ResponseEntity<CertificateBatchEngine.BatchJob> getCertificateBatch(@PathVariable String jobId) {
+        return certificateBatchEngine.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Get all patterns information
      */
@@ -0,0 +1,91 @@
+package com.eventpro.controller;
+
+import com.eventpro.service.RegistrationService;
+import com.eventpro.service.RegistrationService.RegistrationResult;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Controller for event registrations
+ */
+@RestController
+@RequestMapping("/api/registrations")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class RegistrationController {
+    
+    private final RegistrationService registrationService;
+    
+    @Value("${eventpro.registrations.ack-timeout-ms:2000}")
+    private long ackTimeoutMs;
+    
+    /**
+     * Register a user for an event. Answers with the final status when the
+     * registration is stored in time, otherwise with 202 and PENDING.
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<RegistrationResult>> register(@Valid @RequestBody RegistrationRequest request) {
+        log.info("📝 REST: Registering user {} for event {}", request.userId(), request.eventId());
+        
+        CompletableFuture<RegistrationResult> result;
+        try {
+            result = registrationService.register(request.userId(), request.eventId(), request.expectations());
+        } catch (RuntimeException e) {
+            log.error("❌ Error registering user: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        
+        return result
+                .thenApply(RegistrationController::toResponse)
+                .completeOnTimeout(ResponseEntity.status(HttpStatus.ACCEPTED)
+                                .body(RegistrationResult.pending(request.userId(), request.eventId())),
+                        ackTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Cancel a registration
+     */
+    @DeleteMapping("/events/{eventId}/users/{userId}")
+    public ResponseEntity<Void> cancelRegistration(@PathVariable Long eventId, @PathVariable Long userId) {
+        log.info("❌ REST: Cancelling registration of user {} for event {}", userId, eventId);
+        try {
+            registrationService.cancel(userId, eventId);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            log.error("❌ Error cancelling registration: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Get the number of registrations waiting to be stored
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<Integer> getQueueDepth() {
+        return ResponseEntity.ok(registrationService.getQueueDepth());
+    }
+    
+    private static ResponseEntity<RegistrationResult> toResponse(RegistrationResult result) {
+        return switch (result.outcome()) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.CREATED).body(result);
+            case DUPLICATE -> ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+            case CLOSED -> ResponseEntity.badRequest().body(result);
+            case REJECTED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+        };
+    }
+    
+    /**
+     * Registration request body
+     */
+    public record RegistrationRequest(@NotNull Long userId, @NotNull Long eventId, String expectations) {}
+}
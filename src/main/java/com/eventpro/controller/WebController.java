@@ -62,20 +62,31 @@ public class WebController {
      */
     @GetMapping("/events")
     public String events(Model model, 
-                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(required = false) Integer page,
                         @RequestParam(defaultValue = "12") int size,
-                        @RequestParam(required = false) String search) {
+                        @RequestParam(required = false) String search,
+                        @RequestParam(required = false) String cursor) {
         
         log.info("📅 Loading events page - page: {}, search: {}", page, search);
         
         try {
-            var pageable = PageRequest.of(page, size);
-            var eventsPage = (search != null && !search.trim().isEmpty()) ?
-                    eventService.searchEvents(search, pageable) :
-                    eventService.getAllEvents(pageable);
+            int pageSize = Math.min(size, EventService.MAX_PAGE_SIZE);
+            if (search != null && !search.trim().isEmpty()) {
+                int pageNumber = page != null ? page : 0;
+                model.addAttribute("eventsPage", eventService.searchEvents(search, PageRequest.of(pageNumber, pageSize)));
+                model.addAttribute("currentPage", pageNumber);
+            } else if (page != null && page > 0) {
+                // Plain listings are paged by cursor; a page number would silently show the first page
+                log.warn("⚠️ Rejected page {} for the plain events listing", page);
+                model.addAttribute("error", "Event listings are paged by cursor, not by page number");
+                return "error";
+            } else {
+                // Plain listing uses keyset pagination so deep pages stay cheap
+                var eventsSlice = eventService.getEventsSlice(cursor, pageSize, "startDate", false, false);
+                model.addAttribute("eventsSlice", eventsSlice);
+                model.addAttribute("nextCursor", eventsSlice.nextCursor());
+            }
             
-            model.addAttribute("eventsPage", eventsPage);
-            model.addAttribute("currentPage", page);
             model.addAttribute("searchTerm", search);
             model.addAttribute("pageTitle", "Events - EventPro");
             
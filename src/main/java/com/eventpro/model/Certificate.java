@@ -14,19 +14,31 @@ import java.time.LocalDateTime;
  * Certificate entity representing event completion certificates
  */
 @Entity
-@Table(name = "certificates")
+@Table(name = "certificates", uniqueConstraints = {
+        @UniqueConstraint(name = Certificate.UK_CERTIFICATE_ID, columnNames = "certificate_id"),
+        @UniqueConstraint(name = Certificate.UK_VERIFICATION_CODE, columnNames = "verification_code"),
+        @UniqueConstraint(name = Certificate.UK_PARTICIPANT_EVENT, columnNames = {"participant_id", "event_id"})
+}, indexes = {
+        @Index(name = "idx_certificates_created_at", columnList = "created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Certificate {
     
+    public static final String UK_CERTIFICATE_ID = "uk_certificates_certificate_id";
+    public static final String UK_VERIFICATION_CODE = "uk_certificates_verification_code";
+    public static final String UK_PARTICIPANT_EVENT = "uk_certificates_participant_event";
+    
+    // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certificates_seq")
+    @SequenceGenerator(name = "certificates_seq", sequenceName = "certificates_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank
-    @Column(name = "certificate_id", unique = true, nullable = false)
+    @Column(name = "certificate_id", nullable = false)
     private String certificateId;
     
     @NotNull
@@ -40,7 +52,7 @@ public class Certificate {
     private Event event;
     
     @NotBlank
-    @Column(name = "verification_code", unique = true, nullable = false)
+    @Column(name = "verification_code", nullable = false)
     private String verificationCode;
     
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,78 @@
+package com.eventpro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent certificate generation job for one event. Its chunks record
+ * which registrations are done, so a restarted node resumes instead of
+ * starting over.
+ */
+@Entity
+@Table(name = "certificate_jobs", indexes = {
+        @Index(name = "idx_certificate_jobs_event_status", columnList = "event_id, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Builder.Default
+    private Boolean premium = false;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+    
+    @Builder.Default
+    @Column(name = "eligible_participants")
+    private Integer eligibleParticipants = 0;
+    
+    @Builder.Default
+    @Column(name = "total_chunks")
+    private Integer totalChunks = 0;
+    
+    @Builder.Default
+    @Column(name = "completed_chunks")
+    private Integer completedChunks = 0;
+    
+    @Builder.Default
+    private Integer issued = 0;
+    
+    @Builder.Default
+    private Integer skipped = 0;
+    
+    @Builder.Default
+    private Integer failed = 0;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
+    public enum Status {
+        RUNNING, COMPLETED
+    }
+}
@@ -0,0 +1,59 @@
+package com.eventpro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint for a contiguous range of registration ids within a certificate job
+ */
+@Entity
+@Table(name = "certificate_job_chunks", uniqueConstraints =
+        @UniqueConstraint(name = "uk_certificate_job_chunk", columnNames = {"job_id", "chunk_index"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateJobChunk {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+    
+    @Column(name = "first_registration_id", nullable = false)
+    private Long firstRegistrationId;
+    
+    @Column(name = "last_registration_id", nullable = false)
+    private Long lastRegistrationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+    
+    @Builder.Default
+    private Integer issued = 0;
+    
+    @Builder.Default
+    private Integer skipped = 0;
+    
+    @Builder.Default
+    private Integer failed = 0;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    public enum Status {
+        PENDING, DONE
+    }
+}
@@ -15,7 +15,10 @@ import java.util.Set;
  * Event entity representing an event in the platform
  */
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Keyset pagination by start date; the id sort key is served by the primary key
+        @Index(name = "idx_events_start_date_id", columnList = "start_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -68,8 +71,9 @@ public class Event {
     @Column(name = "max_attendees", nullable = false)
     private Integer maxAttendees;
     
+    // Maintained by SeatReservationEngine, never written back by entity saves
     @Builder.Default
-    @Column(name = "current_attendees")
+    @Column(name = "current_attendees", updatable = false)
     private Integer currentAttendees = 0;
     
     @Enumerated(EnumType.STRING)
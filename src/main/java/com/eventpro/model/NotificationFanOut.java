@@ -0,0 +1,68 @@
+package com.eventpro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent notification fan-out to the registrants of one event. The last
+ * registration whose chunk was fully sent is checkpointed, so a restarted
+ * node resumes after it, and the optional dedupe key makes a repeated
+ * request (e.g. a redelivered cancellation) a no-op.
+ */
+@Entity
+@Table(name = "notification_fanouts", indexes = {
+        @Index(name = "idx_notification_fanouts_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationFanOut {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(name = "dedupe_key", unique = true, length = 100)
+    private String dedupeKey;
+    
+    @Column(nullable = false)
+    private String subject;
+    
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+    
+    @Builder.Default
+    @Column(name = "last_registration_id", nullable = false)
+    private Long lastRegistrationId = 0L;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
+    public enum Status {
+        RUNNING, COMPLETED
+    }
+}
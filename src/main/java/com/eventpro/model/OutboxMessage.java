@@ -0,0 +1,75 @@
+package com.eventpro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entity holding an observer notification written in the same
+ * transaction as the event change that produced it
+ */
+@Entity
+@Table(name = "event_outbox", indexes = {
+        @Index(name = "idx_outbox_status_id", columnList = "status, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "dedupe_key", unique = true, nullable = false, length = 64)
+    private String dedupeKey;
+    
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+    
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+    
+    @Column(name = "event_title")
+    private String eventTitle;
+    
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    
+    // Comma-separated names of the observers that already handled this message
+    @Column(name = "handled_by", length = 500)
+    private String handledBy;
+    
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+    
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+    
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
+    public enum Status {
+        PENDING, IN_FLIGHT, DELIVERED, FAILED
+    }
+}
@@ -0,0 +1,60 @@
+package com.eventpro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification held back by the coalescer, one row per (event, recipient, kind)
+ * holding the latest state to send once its quiet window elapses
+ */
+@Entity
+@Table(name = "pending_notifications", indexes = {
+        @Index(name = "idx_pending_notification_due", columnList = "due_at"),
+        @Index(name = "idx_pending_notification_event", columnList = "event_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingNotification {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "coalescing_key", unique = true, nullable = false, length = 320)
+    private String coalescingKey;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    private String recipient;
+    
+    @Column(nullable = false, length = 40)
+    private String kind;
+    
+    @Column(name = "event_title")
+    private String eventTitle;
+    
+    @Column(name = "event_timestamp", nullable = false)
+    private LocalDateTime eventTimestamp;
+    
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "first_seen_at", nullable = false)
+    private LocalDateTime firstSeenAt;
+    
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+    
+    // Bumped on every submission so a flush only deletes the state it sent
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer revision = 0;
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
  * Registration entity representing user event registrations
  */
 @Entity
-@Table(name = "registrations")
+@Table(name = "registrations", uniqueConstraints = 
+        @UniqueConstraint(name = "uk_registration_user_event", columnNames = {"user_id", "event_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,217 @@
+package com.eventpro.patterns.factory;
+
+import com.eventpro.model.NotificationType;
+import com.eventpro.patterns.factory.notifications.*;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of long-lived notification channels.
+ *
+ * Every channel is built once and owns a bulkhead: a fixed-size executor with
+ * a bounded queue and a send timeout, configured under
+ * eventpro.notifications.channels.&lt;type&gt;.*. A slow SMS gateway can only
+ * fill its own queue; e-mail and push keep their threads. Rate-limited
+ * channels queue in front of the bulkhead, and a full backlog holds the caller
+ * only for the bounded backlog wait before rejecting the send.
+ *
+ * On top of the bulkhead each channel retries failed sends with jittered
+ * backoff within a retry budget (eventpro.notifications.channels.&lt;type&gt;.retry.*)
+ * and hands what it gives up on to the dead-letter store. Retries run on the
+ * channel's own executor; the shared scheduler only times them. Timed-out
+ * sends are dead-lettered without a retry, since they may have been delivered.
+ */
+@Component
+@Slf4j
+public class NotificationChannelRegistry {
+    
+    private final Map<NotificationType, Channel> channels = new EnumMap<>(NotificationType.class);
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final DeadLetterStore deadLetterStore;
+    
+    @Autowired
+    public NotificationChannelRegistry(Environment environment,
+                                       ObjectProvider<JavaMailSender> mailSender,
+                                       ObjectProvider<BulkEmailSender> bulkEmailSender,
+                                       ObjectProvider<NotificationRateLimiter> rateLimiter,
+                                       ObjectProvider<DeadLetterStore> deadLetterStore) {
+        this(environment, mailSender.getIfAvailable(), bulkEmailSender.getIfAvailable(),
+                rateLimiter.getIfAvailable(), deadLetterStore.getIfAvailable());
+    }
+    
+    /**
+     * Build the channels outside Spring; every argument may be null
+     */
+    NotificationChannelRegistry(Environment environment,
+                                JavaMailSender mailSender,
+                                BulkEmailSender bulkEmailSender,
+                                NotificationRateLimiter rateLimiter,
+                                DeadLetterStore deadLetterStore) {
+        this.deadLetterStore = deadLetterStore;
+        this.retryScheduler = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "notify-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        retryScheduler.setRemoveOnCancelPolicy(true);
+        
+        for (NotificationType type : NotificationType.values()) {
+            ChannelSettings settings = ChannelSettings.of(environment, type);
+            ThreadPoolExecutor executor = newExecutor(type, settings);
+            INotification base = switch (type) {
+                case EMAIL -> new EmailNotification(mailSender, bulkEmailSender, executor);
+                case SMS -> new SMSNotification(executor);
+                case PUSH -> new PushNotification(executor);
+            };
+            BulkheadNotification bulkhead = new BulkheadNotification(base, settings.timeoutMillis());
+            INotification limited = rateLimiter != null ? rateLimiter.limit(bulkhead) : bulkhead;
+            ReliableNotification notification = new ReliableNotification(limited, settings.retry(),
+                    retryScheduler, executor, deadLetterStore);
+            channels.put(type, new Channel(notification, bulkhead, executor, settings));
+            log.info("📡 Notification channel {} ready: {} threads, queue {}, timeout {} ms, {} attempts",
+                    type, settings.threads(), settings.queueCapacity(), settings.timeoutMillis(),
+                    settings.retry().maxAttempts());
+        }
+    }
+    
+    /**
+     * The shared channel instance for a type
+     */
+    public INotification getChannel(NotificationType type) {
+        Channel channel = type != null ? channels.get(type) : null;
+        if (channel == null) {
+            throw new IllegalArgumentException("Unsupported notification type: " + type);
+        }
+        return channel.notification();
+    }
+    
+    public boolean supports(NotificationType type) {
+        return type != null && channels.containsKey(type);
+    }
+    
+    /**
+     * Pool usage, queue depth and failures per channel
+     */
+    public Map<NotificationType, Map<String, Object>> getStatistics() {
+        Map<NotificationType, Map<String, Object>> statistics = new EnumMap<>(NotificationType.class);
+        channels.forEach((type, channel) -> {
+            ThreadPoolExecutor executor = channel.executor();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("threads", channel.settings().threads());
+            values.put("activeThreads", executor.getActiveCount());
+            values.put("queued", executor.getQueue().size());
+            values.put("queueCapacity", channel.settings().queueCapacity());
+            values.put("completed", executor.getCompletedTaskCount());
+            values.put("rejected", channel.bulkhead().getRejected());
+            values.put("timedOut", channel.bulkhead().getTimedOut());
+            values.put("failed", channel.bulkhead().getFailed());
+            values.put("timeoutMs", channel.settings().timeoutMillis());
+            values.put("retried", channel.notification().getRetried());
+            values.put("retryBudgetExhausted", channel.notification().getBudgetExhausted());
+            values.put("retryBudgetAvailable", channel.notification().getRetryBudgetAvailable());
+            values.put("deadLettered", channel.notification().getDeadLettered());
+            values.put("deliveryUnknown", channel.notification().getUnknown());
+            statistics.put(type, values);
+        });
+        return statistics;
+    }
+    
+    /**
+     * Dead letters still waiting for a replay, for one channel or for all when type is null
+     */
+    public List<DeadLetter> getDeadLetters(NotificationType type, int limit) {
+        if (deadLetterStore == null) {
+            return List.of();
+        }
+        return deadLetterStore.findPending(type != null ? type.name() : null, limit);
+    }
+    
+    /**
+     * Send pending dead letters through their channel again. Each one is marked
+     * as replayed once handed over; if it fails again it comes back as a new
+     * dead letter after the normal retries.
+     */
+    public int replayDeadLetters(NotificationType type, int limit) {
+        List<DeadLetter> deadLetters = getDeadLetters(type, limit);
+        List<String> replayed = new ArrayList<>(deadLetters.size());
+        for (DeadLetter deadLetter : deadLetters) {
+            NotificationType channelType;
+            try {
+                channelType = NotificationType.valueOf(deadLetter.channel());
+            } catch (IllegalArgumentException e) {
+                log.warn("⚠️ Skipping dead letter {} for unknown channel {}", deadLetter.id(), deadLetter.channel());
+                continue;
+            }
+            getChannel(channelType).send(deadLetter.recipient(), deadLetter.message(), deadLetter.subject(), Map.of());
+            replayed.add(deadLetter.id());
+        }
+        deadLetterStore.markReplayed(replayed);
+        log.info("🔁 Replayed {} dead-lettered notifications", replayed.size());
+        return replayed.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        channels.values().forEach(channel -> channel.executor().shutdown());
+    }
+    
+    private ThreadPoolExecutor newExecutor(NotificationType type, ChannelSettings settings) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(settings.threads(), settings.threads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(settings.queueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "notify-" + type.name().toLowerCase() + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    private record Channel(ReliableNotification notification, BulkheadNotification bulkhead,
+                           ThreadPoolExecutor executor, ChannelSettings settings) {}
+    
+    private record ChannelSettings(int threads, int queueCapacity, long timeoutMillis, RetryPolicy retry) {
+        
+        private static final Map<NotificationType, ChannelSettings> DEFAULTS = Map.of(
+                NotificationType.EMAIL, new ChannelSettings(8, 1000, 30_000, new RetryPolicy(5, 1_000, 60_000, 0.2, 100)),
+                NotificationType.SMS, new ChannelSettings(4, 1000, 10_000, new RetryPolicy(4, 1_000, 30_000, 0.1, 50)),
+                NotificationType.PUSH, new ChannelSettings(8, 1000, 5_000, new RetryPolicy(3, 500, 10_000, 0.1, 100)));
+        
+        static ChannelSettings of(Environment environment, NotificationType type) {
+            ChannelSettings defaults = DEFAULTS.get(type);
+            if (environment == null) {
+                return defaults;
+            }
+            String prefix = "eventpro.notifications.channels." + type.name().toLowerCase() + ".";
+            return new ChannelSettings(
+                    Math.max(1, environment.getProperty(prefix + "threads", Integer.class, defaults.threads())),
+                    Math.max(1, environment.getProperty(prefix + "queue-capacity", Integer.class, defaults.queueCapacity())),
+                    environment.getProperty(prefix + "timeout-ms", Long.class, defaults.timeoutMillis()),
+                    new RetryPolicy(
+                            Math.max(1, environment.getProperty(prefix + "retry.max-attempts", Integer.class,
+                                    defaults.retry().maxAttempts())),
+                            Math.max(1, environment.getProperty(prefix + "retry.base-delay-ms", Long.class,
+                                    defaults.retry().baseDelayMillis())),
+                            Math.max(1, environment.getProperty(prefix + "retry.max-delay-ms", Long.class,
+                                    defaults.retry().maxDelayMillis())),
+                            environment.getProperty(prefix + "retry.budget-ratio", Double.class,
+                                    defaults.retry().budgetRatio()),
+                            environment.getProperty(prefix + "retry.budget-capacity", Integer.class,
+                                    defaults.retry().budgetCapacity())));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.eventpro.patterns.factory;
 
+import com.eventpro.model.NotificationType;
 import com.eventpro.patterns.factory.notifications.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,30 +20,22 @@ public class NotificationFactory {
     @Autowired
     private JavaMailSender mailSender;
     
+    @Autowired(required = false)
+    private BulkEmailSender bulkEmailSender;
+    
+    @Autowired(required = false)
+    private NotificationRateLimiter rateLimiter;
+    
+    @Autowired(required = false)
+    private volatile NotificationChannelRegistry channelRegistry;
+    
     /**
-     * Create a notification instance based on the type
+     * Get the notification channel for a type. Channels are long-lived and
+     * shared, so repeated calls return the same instance.
      */
     public INotification createNotification(NotificationType type) {
-        log.debug("🏭 Creating notification of type: {}", type);
-        
-        return switch (type) {
-            case EMAIL -> {
-                log.debug("📧 Creating EmailNotification");
-                yield new EmailNotification(mailSender);
-            }
-            case SMS -> {
-                log.debug("📱 Creating SMSNotification");
-                yield new SMSNotification();
-            }
-            case PUSH -> {
-                log.debug("🔔 Creating PushNotification");
-                yield new PushNotification();
-            }
-            default -> {
-                log.error("❌ Unsupported notification type: {}", type);
-                throw new IllegalArgumentException("Unsupported notification type: " + type);
-            }
-        };
+        log.debug("🏭 Resolving notification channel of type: {}", type);
+        return registry().getChannel(type);
     }
     
     /**
@@ -56,12 +49,19 @@ public class NotificationFactory {
      * Check if a notification type is supported
      */
     public boolean isTypeSupported(NotificationType type) {
-        try {
-            createNotification(type);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        return registry().supports(type);
+    }
+    
+    private NotificationChannelRegistry registry() {
+        if (channelRegistry == null) {
+            synchronized (this) {
+                if (channelRegistry == null) {
+                    // Built on first use when the factory is created outside Spring
+                    channelRegistry = new NotificationChannelRegistry(null, mailSender, bulkEmailSender, rateLimiter, null);
+                }
+            }
         }
+        return channelRegistry;
     }
     
     /**
@@ -81,22 +81,3 @@ public class NotificationFactory {
         }
     }
 }
-
-/**
- * Enum for notification types
- */
-enum NotificationType {
-    EMAIL("Email"),
-    SMS("SMS"),
-    PUSH("Push Notification");
-    
-    private final String displayName;
-    
-    NotificationType(String displayName) {
-        this.displayName = displayName;
-    }
-    
-    public String getDisplayName() {
-        return displayName;
-    }
-}
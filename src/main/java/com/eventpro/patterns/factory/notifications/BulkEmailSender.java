@@ -0,0 +1,229 @@
+package com.eventpro.patterns.factory.notifications;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Sends large batches of e-mail over a small pool of long-lived SMTP connections.
+ *
+ * Messages are split into chunks and each chunk is sent on one connection
+ * borrowed from the pool, so a 20k-recipient mailing costs a handful of SMTP
+ * handshakes instead of 20k. Concurrency is bounded by the pool size.
+ */
+@Component
+@Slf4j
+public class BulkEmailSender {
+    
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+    
+    private final JavaMailSender mailSender;
+    private final int chunkSize;
+    private final String from;
+    private final ExecutorService executor;
+    private final BlockingQueue<Transport> idleTransports;
+    
+    public BulkEmailSender(JavaMailSender mailSender,
+                           @Value("${eventpro.notifications.email.bulk.chunk-size:100}") int chunkSize,
+                           @Value("${eventpro.notifications.email.bulk.concurrency:4}") int concurrency,
+                           @Value("${eventpro.notifications.email.from:noreply@eventpro.com}") String from) {
+        this.mailSender = mailSender;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.from = from;
+        this.idleTransports = new ArrayBlockingQueue<>(Math.max(1, concurrency));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "bulk-email-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Send the same message to every recipient
+     */
+    public CompletableFuture<List<DeliveryResult>> send(List<String> recipients, String subject, String text) {
+        return sendAll(recipients.stream()
+                .map(recipient -> new OutgoingEmail(recipient, subject, text))
+                .toList());
+    }
+    
+    /**
+     * Send individually addressed messages, completing with one result per message in input order
+     */
+    public CompletableFuture<List<DeliveryResult>> sendAll(List<OutgoingEmail> emails) {
+        long start = System.currentTimeMillis();
+        DeliveryResult[] results = new DeliveryResult[emails.size()];
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < emails.size(); i++) {
+            OutgoingEmail email = emails.get(i);
+            if (!isValidRecipient(email.recipient())) {
+                results[i] = DeliveryResult.failed(email.recipient(), "Invalid email address");
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == chunkSize) {
+                chunks.add(submitChunk(emails, chunk, results));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(submitChunk(emails, chunk, results));
+        }
+        
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            List<DeliveryResult> ordered = List.of(results);
+            long delivered = ordered.stream().filter(DeliveryResult::delivered).count();
+            log.info("📧 Bulk e-mail finished: {}/{} delivered in {} ms",
+                    delivered, ordered.size(), System.currentTimeMillis() - start);
+            return ordered;
+        });
+    }
+    
+    public boolean isValidRecipient(String recipient) {
+        return recipient != null && EMAIL_PATTERN.matcher(recipient).matches();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            closeQuietly(transport);
+        }
+    }
+    
+    private CompletableFuture<Void> submitChunk(List<OutgoingEmail> emails, List<Integer> indexes,
+                                                DeliveryResult[] results) {
+        return CompletableFuture.runAsync(() -> {
+            if (mailSender instanceof JavaMailSenderImpl senderImpl) {
+                sendOnPooledTransport(senderImpl, emails, indexes, results);
+            } else {
+                sendThroughMailSender(emails, indexes, results);
+            }
+        }, executor);
+    }
+    
+    private void sendOnPooledTransport(JavaMailSenderImpl senderImpl, List<OutgoingEmail> emails,
+                                       List<Integer> indexes, DeliveryResult[] results) {
+        Transport transport = null;
+        try {
+            for (int index : indexes) {
+                OutgoingEmail email = emails.get(index);
+                try {
+                    MimeMessage message = toMimeMessage(senderImpl, email);
+                    if (transport == null || !transport.isConnected()) {
+                        closeQuietly(transport);
+                        transport = borrowTransport(senderImpl);
+                    }
+                    transport.sendMessage(message, message.getAllRecipients());
+                    results[index] = DeliveryResult.delivered(email.recipient());
+                } catch (SendFailedException e) {
+                    results[index] = DeliveryResult.failed(email.recipient(), e.getMessage());
+                } catch (MessagingException e) {
+                    // Connection-level failure: drop the transport, the next message reconnects
+                    results[index] = DeliveryResult.failed(email.recipient(), e.getMessage());
+                    closeQuietly(transport);
+                    transport = null;
+                }
+            }
+        } finally {
+            if (transport != null && (!transport.isConnected() || !idleTransports.offer(transport))) {
+                closeQuietly(transport);
+            }
+        }
+    }
+    
+    private void sendThroughMailSender(List<OutgoingEmail> emails, List<Integer> indexes, DeliveryResult[] results) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[indexes.size()];
+        for (int i = 0; i < indexes.size(); i++) {
+            messages[i] = toSimpleMessage(emails.get(indexes.get(i)));
+        }
+        try {
+            mailSender.send(messages);
+            indexes.forEach(index -> results[index] = DeliveryResult.delivered(emails.get(index).recipient()));
+        } catch (MailSendException e) {
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                Exception failure = e.getFailedMessages().get(messages[i]);
+                results[index] = failure == null
+                        ? DeliveryResult.delivered(emails.get(index).recipient())
+                        : DeliveryResult.failed(emails.get(index).recipient(), failure.getMessage());
+            }
+        } catch (MailException e) {
+            indexes.forEach(index -> results[index] = DeliveryResult.failed(emails.get(index).recipient(), e.getMessage()));
+        }
+    }
+    
+    private Transport borrowTransport(JavaMailSenderImpl senderImpl) throws MessagingException {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            if (transport.isConnected()) {
+                return transport;
+            }
+            closeQuietly(transport);
+        }
+        String protocol = senderImpl.getProtocol() != null ? senderImpl.getProtocol()
+                : senderImpl.getSession().getProperty("mail.transport.protocol");
+        transport = senderImpl.getSession().getTransport(protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+        transport.connect(senderImpl.getHost(), senderImpl.getPort(), senderImpl.getUsername(), senderImpl.getPassword());
+        log.debug("🔌 Opened SMTP connection to {}:{}", senderImpl.getHost(), senderImpl.getPort());
+        return transport;
+    }
+    
+    private MimeMessage toMimeMessage(JavaMailSenderImpl senderImpl, OutgoingEmail email) throws MessagingException {
+        MimeMessage message = senderImpl.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(email.recipient());
+        helper.setSubject(email.subject());
+        helper.setText(email.text());
+        message.saveChanges();
+        return message;
+    }
+    
+    private SimpleMailMessage toSimpleMessage(OutgoingEmail email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(email.recipient());
+        message.setSubject(email.subject());
+        message.setText(email.text());
+        return message;
+    }
+    
+    private void closeQuietly(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Ignoring error while closing SMTP connection: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * A single addressed e-mail
+     */
+    public record OutgoingEmail(String recipient, String subject, String text) {}
+}
@@ -0,0 +1,101 @@
+package com.eventpro.patterns.factory.notifications;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator that turns a saturated or slow channel into failed sends
+ * instead of letting callers wait on it.
+ *
+ * The wrapped notification runs on the channel's own executor; a full queue
+ * rejects the send immediately. A send still queued when the timeout expires
+ * never starts, and the timeout is reported as a TimeoutException rather than
+ * a plain failure, because a send that already started may still get through
+ * and must not be retried.
+ */
+@Slf4j
+public class BulkheadNotification implements INotification {
+    
+    private final INotification delegate;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    
+    public BulkheadNotification(INotification delegate, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+        CompletableFuture<Boolean> result;
+        try {
+            result = delegate.send(recipient, message, subject, data);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("⚠️ {} channel saturated, rejected send to: {}", delegate.getNotificationType(), recipient);
+            return CompletableFuture.completedFuture(false);
+        }
+        CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+        // Completing the delegate's future on timeout keeps a still queued send from starting
+        result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((sent, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause == null) {
+                outcome.complete(sent);
+            } else if (cause instanceof TimeoutException) {
+                timedOut.increment();
+                log.warn("⚠️ {} send to {} did not finish in {} ms, delivery unknown",
+                        delegate.getNotificationType(), recipient, timeoutMillis);
+                outcome.completeExceptionally(cause);
+            } else {
+                failed.increment();
+                log.warn("⚠️ {} send to {} failed: {}", delegate.getNotificationType(), recipient, cause.getMessage());
+                outcome.complete(false);
+            }
+        });
+        return outcome;
+    }
+    
+    @Override
+    public CompletableFuture<List<DeliveryResult>> sendBulk(List<String> recipients, String message,
+                                                            String subject, Map<String, Object> data) {
+        return delegate.sendBulk(recipients, message, subject, data);
+    }
+    
+    @Override
+    public String getNotificationType() {
+        return delegate.getNotificationType();
+    }
+    
+    @Override
+    public boolean isValidRecipient(String recipient) {
+        return delegate.isValidRecipient(recipient);
+    }
+    
+    @Override
+    public int getMaxMessageLength() {
+        return delegate.getMaxMessageLength();
+    }
+    
+    public long getRejected() {
+        return rejected.sum();
+    }
+    
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+    
+    public long getFailed() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,15 @@
+package com.eventpro.patterns.factory.notifications;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification that could not be delivered after its retries
+ */
+public record DeadLetter(String id,
+                         String channel,
+                         String recipient,
+                         String subject,
+                         String message,
+                         int attempts,
+                         String error,
+                         LocalDateTime failedAt) {}
@@ -0,0 +1,134 @@
+package com.eventpro.patterns.factory.notifications;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Append-only dead-letter file for notifications, one JSON object per line.
+ *
+ * Dead letters are never rewritten; replaying one appends a REPLAYED marker
+ * with its id, and pending dead letters are those without a marker.
+ */
+@Component
+@Slf4j
+public class DeadLetterStore {
+    
+    private static final String DEAD = "DEAD";
+    private static final String REPLAYED = "REPLAYED";
+    
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    
+    public DeadLetterStore(@Value("${eventpro.notifications.dead-letters.path:./data/notification-dead-letters.jsonl}") String path) {
+        this.file = Path.of(path);
+    }
+    
+    /**
+     * Append a dead letter and return it with its id
+     */
+    public DeadLetter append(String channel, String recipient, String subject, String message,
+                             int attempts, String error) {
+        DeadLetter deadLetter = new DeadLetter(UUID.randomUUID().toString(), channel, recipient, subject,
+                message, attempts, error, LocalDateTime.now());
+        ObjectNode line = objectMapper.valueToTree(deadLetter);
+        line.put("type", DEAD);
+        write(List.of(line));
+        log.warn("☠️ Dead-lettered {} notification to {} after {} attempts: {}", channel, recipient, attempts, error);
+        return deadLetter;
+    }
+    
+    /**
+     * Record that dead letters were handed back to their channel
+     */
+    public void markReplayed(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<ObjectNode> lines = new ArrayList<>(ids.size());
+        String replayedAt = LocalDateTime.now().toString();
+        for (String id : ids) {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("type", REPLAYED);
+            line.put("id", id);
+            line.put("replayedAt", replayedAt);
+            lines.add(line);
+        }
+        write(lines);
+    }
+    
+    /**
+     * Dead letters not replayed yet, oldest first, optionally for one channel
+     */
+    public synchronized List<DeadLetter> findPending(String channel, int limit) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        Map<String, DeadLetter> pending = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    readLine(line, pending);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read dead-letter file " + file, e);
+        }
+        return pending.values().stream()
+                .filter(deadLetter -> channel == null || channel.equalsIgnoreCase(deadLetter.channel()))
+                .limit(limit)
+                .toList();
+    }
+    
+    private void readLine(String line, Map<String, DeadLetter> pending) {
+        try {
+            ObjectNode node = (ObjectNode) objectMapper.readTree(line);
+            if (REPLAYED.equals(node.path("type").asText())) {
+                pending.remove(node.path("id").asText());
+            } else {
+                node.remove("type");
+                DeadLetter deadLetter = objectMapper.treeToValue(node, DeadLetter.class);
+                pending.put(deadLetter.id(), deadLetter);
+            }
+        } catch (JsonProcessingException | ClassCastException e) {
+            // A torn last line after a crash must not hide the rest of the file
+            log.error("❌ Skipping corrupt line in dead-letter file {}", file);
+        }
+    }
+    
+    private synchronized void write(List<ObjectNode> lines) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ObjectNode line : lines) {
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("❌ Could not write to dead-letter file {}: {}", file, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
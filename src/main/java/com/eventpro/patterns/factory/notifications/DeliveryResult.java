@@ -0,0 +1,37 @@
+package com.eventpro.patterns.factory.notifications;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outcome of a notification for a single recipient. An unknown outcome means
+ * the send timed out and may still have reached the recipient.
+ */
+public record DeliveryResult(String recipient, boolean delivered, String error, boolean unknown) {
+    
+    public static DeliveryResult delivered(String recipient) {
+        return new DeliveryResult(recipient, true, null, false);
+    }
+    
+    public static DeliveryResult failed(String recipient, String error) {
+        return new DeliveryResult(recipient, false, error, false);
+    }
+    
+    public static DeliveryResult unknown(String recipient, String error) {
+        return new DeliveryResult(recipient, false, error, true);
+    }
+    
+    /**
+     * Outcome of a single send future, telling a timeout apart from a failure
+     */
+    public static DeliveryResult of(String recipient, Boolean sent, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return unknown(recipient, "Timed out, delivery unknown");
+        }
+        if (cause != null) {
+            return failed(recipient, cause.getMessage());
+        }
+        return Boolean.TRUE.equals(sent) ? delivered(recipient) : failed(recipient, "Not delivered");
+    }
+}
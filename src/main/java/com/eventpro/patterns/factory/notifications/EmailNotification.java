@@ -4,8 +4,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 /**
@@ -15,11 +18,23 @@ import java.util.regex.Pattern;
 public class EmailNotification implements INotification {
     
     private final JavaMailSender mailSender;
+    private final BulkEmailSender bulkEmailSender;
+    private final Executor executor;
     private static final Pattern EMAIL_PATTERN = 
             Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
     
     public EmailNotification(JavaMailSender mailSender) {
+        this(mailSender, null);
+    }
+    
+    public EmailNotification(JavaMailSender mailSender, BulkEmailSender bulkEmailSender) {
+        this(mailSender, bulkEmailSender, ForkJoinPool.commonPool());
+    }
+    
+    public EmailNotification(JavaMailSender mailSender, BulkEmailSender bulkEmailSender, Executor executor) {
         this.mailSender = mailSender;
+        this.bulkEmailSender = bulkEmailSender;
+        this.executor = executor;
     }
     
     @Override
@@ -54,7 +69,17 @@ public class EmailNotification implements INotification {
                 log.error("❌ Failed to send email to {}: {}", recipient, e.getMessage());
                 return false;
             }
-        });
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<List<DeliveryResult>> sendBulk(List<String> recipients, String message,
+                                                            String subject, Map<String, Object> data) {
+        if (bulkEmailSender == null) {
+            return INotification.super.sendBulk(recipients, message, subject, data);
+        }
+        log.info("📧 Sending bulk email to {} recipients", recipients.size());
+        return bulkEmailSender.send(recipients, subject, message);
     }
     
     @Override
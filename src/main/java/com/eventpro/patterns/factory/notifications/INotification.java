@@ -1,5 +1,6 @@
 package com.eventpro.patterns.factory.notifications;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -13,6 +14,20 @@ public interface INotification {
      */
     CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data);
     
+    /**
+     * Send the same notification to many recipients, completing with one result
+     * per recipient in input order. Channels with a batch transport override this.
+     */
+    default CompletableFuture<List<DeliveryResult>> sendBulk(List<String> recipients, String message,
+                                                            String subject, Map<String, Object> data) {
+        List<CompletableFuture<DeliveryResult>> results = recipients.stream()
+                .map(recipient -> send(recipient, message, subject, data)
+                        .handle((sent, error) -> DeliveryResult.of(recipient, sent, error)))
+                .toList();
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(done -> results.stream().map(CompletableFuture::join).toList());
+    }
+    
     /**
      * Get the notification type
      */
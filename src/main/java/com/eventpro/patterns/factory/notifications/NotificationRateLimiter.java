@@ -0,0 +1,185 @@
+package com.eventpro.patterns.factory.notifications;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-channel rate limits for notification providers with per-second quotas.
+ *
+ * Sends on a limited channel wait in a bounded backlog and are released by a
+ * single dispatcher thread at the channel's token-bucket rate. A full backlog
+ * pushes back on the caller: it waits up to backlog-wait-ms for room, before
+ * any bulkhead permit is taken, and only then is the send rejected as not
+ * delivered. The wait is bounded so a saturated channel cannot hold a caller
+ * that also serves other channels indefinitely.
+ */
+@Component
+@Slf4j
+public class NotificationRateLimiter {
+    
+    private final Map<String, Channel> channels = new LinkedHashMap<>();
+    
+    public NotificationRateLimiter(@Value("${eventpro.notifications.rate-limit.sms.permits-per-second:10}") double smsRate,
+                                   @Value("${eventpro.notifications.rate-limit.sms.burst:1}") int smsBurst,
+                                   @Value("${eventpro.notifications.rate-limit.push.permits-per-second:100}") double pushRate,
+                                   @Value("${eventpro.notifications.rate-limit.push.burst:10}") int pushBurst,
+                                   @Value("${eventpro.notifications.rate-limit.backlog-capacity:10000}") int backlogCapacity,
+                                   @Value("${eventpro.notifications.rate-limit.backlog-wait-ms:500}") long backlogWaitMillis) {
+        channels.put("SMS", new Channel("SMS", new TokenBucket(smsRate, smsBurst), backlogCapacity, backlogWaitMillis));
+        channels.put("PUSH", new Channel("PUSH", new TokenBucket(pushRate, pushBurst), backlogCapacity, backlogWaitMillis));
+    }
+    
+    /**
+     * Wrap a notification so its sends respect the channel budget; channels without a limit are returned as is
+     */
+    public INotification limit(INotification notification) {
+        Channel channel = channels.get(notification.getNotificationType());
+        return channel != null ? new RateLimitedNotification(notification, channel) : notification;
+    }
+    
+    /**
+     * Configured budget, observed send rate and backlog per channel
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        channels.forEach((name, channel) -> statistics.put(name, channel.statistics()));
+        return statistics;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(Channel::shutdown);
+    }
+    
+    /**
+     * Bucket, backlog and dispatcher thread shared by every notification of one channel
+     */
+    static final class Channel implements Runnable {
+        
+        private final String name;
+        private final TokenBucket bucket;
+        private final BlockingQueue<PendingSend> backlog;
+        private final int backlogCapacity;
+        private final long backlogWaitMillis;
+        private final Thread dispatcher;
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        
+        // Sends released in the current and the previous one-second window
+        private long currentSecond;
+        private int currentCount;
+        private int previousCount;
+        
+        Channel(String name, TokenBucket bucket, int backlogCapacity, long backlogWaitMillis) {
+            this.name = name;
+            this.bucket = bucket;
+            this.backlogCapacity = Math.max(1, backlogCapacity);
+            this.backlogWaitMillis = Math.max(0, backlogWaitMillis);
+            this.backlog = new ArrayBlockingQueue<>(this.backlogCapacity);
+            this.dispatcher = new Thread(this, "notification-rate-" + name.toLowerCase());
+            this.dispatcher.setDaemon(true);
+            this.dispatcher.start();
+        }
+        
+        /**
+         * Queue a send, waiting a bounded time for room; a backlog still full
+         * after the wait completes it as not delivered
+         */
+        CompletableFuture<Boolean> submit(INotification delegate, String recipient, String message,
+                                          String subject, Map<String, Object> data) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            boolean queued;
+            try {
+                queued = backlog.offer(new PendingSend(delegate, recipient, message, subject, data, result),
+                        backlogWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (!queued) {
+                rejected.increment();
+                log.warn("⚠️ {} rate-limit backlog still full after {} ms, rejected send to: {}",
+                        name, backlogWaitMillis, recipient);
+                result.complete(false);
+            }
+            return result;
+        }
+        
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    PendingSend pending = backlog.take();
+                    bucket.acquire();
+                    recordSend();
+                    pending.delegate().send(pending.recipient(), pending.message(), pending.subject(), pending.data())
+                            .whenComplete((delivered, error) -> {
+                                if (error != null) {
+                                    pending.result().completeExceptionally(error);
+                                } else {
+                                    pending.result().complete(delivered);
+                                }
+                            });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    log.error("❌ {} rate limiter failed to dispatch a send: {}", name, e.getMessage());
+                }
+            }
+        }
+        
+        Map<String, Object> statistics() {
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            statistics.put("permitsPerSecond", bucket.getPermitsPerSecond());
+            statistics.put("currentRate", currentRate());
+            statistics.put("backlog", backlog.size());
+            statistics.put("backlogCapacity", backlogCapacity);
+            statistics.put("sent", sent.sum());
+            statistics.put("rejected", rejected.sum());
+            return statistics;
+        }
+        
+        void shutdown() {
+            dispatcher.interrupt();
+            PendingSend pending;
+            while ((pending = backlog.poll()) != null) {
+                pending.result().complete(false);
+            }
+        }
+        
+        private synchronized void recordSend() {
+            sent.increment();
+            long second = System.nanoTime() / 1_000_000_000L;
+            if (second != currentSecond) {
+                previousCount = second == currentSecond + 1 ? currentCount : 0;
+                currentSecond = second;
+                currentCount = 0;
+            }
+            currentCount++;
+        }
+        
+        /**
+         * Sends released during the last complete second
+         */
+        private synchronized int currentRate() {
+            long second = System.nanoTime() / 1_000_000_000L;
+            if (second == currentSecond) {
+                return previousCount;
+            }
+            return second == currentSecond + 1 ? currentCount : 0;
+        }
+    }
+    
+    private record PendingSend(INotification delegate, String recipient, String message, String subject,
+                               Map<String, Object> data, CompletableFuture<Boolean> result) {}
+}
@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Push notification implementation
@@ -11,6 +13,16 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class PushNotification implements INotification {
     
+    private final Executor executor;
+    
+    public PushNotification() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public PushNotification(Executor executor) {
+        this.executor = executor;
+    }
+    
     @Override
     public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
         return CompletableFuture.supplyAsync(() -> {
@@ -37,7 +49,7 @@ public class PushNotification implements INotification {
                 log.error("❌ Failed to send push notification to {}: {}", recipient, e.getMessage());
                 return false;
             }
-        });
+        }, executor);
     }
     
     @Override
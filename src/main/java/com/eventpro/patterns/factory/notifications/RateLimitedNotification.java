@@ -0,0 +1,41 @@
+package com.eventpro.patterns.factory.notifications;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorator that routes sends through the rate limiter of its channel
+ */
+public class RateLimitedNotification implements INotification {
+    
+    private final INotification delegate;
+    private final NotificationRateLimiter.Channel channel;
+    
+    RateLimitedNotification(INotification delegate, NotificationRateLimiter.Channel channel) {
+        this.delegate = delegate;
+        this.channel = channel;
+    }
+    
+    /**
+     * Queue the send; waits a bounded time while the channel backlog is full
+     */
+    @Override
+    public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+        return channel.submit(delegate, recipient, message, subject, data);
+    }
+    
+    @Override
+    public String getNotificationType() {
+        return delegate.getNotificationType();
+    }
+    
+    @Override
+    public boolean isValidRecipient(String recipient) {
+        return delegate.isValidRecipient(recipient);
+    }
+    
+    @Override
+    public int getMaxMessageLength() {
+        return delegate.getMaxMessageLength();
+    }
+}
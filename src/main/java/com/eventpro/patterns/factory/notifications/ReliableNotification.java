@@ -0,0 +1,206 @@
+package com.eventpro.patterns.factory.notifications;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator that retries failed sends with backoff and dead-letters the ones
+ * it gives up on.
+ *
+ * Retries are scheduled, never slept on, and are only granted while the
+ * channel's retry budget has tokens; when it runs dry failures go straight
+ * to the dead-letter store instead of piling more load on the provider. The
+ * scheduler only keeps time: each retry is handed to the channel's executor,
+ * so a slow channel cannot hold up the retries of another.
+ *
+ * A send that timed out may still reach the recipient, so it is never
+ * retried; it is dead-lettered as unknown for an operator to replay.
+ */
+@Slf4j
+public class ReliableNotification implements INotification {
+    
+    private final INotification delegate;
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService scheduler;
+    private final Executor retryExecutor;
+    private final DeadLetterStore deadLetterStore;
+    
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    
+    public ReliableNotification(INotification delegate, RetryPolicy policy,
+                                ScheduledExecutorService scheduler, DeadLetterStore deadLetterStore) {
+        this(delegate, policy, scheduler, ForkJoinPool.commonPool(), deadLetterStore);
+    }
+    
+    public ReliableNotification(INotification delegate, RetryPolicy policy, ScheduledExecutorService scheduler,
+                                Executor retryExecutor, DeadLetterStore deadLetterStore) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.budget = new RetryBudget(policy.budgetRatio(), policy.budgetCapacity());
+        this.scheduler = scheduler;
+        this.retryExecutor = retryExecutor;
+        this.deadLetterStore = deadLetterStore;
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+        budget.deposit(1);
+        return sendBulk(List.of(recipient), message, subject, data, false)
+                .thenApply(results -> results.get(0).delivered());
+    }
+    
+    @Override
+    public CompletableFuture<List<DeliveryResult>> sendBulk(List<String> recipients, String message,
+                                                            String subject, Map<String, Object> data) {
+        budget.deposit(recipients.size());
+        return sendBulk(recipients, message, subject, data, true);
+    }
+    
+    private CompletableFuture<List<DeliveryResult>> sendBulk(List<String> recipients, String message,
+                                                             String subject, Map<String, Object> data,
+                                                             boolean bulk) {
+        CompletableFuture<List<DeliveryResult>> result = new CompletableFuture<>();
+        DeliveryResult[] outcomes = new DeliveryResult[recipients.size()];
+        List<Integer> pending = new ArrayList<>(recipients.size());
+        for (int i = 0; i < recipients.size(); i++) {
+            pending.add(i);
+        }
+        attempt(1, pending, recipients, outcomes, message, subject, data, bulk, result);
+        return result;
+    }
+    
+    private void attempt(int attempt, List<Integer> pending, List<String> recipients, DeliveryResult[] outcomes,
+                         String message, String subject, Map<String, Object> data, boolean bulk,
+                         CompletableFuture<List<DeliveryResult>> result) {
+        List<String> batch = pending.stream().map(recipients::get).toList();
+        deliver(batch, message, subject, data, bulk).whenComplete((results, error) -> {
+            List<Integer> failed = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                DeliveryResult outcome = error == null && results != null && i < results.size()
+                        ? results.get(i)
+                        : DeliveryResult.of(batch.get(i), null, error);
+                outcomes[pending.get(i)] = outcome;
+                if (outcome.unknown()) {
+                    // A timed-out send may have been delivered; retrying it could send it twice
+                    unknown.increment();
+                    deadLetter(outcome, message, subject, attempt);
+                } else if (!outcome.delivered() && delegate.isValidRecipient(outcome.recipient())) {
+                    // A malformed recipient fails the same way on every attempt, so it is not retried
+                    failed.add(pending.get(i));
+                }
+            }
+            
+            int granted = failed.isEmpty() || attempt >= policy.maxAttempts() ? 0 : budget.withdraw(failed.size());
+            if (granted < failed.size() && attempt < policy.maxAttempts()) {
+                budgetExhausted.add(failed.size() - granted);
+            }
+            List<Integer> retry = failed.subList(0, granted);
+            for (Integer index : failed.subList(granted, failed.size())) {
+                deadLetter(outcomes[index], message, subject, attempt);
+            }
+            
+            if (retry.isEmpty()) {
+                result.complete(List.of(outcomes));
+                return;
+            }
+            retried.add(retry.size());
+            long delay = policy.backoffMillis(attempt);
+            log.debug("🔁 Retrying {} {} sends in {} ms (attempt {}/{})",
+                    retry.size(), getNotificationType(), delay, attempt + 1, policy.maxAttempts());
+            List<Integer> next = List.copyOf(retry);
+            scheduler.schedule(() -> retry(attempt + 1, next, recipients, outcomes, message, subject, data, bulk, result),
+                    delay, TimeUnit.MILLISECONDS);
+        });
+    }
+    
+    private void retry(int attempt, List<Integer> pending, List<String> recipients, DeliveryResult[] outcomes,
+                       String message, String subject, Map<String, Object> data, boolean bulk,
+                       CompletableFuture<List<DeliveryResult>> result) {
+        try {
+            retryExecutor.execute(() -> attempt(attempt, pending, recipients, outcomes, message, subject, data, bulk, result));
+        } catch (RejectedExecutionException e) {
+            for (Integer index : pending) {
+                deadLetter(DeliveryResult.failed(recipients.get(index), "Channel saturated"), message, subject, attempt - 1);
+            }
+            result.complete(List.of(outcomes));
+        }
+    }
+    
+    private CompletableFuture<List<DeliveryResult>> deliver(List<String> recipients, String message, String subject,
+                                                            Map<String, Object> data, boolean bulk) {
+        try {
+            if (bulk) {
+                return delegate.sendBulk(recipients, message, subject, data);
+            }
+            String recipient = recipients.get(0);
+            return delegate.send(recipient, message, subject, data)
+                    .handle((sent, error) -> List.of(DeliveryResult.of(recipient, sent, error)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    private void deadLetter(DeliveryResult outcome, String message, String subject, int attempts) {
+        deadLettered.increment();
+        if (deadLetterStore == null) {
+            log.error("❌ {} notification to {} lost after {} attempts: {}",
+                    getNotificationType(), outcome.recipient(), attempts, outcome.error());
+            return;
+        }
+        try {
+            deadLetterStore.append(getNotificationType(), outcome.recipient(), subject, message, attempts, outcome.error());
+        } catch (RuntimeException e) {
+            log.error("❌ Could not dead-letter {} notification to {}: {}",
+                    getNotificationType(), outcome.recipient(), e.getMessage());
+        }
+    }
+    
+    @Override
+    public String getNotificationType() {
+        return delegate.getNotificationType();
+    }
+    
+    @Override
+    public boolean isValidRecipient(String recipient) {
+        return delegate.isValidRecipient(recipient);
+    }
+    
+    @Override
+    public int getMaxMessageLength() {
+        return delegate.getMaxMessageLength();
+    }
+    
+    public long getRetried() {
+        return retried.sum();
+    }
+    
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+    
+    public long getDeadLettered() {
+        return deadLettered.sum();
+    }
+    
+    public long getUnknown() {
+        return unknown.sum();
+    }
+    
+    public double getRetryBudgetAvailable() {
+        return budget.getAvailable();
+    }
+}
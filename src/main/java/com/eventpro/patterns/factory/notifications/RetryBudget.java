@@ -0,0 +1,38 @@
+package com.eventpro.patterns.factory.notifications;
+
+/**
+ * Token budget that caps retries to a fraction of first attempts.
+ *
+ * Every first attempt deposits {@code ratio} tokens and every retry withdraws
+ * one, so during an outage a channel retries at most ratio times its normal
+ * traffic once the initial reserve is spent.
+ */
+public class RetryBudget {
+    
+    private final double ratio;
+    private final double capacity;
+    private double tokens;
+    
+    public RetryBudget(double ratio, int capacity) {
+        this.ratio = Math.max(0.0, ratio);
+        this.capacity = Math.max(0, capacity);
+        this.tokens = this.capacity;
+    }
+    
+    public synchronized void deposit(int attempts) {
+        tokens = Math.min(capacity, tokens + ratio * attempts);
+    }
+    
+    /**
+     * Take one token per retry; returns how many retries were granted
+     */
+    public synchronized int withdraw(int retries) {
+        int granted = (int) Math.min(retries, Math.floor(tokens));
+        tokens -= granted;
+        return granted;
+    }
+    
+    public synchronized double getAvailable() {
+        return tokens;
+    }
+}
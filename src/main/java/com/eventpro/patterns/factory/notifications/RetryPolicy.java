@@ -0,0 +1,19 @@
+package com.eventpro.patterns.factory.notifications;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter: the delay before retry n is drawn
+ * uniformly from [0, min(maxDelay, baseDelay * 2^(n-1))]
+ */
+public record RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis,
+                          double budgetRatio, int budgetCapacity) {
+    
+    public long backoffMillis(int retry) {
+        long ceiling = baseDelayMillis << Math.min(Math.max(retry - 1, 0), 30);
+        if (ceiling <= 0 || ceiling > maxDelayMillis) {
+            ceiling = maxDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
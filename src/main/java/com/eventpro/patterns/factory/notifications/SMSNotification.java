@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +17,16 @@ public class SMSNotification implements INotification {
     private static final Pattern PHONE_PATTERN = 
             Pattern.compile("^\\+?[1-9]\\d{1,14}$");
     
+    private final Executor executor;
+    
+    public SMSNotification() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public SMSNotification(Executor executor) {
+        this.executor = executor;
+    }
+    
     @Override
     public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
         return CompletableFuture.supplyAsync(() -> {
@@ -46,7 +58,7 @@ public class SMSNotification implements INotification {
                 log.error("❌ Failed to send SMS to {}: {}", recipient, e.getMessage());
                 return false;
             }
-        });
+        }, executor);
     }
     
     @Override
@@ -0,0 +1,55 @@
+package com.eventpro.patterns.factory.notifications;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket refilled continuously at a fixed rate.
+ *
+ * A small capacity keeps the output close to the configured rate; a larger one
+ * lets short bursts through up front.
+ */
+final class TokenBucket {
+    
+    private final double permitsPerSecond;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+    
+    TokenBucket(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, capacity);
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+    
+    /**
+     * Take one token, sleeping until one is available
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+    
+    double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+    
+    /**
+     * Take a token if one is available, otherwise return how long to wait for the next one
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / 1_000_000_000d);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * 1_000_000_000d / permitsPerSecond);
+    }
+}
@@ -1,5 +1,8 @@
 package com.eventpro.patterns.observer;
 
+import com.eventpro.model.CertificateJob;
+import com.eventpro.service.CertificateJobService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -7,9 +10,12 @@ import org.springframework.stereotype.Component;
  * Certificate generation observer
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 class CertificateGeneratorObserver implements IEventObserver {
     
+    private final CertificateJobService certificateJobService;
+    
     @Override
     public void update(EventData eventData) {
         log.info("🏆 [CertificateObserver] Processing event: {} - {}", 
@@ -30,14 +36,12 @@ class CertificateGeneratorObserver implements IEventObserver {
         return eventType == EventData.EventType.COMPLETED;
     }
     
+    /**
+     * Failures propagate, so the outbox message is released and redelivered
+     */
     private void generateCertificates(EventData eventData) {
         log.info("📜 Generating certificates for completed event: {}", eventData.getEventTitle());
-        try {
-            Thread.sleep(2000);
-            log.info("✅ Certificates generated successfully for event: {}", eventData.getEventTitle());
-        } catch (InterruptedException e) {
-            log.error("❌ Error generating certificates: {}", e.getMessage());
-            Thread.currentThread().interrupt();
-        }
+        CertificateJob job = certificateJobService.startJob(eventData.getEventId(), false);
+        log.info("✅ Certificate job {} started for event: {}", job.getId(), eventData.getEventTitle());
     }
 }
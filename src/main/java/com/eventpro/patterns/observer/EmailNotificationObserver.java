@@ -1,15 +1,37 @@
 package com.eventpro.patterns.observer;
 
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.repository.RegistrationRepository;
+import com.eventpro.repository.RegistrationRepository.RegistrantContact;
+import com.eventpro.service.NotificationFanOutService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Email notification observer
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 class EmailNotificationObserver implements IEventObserver {
     
+    private static final int RECIPIENT_CHUNK_SIZE = 1000;
+    
+    private final NotificationCoalescer coalescer;
+    private final NotificationFanOutService fanOutService;
+    private final RegistrationRepository registrationRepository;
+    
+    @PostConstruct
+    void registerCoalescedSenders() {
+        coalescer.registerSender(EventData.EventType.UPDATED, this::sendEventUpdatedEmail);
+    }
+    
     @Override
     public void update(EventData eventData) {
         log.info("📧 [EmailObserver] Processing event: {} - {}", 
@@ -17,11 +39,15 @@ class EmailNotificationObserver implements IEventObserver {
         
         switch (eventData.getEventType()) {
             case CREATED -> sendEventCreatedEmail(eventData);
-            case UPDATED -> sendEventUpdatedEmail(eventData);
-            case CANCELLED -> sendEventCancelledEmail(eventData);
+            case UPDATED -> queueEventUpdatedEmails(eventData);
+            case CANCELLED -> {
+                coalescer.discard(eventData.getEventId());
+                sendEventCancelledEmail(eventData);
+            }
             case COMPLETED -> sendEventCompletedEmail(eventData);
             case REGISTRATION_OPENED -> sendRegistrationOpenedEmail(eventData);
             case REGISTRATION_CLOSED -> sendRegistrationClosedEmail(eventData);
+            case WAITLIST_PROMOTED -> sendWaitlistPromotedEmail(eventData);
         }
     }
     
@@ -39,12 +65,40 @@ class EmailNotificationObserver implements IEventObserver {
         log.info("✉️ Sending event creation confirmation email for: {}", eventData.getEventTitle());
     }
     
-    private void sendEventUpdatedEmail(EventData eventData) {
-        log.info("✉️ Sending event update notification email for: {}", eventData.getEventTitle());
+    /**
+     * Coalesce the update per registrant who wants e-mail, so each of them gets
+     * one message with the latest state however many edits are made
+     */
+    private void queueEventUpdatedEmails(EventData eventData) {
+        long lastId = 0L;
+        List<RegistrantContact> chunk;
+        do {
+            chunk = registrationRepository.findRegistrantContacts(eventData.getEventId(),
+                    RegistrationStatus.CANCELLED, lastId, PageRequest.ofSize(RECIPIENT_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getRegistrationId();
+            List<String> recipients = new ArrayList<>(chunk.size());
+            for (RegistrantContact contact : chunk) {
+                if (Boolean.TRUE.equals(contact.getEmailNotifications()) && contact.getEmail() != null) {
+                    recipients.add(contact.getEmail());
+                }
+            }
+            coalescer.submitAll(eventData.getEventId(), recipients, EventData.EventType.UPDATED, eventData);
+        } while (chunk.size() == RECIPIENT_CHUNK_SIZE);
+    }
+    
+    private void sendEventUpdatedEmail(String recipient, EventData eventData) {
+        log.info("✉️ Sending event update notification email to {} for: {}", recipient, eventData.getEventTitle());
     }
     
     private void sendEventCancelledEmail(EventData eventData) {
         log.info("✉️ Sending event cancellation email for: {}", eventData.getEventTitle());
+        // Keyed per event so a redelivered cancellation does not notify anyone twice
+        fanOutService.notifyRegistrantsOnce(eventData.getEventId(), eventData.getEventId() + ":CANCELLED",
+                "Event cancelled: " + eventData.getEventTitle(),
+                "We are sorry to let you know that \"" + eventData.getEventTitle() + "\" has been cancelled.");
     }
     
     private void sendEventCompletedEmail(EventData eventData) {
@@ -58,4 +112,9 @@ class EmailNotificationObserver implements IEventObserver {
     private void sendRegistrationClosedEmail(EventData eventData) {
         log.info("✉️ Sending registration closed email for: {}", eventData.getEventTitle());
     }
+    
+    private void sendWaitlistPromotedEmail(EventData eventData) {
+        log.info("✉️ Sending waitlist promotion emails to {} users for: {}", 
+                ((List<?>) eventData.getData()).size(), eventData.getEventTitle());
+    }
 }
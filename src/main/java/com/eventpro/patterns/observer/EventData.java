@@ -18,14 +18,18 @@ public class EventData {
     private final Object data;
     
     public EventData(Long eventId, String eventTitle, EventType eventType, Object data) {
+        this(eventId, eventTitle, eventType, data, LocalDateTime.now());
+    }
+    
+    public EventData(Long eventId, String eventTitle, EventType eventType, Object data, LocalDateTime timestamp) {
         this.eventId = eventId;
         this.eventTitle = eventTitle;
         this.eventType = eventType;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp;
         this.data = data;
     }
     
     public enum EventType {
-        CREATED, UPDATED, CANCELLED, COMPLETED, REGISTRATION_OPENED, REGISTRATION_CLOSED
+        CREATED, UPDATED, CANCELLED, COMPLETED, REGISTRATION_OPENED, REGISTRATION_CLOSED, WAITLIST_PROMOTED
     }
 }
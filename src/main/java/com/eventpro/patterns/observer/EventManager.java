@@ -1,53 +1,276 @@
 package com.eventpro.patterns.observer;
 
 import com.eventpro.model.Event;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Event manager that implements the Subject in Observer pattern
+ * Event manager that implements the Subject in Observer pattern.
+ *
+ * In ASYNC mode every observer gets its own set of bounded lanes, each served
+ * by a single thread; notifications are routed by event id so that one event's
+ * notifications keep their order. A full lane never holds the publisher for
+ * longer than the offer timeout, and SPILL overflow is bounded; notifications
+ * that do not fit are dropped. Inside a transaction, notifications are
+ * written to the EventOutbox together with the change and dispatched from
+ * there once committed, so a rollback sends nothing and a crash loses nothing.
+ * An outbox message is acknowledged only when every interested observer
+ * handled it; if one threw or its notification was dropped, the message stays
+ * claimed and is redelivered to the observers that missed it.
  */
 @Component
 @Slf4j
 public class EventManager {
     
     private final List<IEventObserver> observers = new CopyOnWriteArrayList<>();
+    private final Map<IEventObserver, ObserverLane[]> lanes = new ConcurrentHashMap<>();
+    private final Map<IEventObserver, ObserverMetrics> metrics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    
+    private final DispatchMode dispatchMode;
+    private final OverflowPolicy overflowPolicy;
+    private final int lanesPerObserver;
+    private final int queueCapacity;
+    private final int spillCapacity;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    
+    private final EventOutbox eventOutbox;
+    private final ConcurrentLinkedQueue<EventOutbox.Claimed> completedOutboxMessages = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Released> releasedOutboxMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean outboxDraining = new AtomicBoolean(false);
+    private final AtomicBoolean outboxDrainRequested = new AtomicBoolean(false);
+    private final ExecutorService outboxExecutor;
+    
+    public EventManager(List<IEventObserver> observers,
+                        EventOutbox eventOutbox,
+                        MeterRegistry meterRegistry,
+                        @Value("${eventpro.outbox.enabled:true}") boolean outboxEnabled,
+                        @Value("${eventpro.observers.dispatch-mode:ASYNC}") DispatchMode dispatchMode,
+                        @Value("${eventpro.observers.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                        @Value("${eventpro.observers.lanes-per-observer:4}") int lanesPerObserver,
+                        @Value("${eventpro.observers.queue-capacity:1000}") int queueCapacity,
+                        @Value("${eventpro.observers.spill-capacity:10000}") int spillCapacity,
+                        @Value("${eventpro.observers.offer-timeout-ms:500}") long offerTimeoutMillis,
+                        @Value("${eventpro.observers.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.dispatchMode = dispatchMode;
+        this.overflowPolicy = overflowPolicy;
+        this.lanesPerObserver = Math.max(1, lanesPerObserver);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.spillCapacity = Math.max(0, spillCapacity);
+        this.offerTimeoutMillis = Math.max(0, offerTimeoutMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.eventOutbox = outboxEnabled ? eventOutbox : null;
+        this.outboxExecutor = this.eventOutbox != null ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        observers.forEach(this::addObserver);
+    }
     
     public void addObserver(IEventObserver observer) {
+        ObserverMetrics observerMetrics = new ObserverMetrics(observer, meterRegistry);
+        metrics.put(observer, observerMetrics);
         observers.add(observer);
+        if (dispatchMode == DispatchMode.ASYNC) {
+            ObserverLane[] observerLanes = new ObserverLane[lanesPerObserver];
+            for (int i = 0; i < lanesPerObserver; i++) {
+                observerLanes[i] = new ObserverLane(observer, observerMetrics, i, queueCapacity, spillCapacity,
+                        offerTimeoutMillis, overflowPolicy);
+            }
+            lanes.put(observer, observerLanes);
+            observerMetrics.bindQueueDepth(observerLanes, EventManager::depthOf);
+        }
         log.info("➕ Observer added: {}", observer.getObserverName());
     }
     
     public void removeObserver(IEventObserver observer) {
         observers.remove(observer);
+        ObserverLane[] observerLanes = lanes.remove(observer);
+        if (observerLanes != null) {
+            for (ObserverLane lane : observerLanes) {
+                lane.shutdown(shutdownTimeoutMillis);
+            }
+        }
+        // Closed after the lanes drained, so a last update cannot register its meters again
+        ObserverMetrics observerMetrics = metrics.remove(observer);
+        if (observerMetrics != null) {
+            observerMetrics.close();
+        }
         log.info("➖ Observer removed: {}", observer.getObserverName());
     }
     
     public void notifyObservers(EventData eventData) {
+        if (eventOutbox != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            eventOutbox.append(eventData);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestOutboxDrain();
+                }
+            });
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Observers must never see changes that end up rolled back
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(eventData, Set.of(), DispatchOutcome.IGNORED);
+                }
+            });
+        } else {
+            dispatch(eventData, Set.of(), DispatchOutcome.IGNORED);
+        }
+    }
+    
+    /**
+     * Claim committed outbox messages and hand them to the observer lanes
+     */
+    @Scheduled(fixedDelayString = "${eventpro.outbox.poll-interval-ms:200}")
+    public void drainOutbox() {
+        if (eventOutbox == null) {
+            return;
+        }
+        outboxDrainRequested.set(true);
+        if (!outboxDraining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (outboxDrainRequested.getAndSet(false)) {
+                List<EventOutbox.Claimed> batch;
+                do {
+                    flushCompletedOutboxMessages();
+                    batch = eventOutbox.claimBatch();
+                    for (EventOutbox.Claimed claimed : batch) {
+                        dispatch(claimed.eventData(), claimed.handledBy(), (handledBy, delivered) -> {
+                            if (delivered) {
+                                completedOutboxMessages.add(claimed);
+                            } else {
+                                releasedOutboxMessages.add(new Released(claimed, handledBy));
+                            }
+                        });
+                    }
+                } while (!batch.isEmpty());
+            }
+            flushCompletedOutboxMessages();
+        } catch (RuntimeException e) {
+            log.error("❌ Error draining event outbox: {}", e.getMessage());
+        } finally {
+            outboxDraining.set(false);
+        }
+    }
+    
+    private void requestOutboxDrain() {
+        try {
+            outboxExecutor.execute(this::drainOutbox);
+        } catch (RuntimeException e) {
+            log.debug("Outbox drain left to the scheduled poll: {}", e.getMessage());
+        }
+    }
+    
+    private void flushCompletedOutboxMessages() {
+        List<EventOutbox.Claimed> completed = new ArrayList<>();
+        EventOutbox.Claimed claimed;
+        while ((claimed = completedOutboxMessages.poll()) != null) {
+            completed.add(claimed);
+        }
+        eventOutbox.markDelivered(completed);
+        Released released;
+        while ((released = releasedOutboxMessages.poll()) != null) {
+            eventOutbox.release(released.claimed(), released.handledBy());
+        }
+    }
+    
+    private void dispatch(EventData eventData, Set<String> alreadyHandled, DispatchOutcome outcome) {
+        List<IEventObserver> interested = observers.stream()
+                .filter(observer -> observer.isInterestedIn(eventData.getEventType()))
+                .filter(observer -> !alreadyHandled.contains(observer.getObserverName()))
+                .toList();
         log.info("🔔 Notifying {} observers about event: {}", 
-                observers.size(), eventData.getEventType());
+                interested.size(), eventData.getEventType());
         
-        observers.parallelStream()
-                .filter(observer -> observer.isInterestedIn(eventData.getEventType()))
-                .forEach(observer -> {
-                    try {
-                        observer.update(eventData);
-                    } catch (Exception e) {
-                        log.error("❌ Error in observer {}: {}", 
-                                observer.getObserverName(), e.getMessage());
-                    }
-                });
+        DispatchTracker tracker = new DispatchTracker(interested.size(), alreadyHandled, outcome);
+        for (int i = 0; i < interested.size(); i++) {
+            IEventObserver observer = interested.get(i);
+            ObserverLane.Completion completion = tracker.completionFor(observer);
+            ObserverLane[] observerLanes = lanes.get(observer);
+            if (observerLanes == null) {
+                if (deliver(observer, eventData)) {
+                    completion.delivered();
+                } else {
+                    completion.abandoned();
+                }
+                continue;
+            }
+            try {
+                laneFor(observerLanes, eventData.getEventId()).offer(eventData, completion);
+            } catch (InterruptedException e) {
+                // This observer and the ones after it miss the notification; the outbox redelivers it to them
+                Thread.currentThread().interrupt();
+                log.error("❌ Interrupted while queueing {} for observer {}",
+                        eventData.getEventType(), observer.getObserverName());
+                tracker.abandon(interested.size() - i);
+                return;
+            }
+        }
+    }
+    
+    private boolean deliver(IEventObserver observer, EventData eventData) {
+        try {
+            metrics.get(observer).update(eventData);
+            return true;
+        } catch (Exception e) {
+            log.error("❌ Error in observer {}: {}", 
+                    observer.getObserverName(), e.getMessage());
+            return false;
+        }
+    }
+    
+    private static double depthOf(ObserverLane[] observerLanes) {
+        int depth = 0;
+        for (ObserverLane lane : observerLanes) {
+            depth += lane.getDepth();
+        }
+        return depth;
+    }
+    
+    private ObserverLane laneFor(ObserverLane[] observerLanes, Long eventId) {
+        int hash = eventId != null ? Long.hashCode(eventId) : 0;
+        return observerLanes[Math.floorMod(hash, observerLanes.length)];
     }
     
+    /**
+     * Announce a saved event; its id keys the lane, the outbox row and every later notification
+     */
     public Long createEvent(Event event) {
-        Long eventId = System.currentTimeMillis();
+        Long eventId = event.getId();
+        if (eventId == null) {
+            throw new IllegalArgumentException("Event must be saved before it is announced: " + event.getTitle());
+        }
         log.info("📅 Creating event: {}", event.getTitle());
         
         EventData eventData = new EventData(eventId, event.getTitle(), 
-                EventData.EventType.CREATED, event);
+                EventData.EventType.CREATED, EventSnapshot.of(event));
         notifyObservers(eventData);
         
         return eventId;
@@ -57,7 +280,7 @@ public class EventManager {
         log.info("📝 Updating event ID: {}", eventId);
         
         EventData eventData = new EventData(eventId, updatedEvent.getTitle(), 
-                EventData.EventType.UPDATED, updatedEvent);
+                EventData.EventType.UPDATED, EventSnapshot.of(updatedEvent));
         notifyObservers(eventData);
         
         return true;
@@ -83,6 +306,16 @@ public class EventManager {
         return true;
     }
     
+    public boolean promoteFromWaitlist(Long eventId, String eventTitle, List<Long> userIds) {
+        log.info("⬆️ Promoting {} users from waitlist of event ID: {}", userIds.size(), eventId);
+        
+        EventData eventData = new EventData(eventId, eventTitle, 
+                EventData.EventType.WAITLIST_PROMOTED, List.copyOf(userIds));
+        notifyObservers(eventData);
+        
+        return true;
+    }
+    
     public int getObserverCount() {
         return observers.size();
     }
@@ -93,12 +326,98 @@ public class EventManager {
                 .toList();
     }
     
+    /**
+     * Per-observer dispatch counters and current queue depth
+     */
+    public Map<String, Map<String, Long>> getDispatchStatistics() {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        lanes.forEach((observer, observerLanes) -> {
+            long depth = 0, processed = 0, failed = 0, dropped = 0, spilled = 0;
+            for (ObserverLane lane : observerLanes) {
+                depth += lane.getDepth();
+                processed += lane.getProcessed();
+                failed += lane.getFailed();
+                dropped += lane.getDropped();
+                spilled += lane.getSpilled();
+            }
+            statistics.put(observer.getObserverName(), Map.of(
+                    "queueDepth", depth,
+                    "processed", processed,
+                    "failed", failed,
+                    "dropped", dropped,
+                    "spilled", spilled));
+        });
+        return statistics;
+    }
+    
+    /**
+     * Per-observer latency by event type, errors and in-flight updates,
+     * read from the same meters that are published to Micrometer
+     */
+    public Map<String, Map<String, Object>> getObserverMetrics() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        for (IEventObserver observer : observers) {
+            ObserverMetrics observerMetrics = metrics.get(observer);
+            if (observerMetrics == null) {
+                continue;
+            }
+            Map<String, Object> values = new LinkedHashMap<>(observerMetrics.snapshot());
+            ObserverLane[] observerLanes = lanes.get(observer);
+            values.put("queueDepth", observerLanes != null ? (long) depthOf(observerLanes) : 0L);
+            snapshot.put(observer.getObserverName(), values);
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Wait until every queued notification has been delivered
+     */
+    public boolean awaitQuiescence(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (ObserverLane[] observerLanes : lanes.values()) {
+            for (ObserverLane lane : observerLanes) {
+                if (!lane.awaitIdle(Math.max(0, deadline - System.currentTimeMillis()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Outbox backlog and lag, empty when the outbox is disabled
+     */
+    public Map<String, Object> getOutboxStatistics() {
+        return eventOutbox != null ? eventOutbox.getStatistics() : Map.of();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        log.info("🛑 Draining observer lanes");
+        if (outboxExecutor != null) {
+            outboxExecutor.shutdownNow();
+        }
+        lanes.values().forEach(observerLanes -> {
+            for (ObserverLane lane : observerLanes) {
+                lane.shutdown(shutdownTimeoutMillis);
+            }
+        });
+        if (eventOutbox != null) {
+            try {
+                flushCompletedOutboxMessages();
+            } catch (RuntimeException e) {
+                log.warn("⚠️ Could not acknowledge delivered outbox messages on shutdown: {}", e.getMessage());
+            }
+        }
+    }
+    
     public void demonstrateObserver() {
         log.info("🎯 Demonstrating Observer Pattern - Event Management");
         log.info("📋 Registered observers: {}", getObserverCount());
         
         // Create a sample event - using constructor instead of builder
         Event sampleEvent = new Event();
+        sampleEvent.setId(0L);
         sampleEvent.setTitle("Conferencia de IA 2024");
         sampleEvent.setDescription("Evento de demostración");
         
@@ -112,4 +431,71 @@ public class EventManager {
         
         log.info("\n🎉 Observer pattern demonstration completed");
     }
+    
+    /**
+     * Follows one notification across its observers and reports once each of
+     * them has either handled it or abandoned it
+     */
+    private static final class DispatchTracker {
+        
+        private final Set<String> handledBy = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger remaining;
+        private final AtomicBoolean abandoned = new AtomicBoolean(false);
+        private final DispatchOutcome outcome;
+        
+        DispatchTracker(int observers, Set<String> alreadyHandled, DispatchOutcome outcome) {
+            this.remaining = new AtomicInteger(observers);
+            this.handledBy.addAll(alreadyHandled);
+            this.outcome = outcome;
+            if (observers == 0) {
+                outcome.finished(Set.copyOf(handledBy), true);
+            }
+        }
+        
+        ObserverLane.Completion completionFor(IEventObserver observer) {
+            return new ObserverLane.Completion() {
+                @Override
+                public void delivered() {
+                    handledBy.add(observer.getObserverName());
+                    countDown();
+                }
+                
+                @Override
+                public void abandoned() {
+                    abandon(1);
+                }
+            };
+        }
+        
+        void abandon(int observers) {
+            abandoned.set(true);
+            for (int i = 0; i < observers; i++) {
+                countDown();
+            }
+        }
+        
+        private void countDown() {
+            if (remaining.decrementAndGet() == 0) {
+                outcome.finished(Set.copyOf(handledBy), !abandoned.get());
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface DispatchOutcome {
+        
+        DispatchOutcome IGNORED = (handledBy, delivered) -> {};
+        
+        void finished(Set<String> handledBy, boolean delivered);
+    }
+    
+    private record Released(EventOutbox.Claimed claimed, Set<String> handledBy) {}
+    
+    public enum DispatchMode {
+        SYNC, ASYNC
+    }
+    
+    public enum OverflowPolicy {
+        BLOCK, DROP_OLDEST, SPILL
+    }
 }
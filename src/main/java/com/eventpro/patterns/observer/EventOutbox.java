@@ -0,0 +1,282 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.model.OutboxMessage;
+import com.eventpro.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durable store for observer notifications (transactional outbox).
+ *
+ * Messages are appended in the caller's transaction and claimed in batches by
+ * EventManager. The dedupe key is derived from the notification, so appending
+ * the same notification twice stores it once, and each message records which
+ * observers already handled it, so a redelivery only reaches the ones that
+ * had not. The payload carries everything observers read; nothing is
+ * reloaded at dispatch time. A message that has used up its delivery
+ * attempts is moved to FAILED instead of being claimed again.
+ */
+@Component
+@Slf4j
+public class EventOutbox {
+    
+    private static final TypeReference<List<Long>> ID_LIST = new TypeReference<>() {};
+    
+    private final OutboxMessageRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final Duration retention;
+    
+    // Claimed on this node and not yet completed, so a stale-claim reclaim is not dispatched twice
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder duplicatesSkipped = new LongAdder();
+    private final AtomicLong lastClaimLagMillis = new AtomicLong();
+    private final AtomicLong maxClaimLagMillis = new AtomicLong();
+    
+    public EventOutbox(OutboxMessageRepository outboxRepository,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${eventpro.outbox.batch-size:100}") int batchSize,
+                       @Value("${eventpro.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${eventpro.outbox.claim-timeout-ms:60000}") long claimTimeoutMillis,
+                       @Value("${eventpro.outbox.retention-hours:24}") long retentionHours) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+    
+    /**
+     * Store a notification; must be called inside the transaction of the change it describes
+     */
+    public void append(EventData eventData) {
+        String payload = toPayload(eventData.getData());
+        String dedupeKey = dedupeKeyOf(eventData, payload);
+        if (outboxRepository.existsByDedupeKey(dedupeKey)) {
+            duplicatesSkipped.increment();
+            log.debug("Notification {} for event {} already in the outbox", eventData.getEventType(),
+                    eventData.getEventId());
+            return;
+        }
+        OutboxMessage message = OutboxMessage.builder()
+                .dedupeKey(dedupeKey)
+                .aggregateId(eventData.getEventId())
+                .eventType(eventData.getEventType().name())
+                .eventTitle(eventData.getEventTitle())
+                .payload(payload)
+                .createdAt(eventData.getTimestamp())
+                .build();
+        outboxRepository.save(message);
+        appended.increment();
+    }
+    
+    /**
+     * Claim the next batch of pending messages and turn them back into notifications.
+     * Messages already being dispatched on this node are left to that dispatch, and
+     * messages out of attempts are marked FAILED.
+     */
+    public List<Claimed> claimBatch() {
+        List<OutboxMessage> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int released = outboxRepository.releaseStaleClaims(
+                    OutboxMessage.Status.IN_FLIGHT, OutboxMessage.Status.PENDING, now.minus(claimTimeout));
+            if (released > 0) {
+                log.warn("⚠️ Released {} stale outbox claims for redelivery", released);
+            }
+            List<OutboxMessage> batch = outboxRepository.findBatchForClaim(
+                    OutboxMessage.Status.PENDING, PageRequest.ofSize(batchSize));
+            List<OutboxMessage> claimable = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                if (message.getAttempts() >= maxAttempts) {
+                    message.setStatus(OutboxMessage.Status.FAILED);
+                    log.error("❌ Outbox message {} ({} for event {}) failed after {} attempts, handled by: {}",
+                            message.getId(), message.getEventType(), message.getAggregateId(),
+                            message.getAttempts(), message.getHandledBy());
+                    continue;
+                }
+                message.setStatus(OutboxMessage.Status.IN_FLIGHT);
+                message.setClaimedAt(now);
+                message.setAttempts(message.getAttempts() + 1);
+                claimable.add(message);
+            }
+            return claimable;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+        
+        recordLag(claimed);
+        
+        List<Claimed> result = new ArrayList<>(claimed.size());
+        for (OutboxMessage message : claimed) {
+            if (!inFlight.add(message.getDedupeKey())) {
+                duplicatesSkipped.increment();
+            } else {
+                result.add(new Claimed(message.getId(), message.getDedupeKey(), toEventData(message),
+                        handledByOf(message.getHandledBy())));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Record that every interested observer has handled these messages
+     */
+    public void markDelivered(Collection<Claimed> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Long> ids = messages.stream().map(Claimed::messageId).toList();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.markDelivered(ids, OutboxMessage.Status.DELIVERED, LocalDateTime.now()));
+        messages.forEach(message -> inFlight.remove(message.dedupeKey()));
+        delivered.add(ids.size());
+    }
+    
+    /**
+     * Give up on a message some observer did not handle. The row stays claimed,
+     * so it is redelivered once the claim times out, and only to the observers
+     * missing from handledBy.
+     */
+    public void release(Claimed message, Set<String> handledBy) {
+        try {
+            if (!handledBy.equals(message.handledBy())) {
+                String names = String.join(",", new TreeSet<>(handledBy));
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxRepository.updateHandledBy(message.messageId(), names));
+            }
+        } finally {
+            inFlight.remove(message.dedupeKey());
+            released.increment();
+        }
+    }
+    
+    /**
+     * Delete delivered messages past the retention window
+     */
+    @Scheduled(fixedDelayString = "${eventpro.outbox.purge-interval-ms:3600000}")
+    public void purgeDelivered() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteByStatusAndDeliveredAtBefore(
+                        OutboxMessage.Status.DELIVERED, LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("🧹 Purged {} delivered outbox messages", purged);
+        }
+    }
+    
+    /**
+     * Backlog size and delivery lag
+     */
+    public Map<String, Object> getStatistics() {
+        LocalDateTime oldestPending = outboxRepository.findOldestCreatedAtByStatus(OutboxMessage.Status.PENDING);
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("pending", outboxRepository.countByStatus(OutboxMessage.Status.PENDING));
+        statistics.put("inFlight", outboxRepository.countByStatus(OutboxMessage.Status.IN_FLIGHT));
+        statistics.put("failed", outboxRepository.countByStatus(OutboxMessage.Status.FAILED));
+        statistics.put("dispatching", inFlight.size());
+        statistics.put("appended", appended.sum());
+        statistics.put("delivered", delivered.sum());
+        statistics.put("released", released.sum());
+        statistics.put("duplicatesSkipped", duplicatesSkipped.sum());
+        statistics.put("oldestPendingAgeMs", oldestPending != null
+                ? Duration.between(oldestPending, LocalDateTime.now()).toMillis() : 0L);
+        statistics.put("lastClaimLagMs", lastClaimLagMillis.get());
+        statistics.put("maxClaimLagMs", maxClaimLagMillis.get());
+        return statistics;
+    }
+    
+    private void recordLag(List<OutboxMessage> claimed) {
+        LocalDateTime now = LocalDateTime.now();
+        long lag = claimed.stream()
+                .mapToLong(message -> Duration.between(message.getCreatedAt(), now).toMillis())
+                .max()
+                .orElse(0L);
+        lastClaimLagMillis.set(lag);
+        maxClaimLagMillis.accumulateAndGet(lag, Math::max);
+    }
+    
+    private EventData toEventData(OutboxMessage message) {
+        EventData.EventType eventType = EventData.EventType.valueOf(message.getEventType());
+        return new EventData(message.getAggregateId(), message.getEventTitle(), eventType,
+                fromPayload(eventType, message.getPayload()), message.getCreatedAt());
+    }
+    
+    private String toPayload(Object data) {
+        // Observers get event snapshots and id lists; anything else is not carried over
+        if (!(data instanceof List<?>) && !(data instanceof EventSnapshot)) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+    
+    private Object fromPayload(EventData.EventType eventType, String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return eventType == EventData.EventType.WAITLIST_PROMOTED
+                    ? objectMapper.readValue(payload, ID_LIST)
+                    : objectMapper.readValue(payload, EventSnapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox payload", e);
+        }
+    }
+    
+    private static Set<String> handledByOf(String handledBy) {
+        if (handledBy == null || handledBy.isBlank()) {
+            return Set.of();
+        }
+        return Set.of(handledBy.split(","));
+    }
+    
+    /**
+     * SHA-256 over the aggregate, type, timestamp and content of the notification
+     */
+    static String dedupeKeyOf(EventData eventData, String payload) {
+        String source = eventData.getEventId() + "|" + eventData.getEventType() + "|"
+                + eventData.getTimestamp() + "|" + eventData.getEventTitle() + "|" + payload;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * A claimed outbox message ready for dispatch, with the observers that already handled it
+     */
+    public record Claimed(Long messageId, String dedupeKey, EventData eventData, Set<String> handledBy) {}
+}
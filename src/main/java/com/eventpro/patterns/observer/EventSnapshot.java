@@ -0,0 +1,28 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Plain copy of the event fields observers read, taken when the notification
+ * is raised so observers see the state that was committed with it and never
+ * touch lazy associations
+ */
+public record EventSnapshot(Long id,
+                            String title,
+                            EventStatus status,
+                            LocalDateTime startDate,
+                            LocalDateTime endDate,
+                            String location,
+                            Integer maxAttendees,
+                            Integer currentAttendees,
+                            Double price) {
+    
+    public static EventSnapshot of(Event event) {
+        return new EventSnapshot(event.getId(), event.getTitle(), event.getStatus(),
+                event.getStartDate(), event.getEndDate(), event.getLocation(),
+                event.getMaxAttendees(), event.getCurrentAttendees(), event.getPrice());
+    }
+}
@@ -0,0 +1,236 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.model.PendingNotification;
+import com.eventpro.repository.PendingNotificationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Collapses bursts of notifications for the same (event, recipient, kind).
+ *
+ * Each submission restarts a quiet window; when it elapses without another
+ * submission, only the latest EventData is sent. A maximum delay bounds how
+ * long continuous edits can hold a notification back. Pending notifications
+ * are stored in pending_notifications, so a restart delays them instead of
+ * losing them, and a flush deletes a row only if no newer state arrived
+ * while it was being sent.
+ */
+@Component
+@Slf4j
+public class NotificationCoalescer {
+    
+    private static final int FLUSH_PAGE_SIZE = 500;
+    private static final String ALL_RECIPIENTS = "*";
+    
+    private final PendingNotificationRepository pendingRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration quietWindow;
+    private final Duration maxDelay;
+    private final Clock clock;
+    private final Map<EventData.EventType, Sender> senders = new ConcurrentHashMap<>();
+    
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    
+    @Autowired
+    public NotificationCoalescer(PendingNotificationRepository pendingRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${eventpro.notifications.coalesce.quiet-window-ms:30000}") long quietWindowMillis,
+                                 @Value("${eventpro.notifications.coalesce.max-delay-ms:300000}") long maxDelayMillis) {
+        this(pendingRepository, objectMapper, transactionManager, quietWindowMillis, maxDelayMillis,
+                Clock.systemDefaultZone());
+    }
+    
+    NotificationCoalescer(PendingNotificationRepository pendingRepository,
+                          ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager,
+                          long quietWindowMillis,
+                          long maxDelayMillis,
+                          Clock clock) {
+        this.pendingRepository = pendingRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.quietWindow = Duration.ofMillis(quietWindowMillis);
+        this.maxDelay = Duration.ofMillis(Math.max(quietWindowMillis, maxDelayMillis));
+        this.clock = clock;
+    }
+    
+    /**
+     * Register who sends a kind of notification; stored notifications of that kind,
+     * including ones left by a previous run, are flushed from then on
+     */
+    public void registerSender(EventData.EventType kind, Sender sender) {
+        senders.put(kind, sender);
+    }
+    
+    /**
+     * Submit a notification; a null recipient stands for every subscriber of the event
+     */
+    public void submit(Long eventId, String recipient, EventData.EventType kind, EventData eventData) {
+        submitAll(eventId, Collections.singletonList(recipient), kind, eventData);
+    }
+    
+    /**
+     * Submit the same notification for several recipients in one transaction
+     */
+    public void submitAll(Long eventId, Collection<String> recipients, EventData.EventType kind, EventData eventData) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Map<String, String> recipientsByKey = new LinkedHashMap<>();
+        for (String recipient : recipients) {
+            recipientsByKey.put(keyOf(eventId, recipient, kind), recipient);
+        }
+        String payload = toPayload(eventData.getData());
+        LocalDateTime now = LocalDateTime.now(clock);
+        
+        Integer replaced = transactionTemplate.execute(status -> {
+            Map<String, PendingNotification> existing = pendingRepository
+                    .findByCoalescingKeyIn(recipientsByKey.keySet()).stream()
+                    .collect(Collectors.toMap(PendingNotification::getCoalescingKey, Function.identity()));
+            List<PendingNotification> toSave = new ArrayList<>(recipientsByKey.size());
+            recipientsByKey.forEach((key, recipient) -> {
+                PendingNotification pending = existing.get(key);
+                if (pending == null) {
+                    pending = PendingNotification.builder()
+                            .coalescingKey(key)
+                            .eventId(eventId)
+                            .recipient(recipient)
+                            .kind(kind.name())
+                            .firstSeenAt(now)
+                            .build();
+                } else {
+                    pending.setRevision(pending.getRevision() + 1);
+                }
+                pending.setEventTitle(eventData.getEventTitle());
+                pending.setEventTimestamp(eventData.getTimestamp());
+                pending.setPayload(payload);
+                LocalDateTime quietUntil = now.plus(quietWindow);
+                LocalDateTime deadline = pending.getFirstSeenAt().plus(maxDelay);
+                pending.setDueAt(quietUntil.isBefore(deadline) ? quietUntil : deadline);
+                toSave.add(pending);
+            });
+            pendingRepository.saveAll(toSave);
+            return existing.size();
+        });
+        submitted.add(recipientsByKey.size());
+        coalesced.add(replaced != null ? replaced : 0);
+    }
+    
+    /**
+     * Drop every pending notification of an event, e.g. updates made moot by a cancellation
+     */
+    public void discard(Long eventId) {
+        Integer removed = transactionTemplate.execute(status -> pendingRepository.deleteByEventId(eventId));
+        discarded.add(removed != null ? removed : 0);
+    }
+    
+    /**
+     * Send the notifications whose window has elapsed. A failed send is retried
+     * after another quiet window.
+     */
+    @Scheduled(fixedDelayString = "${eventpro.notifications.coalesce.poll-interval-ms:1000}")
+    public void flushDue() {
+        if (senders.isEmpty()) {
+            return;
+        }
+        List<String> kinds = senders.keySet().stream().map(Enum::name).toList();
+        List<PendingNotification> due;
+        do {
+            LocalDateTime now = LocalDateTime.now(clock);
+            due = pendingRepository.findDue(now, kinds, PageRequest.ofSize(FLUSH_PAGE_SIZE));
+            List<PendingNotification> sent = new ArrayList<>(due.size());
+            List<PendingNotification> retry = new ArrayList<>();
+            for (PendingNotification pending : due) {
+                (send(pending) ? sent : retry).add(pending);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                sent.forEach(pending -> pendingRepository.deleteSent(pending.getId(), pending.getRevision()));
+                retry.forEach(pending -> pendingRepository.reschedule(
+                        pending.getId(), pending.getRevision(), now.plus(quietWindow)));
+            });
+        } while (due.size() == FLUSH_PAGE_SIZE);
+    }
+    
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("submitted", submitted.sum());
+        statistics.put("delivered", delivered.sum());
+        statistics.put("coalesced", coalesced.sum());
+        statistics.put("failed", failed.sum());
+        statistics.put("discarded", discarded.sum());
+        statistics.put("pending", pendingRepository.count());
+        return statistics;
+    }
+    
+    private boolean send(PendingNotification pending) {
+        EventData.EventType kind = EventData.EventType.valueOf(pending.getKind());
+        try {
+            EventData latest = new EventData(pending.getEventId(), pending.getEventTitle(), kind,
+                    fromPayload(pending.getPayload()), pending.getEventTimestamp());
+            senders.get(kind).send(pending.getRecipient(), latest);
+            delivered.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("❌ Failed to send coalesced {} for event {}: {}", kind, pending.getEventId(), e.getMessage());
+            return false;
+        }
+    }
+    
+    private static String keyOf(Long eventId, String recipient, EventData.EventType kind) {
+        return eventId + "|" + (recipient != null ? recipient : ALL_RECIPIENTS) + "|" + kind;
+    }
+    
+    private String toPayload(Object data) {
+        if (!(data instanceof EventSnapshot)) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize pending notification", e);
+        }
+    }
+    
+    private EventSnapshot fromPayload(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, EventSnapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read pending notification", e);
+        }
+    }
+    
+    /**
+     * Sends the latest state of a coalesced notification to one recipient
+     */
+    @FunctionalInterface
+    public interface Sender {
+        void send(String recipient, EventData latest);
+    }
+}
@@ -0,0 +1,269 @@
+package com.eventpro.patterns.observer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded FIFO lane feeding one worker thread of one observer.
+ *
+ * All notifications for a given event id hash to the same lane, so the
+ * observer sees them in the order they were published.
+ */
+@Slf4j
+class ObserverLane implements Runnable {
+    
+    private final IEventObserver observer;
+    private final ObserverMetrics metrics;
+    private final int capacity;
+    private final int spillCapacity;
+    private final long offerTimeoutNanos;
+    private final EventManager.OverflowPolicy overflowPolicy;
+    
+    private final ArrayDeque<Delivery> queue;
+    // Overflow kept behind the queue for SPILL, drained before any newer notification; bounded by spillCapacity
+    private final ArrayDeque<Delivery> spill = new ArrayDeque<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    
+    private final Thread worker;
+    private volatile boolean running = true;
+    private boolean busy = false;
+    
+    ObserverLane(IEventObserver observer, ObserverMetrics metrics, int index, int capacity, int spillCapacity,
+                 long offerTimeoutMillis, EventManager.OverflowPolicy overflowPolicy) {
+        this.observer = observer;
+        this.metrics = metrics;
+        this.capacity = capacity;
+        this.spillCapacity = spillCapacity;
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayDeque<>(capacity);
+        this.worker = new Thread(this, "observer-" + observer.getObserverName() + "-" + index);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+    
+    /**
+     * Enqueue a notification, applying the overflow policy when the lane is full.
+     * BLOCK waits at most the offer timeout and SPILL holds at most the spill
+     * capacity; past that the notification is dropped and reported abandoned.
+     */
+    void offer(EventData eventData, Completion completion) throws InterruptedException {
+        Delivery delivery = new Delivery(eventData, completion);
+        Delivery droppedDelivery = null;
+        lock.lock();
+        try {
+            if (queue.size() < capacity && spill.isEmpty()) {
+                queue.addLast(delivery);
+            } else {
+                switch (overflowPolicy) {
+                    case BLOCK -> {
+                        long remaining = offerTimeoutNanos;
+                        while (queue.size() >= capacity && running && remaining > 0) {
+                            remaining = notFull.awaitNanos(remaining);
+                        }
+                        if (queue.size() < capacity) {
+                            queue.addLast(delivery);
+                        } else {
+                            droppedDelivery = delivery;
+                        }
+                    }
+                    case DROP_OLDEST -> {
+                        droppedDelivery = queue.pollFirst();
+                        queue.addLast(delivery);
+                    }
+                    case SPILL -> {
+                        if (spill.size() < spillCapacity) {
+                            spill.addLast(delivery);
+                            spilled.increment();
+                        } else {
+                            droppedDelivery = delivery;
+                        }
+                    }
+                }
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (droppedDelivery != null) {
+            dropped.increment();
+            log.warn("⚠️ Observer {} lane full, dropped {} for event {}", observer.getObserverName(),
+                    droppedDelivery.eventData().getEventType(), droppedDelivery.eventData().getEventId());
+            droppedDelivery.completion().abandoned();
+        }
+    }
+    
+    @Override
+    public void run() {
+        while (running || hasPending()) {
+            Delivery delivery;
+            try {
+                delivery = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (delivery == null) {
+                continue;
+            }
+            boolean delivered = false;
+            try {
+                metrics.update(delivery.eventData());
+                processed.increment();
+                delivered = true;
+            } catch (Exception e) {
+                failed.increment();
+                log.error("❌ Error in observer {}: {}", observer.getObserverName(), e.getMessage());
+            } finally {
+                // Report before going idle so awaitIdle() also covers the acknowledgement
+                if (delivered) {
+                    delivery.completion().delivered();
+                } else {
+                    delivery.completion().abandoned();
+                }
+                markIdle();
+            }
+        }
+    }
+    
+    /**
+     * Stop accepting work and wait for the queued notifications to be delivered
+     */
+    void shutdown(long timeoutMillis) {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            worker.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("⚠️ Observer {} lane stopped with {} pending notifications",
+                    observer.getObserverName(), getDepth());
+            worker.interrupt();
+        }
+    }
+    
+    /**
+     * Wait until every queued notification has been handled, mainly for tests and demos
+     */
+    boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            while (busy || !queue.isEmpty() || !spill.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                notFull.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int getDepth() {
+        lock.lock();
+        try {
+            return queue.size() + spill.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    IEventObserver getObserver() {
+        return observer;
+    }
+    
+    long getProcessed() {
+        return processed.sum();
+    }
+    
+    long getFailed() {
+        return failed.sum();
+    }
+    
+    long getDropped() {
+        return dropped.sum();
+    }
+    
+    long getSpilled() {
+        return spilled.sum();
+    }
+    
+    private Delivery take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && spill.isEmpty()) {
+                if (!running) {
+                    return null;
+                }
+                notEmpty.await();
+            }
+            Delivery next = queue.pollFirst();
+            while (queue.size() < capacity && !spill.isEmpty()) {
+                queue.addLast(spill.pollFirst());
+            }
+            if (next == null) {
+                next = queue.pollFirst();
+            }
+            busy = true;
+            notFull.signalAll();
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void markIdle() {
+        lock.lock();
+        try {
+            busy = false;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean hasPending() {
+        lock.lock();
+        try {
+            return !queue.isEmpty() || !spill.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Told whether a queued notification reached the observer; an abandoned
+     * notification was dropped or made the observer throw
+     */
+    interface Completion {
+        void delivered();
+        
+        void abandoned();
+    }
+    
+    private record Delivery(EventData eventData, Completion completion) {}
+}
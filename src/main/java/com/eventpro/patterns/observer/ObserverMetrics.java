@@ -0,0 +1,131 @@
+package com.eventpro.patterns.observer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer instrumentation for one observer: update latency and errors per
+ * event type, plus in-flight and queue-depth gauges
+ */
+class ObserverMetrics {
+    
+    static final String UPDATE_TIMER = "eventpro.observer.update";
+    static final String ERROR_COUNTER = "eventpro.observer.errors";
+    static final String IN_FLIGHT_GAUGE = "eventpro.observer.inflight";
+    static final String QUEUE_DEPTH_GAUGE = "eventpro.observer.queue.depth";
+    
+    private final IEventObserver observer;
+    private final MeterRegistry meterRegistry;
+    private final Map<EventData.EventType, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<EventData.EventType, Counter> errors = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Gauge inFlightGauge;
+    private volatile Gauge queueDepthGauge;
+    
+    ObserverMetrics(IEventObserver observer, MeterRegistry meterRegistry) {
+        this.observer = observer;
+        this.meterRegistry = meterRegistry;
+        this.inFlightGauge = Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get)
+                .description("Observer updates currently running")
+                .tag("observer", observer.getObserverName())
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Register the queue-depth gauge once the observer's lanes exist
+     */
+    <T> void bindQueueDepth(T lanes, ToDoubleFunction<T> depth) {
+        queueDepthGauge = Gauge.builder(QUEUE_DEPTH_GAUGE, lanes, depth)
+                .description("Notifications waiting in the observer lanes")
+                .tag("observer", observer.getObserverName())
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Remove every meter of this observer from the registry, once it is no longer notified
+     */
+    void close() {
+        meterRegistry.remove(inFlightGauge);
+        if (queueDepthGauge != null) {
+            meterRegistry.remove(queueDepthGauge);
+        }
+        timers.values().forEach(meterRegistry::remove);
+        errors.values().forEach(meterRegistry::remove);
+        timers.clear();
+        errors.clear();
+    }
+    
+    /**
+     * Run observer.update, recording its latency and any failure
+     */
+    void update(EventData eventData) {
+        EventData.EventType eventType = eventData.getEventType();
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            observer.update(eventData);
+        } catch (RuntimeException e) {
+            errors.computeIfAbsent(eventType, this::errorCounter).increment();
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            timers.computeIfAbsent(eventType, this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Count, mean and tail latency per event type, for the metrics endpoint
+     */
+    Map<String, Object> snapshot() {
+        Map<String, Object> byEventType = new LinkedHashMap<>();
+        Map<EventData.EventType, Timer> sorted = new EnumMap<>(EventData.EventType.class);
+        sorted.putAll(timers);
+        sorted.forEach((eventType, timer) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", timer.count());
+            values.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+            values.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+            for (var percentile : timer.takeSnapshot().percentileValues()) {
+                values.put("p" + Math.round(percentile.percentile() * 100) + "Ms",
+                        percentile.value(TimeUnit.MILLISECONDS));
+            }
+            Counter counter = errors.get(eventType);
+            values.put("errors", counter != null ? (long) counter.count() : 0L);
+            byEventType.put(eventType.name(), values);
+        });
+        
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("inFlight", inFlight.get());
+        snapshot.put("eventTypes", byEventType);
+        return snapshot;
+    }
+    
+    private Timer timer(EventData.EventType eventType) {
+        return Timer.builder(UPDATE_TIMER)
+                .description("Time spent in IEventObserver.update")
+                .tags("observer", observer.getObserverName(), "eventType", eventType.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+    
+    private Counter errorCounter(EventData.EventType eventType) {
+        return Counter.builder(ERROR_COUNTER)
+                .description("IEventObserver.update calls that threw")
+                .tags("observer", observer.getObserverName(), "eventType", eventType.name())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,332 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.Event;
+import com.eventpro.service.CertificateIssuanceService.IssueResult;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Batch certificate engine.
+ *
+ * Each job carries its own strategy, so concurrent batches never see each
+ * other's settings. Participants are split into chunks that run on a
+ * dedicated pool sized to the available cores; a chunk renders its
+ * participants one after another and reports progress as it goes. An
+ * optional sink receives each chunk's certificates as soon as the chunk is
+ * done, so they can be persisted while later chunks still render. If any
+ * certificate could not be stored, or rendering was interrupted, the job
+ * fails once its chunks finish so the caller can run it again; duplicates
+ * the sink rejected are counted separately and do not fail it.
+ */
+@Component
+@Slf4j
+public class CertificateBatchEngine {
+    
+    private static final int MAX_RETAINED_JOBS = 100;
+    
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    
+    private final Map<String, BatchJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BatchJob> eldest) {
+            return size() > MAX_RETAINED_JOBS && eldest.getValue().getStatus() != JobStatus.RUNNING;
+        }
+    });
+    
+    public CertificateBatchEngine(@Value("${eventpro.certificates.batch.threads:0}") int threads,
+                                  @Value("${eventpro.certificates.batch.chunk-size:250}") int chunkSize) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(1, chunkSize);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "certificate-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        log.info("🏭 Certificate batch engine ready: {} workers, chunks of {}", poolSize, this.chunkSize);
+    }
+    
+    /**
+     * Queue a batch for an event; the returned job completes with the
+     * certificates that were generated, in participant order
+     */
+    BatchJob submit(List<ParticipantData> participants, Event event, ICertificateStrategy strategy) {
+        return submit(participants, event, strategy, null);
+    }
+    
+    /**
+     * Queue a batch whose chunks are handed to a sink that reports how many
+     * certificates it stored
+     */
+    BatchJob submit(List<ParticipantData> participants, Event event, ICertificateStrategy strategy,
+                    ChunkSink chunkSink) {
+        List<ParticipantData> snapshot = List.copyOf(participants);
+        int chunks = (snapshot.size() + chunkSize - 1) / chunkSize;
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), event.getId(), strategy.getStrategyName(),
+                snapshot.size(), chunks);
+        jobs.put(job.getJobId(), job);
+        log.info("📋 Certificate batch {} for event {}: {} participants in {} chunks ({})",
+                job.getJobId(), event.getId(), snapshot.size(), chunks, strategy.getStrategyName());
+        
+        if (chunks == 0) {
+            job.finish(List.of());
+            return job;
+        }
+        
+        CertificateResult[] results = new CertificateResult[snapshot.size()];
+        AtomicInteger remainingChunks = new AtomicInteger(chunks);
+        for (int start = 0; start < snapshot.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, snapshot.size());
+            try {
+                executor.execute(() -> {
+                    renderChunk(snapshot, from, to, event, strategy, chunkSink, results, job);
+                    if (remainingChunks.decrementAndGet() == 0) {
+                        if (job.getUnstored() > 0) {
+                            job.fail(job.getUnstored() + " certificates were not stored");
+                            log.warn("⚠️ Certificate batch {} failed: {} certificates were not stored",
+                                    job.getJobId(), job.getUnstored());
+                            return;
+                        }
+                        job.complete(results);
+                        log.info("🎉 Certificate batch {} completed: {}/{} generated in {} ms", job.getJobId(),
+                                job.getGenerated(), job.getTotalParticipants(),
+                                Duration.between(job.getStartedAt(), job.getCompletedAt()).toMillis());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                job.fail("Certificate engine is shutting down");
+                break;
+            }
+        }
+        return job;
+    }
+    
+    public Optional<BatchJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+    
+    public List<BatchJob> getJobs() {
+        synchronized (jobs) {
+            return List.copyOf(jobs.values());
+        }
+    }
+    
+    /**
+     * Worker pool usage
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("workers", executor.getCorePoolSize());
+        statistics.put("activeWorkers", executor.getActiveCount());
+        statistics.put("queuedChunks", executor.getQueue().size());
+        statistics.put("chunkSize", chunkSize);
+        statistics.put("runningJobs", getJobs().stream().filter(job -> job.getStatus() == JobStatus.RUNNING).count());
+        return statistics;
+    }
+    
+    /**
+     * Stop the workers. Queued chunks are dropped, so every job still running
+     * is failed and its future completes instead of waiting forever.
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> dropped = executor.shutdownNow();
+        try {
+            // Interrupted chunks finish their bookkeeping before the jobs are failed
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (BatchJob job : getJobs()) {
+            if (job.getStatus() == JobStatus.RUNNING) {
+                job.fail("Certificate engine shut down before the job finished");
+                log.warn("⚠️ Certificate batch {} failed on shutdown after {}/{} chunks",
+                        job.getJobId(), job.getCompletedChunks(), job.getTotalChunks());
+            }
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("🛑 Certificate engine dropped {} queued chunks on shutdown", dropped.size());
+        }
+    }
+    
+    private void renderChunk(List<ParticipantData> participants, int from, int to, Event event,
+                             ICertificateStrategy strategy, ChunkSink chunkSink,
+                             CertificateResult[] results, BatchJob job) {
+        List<CertificateResult> chunk = new ArrayList<>(to - from);
+        Map<CertificateResult, Integer> positions = new IdentityHashMap<>();
+        for (int i = from; i < to; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                job.unstored.add(to - i);
+                break;
+            }
+            ParticipantData participant = participants.get(i);
+            try {
+                results[i] = strategy.render(participant, event);
+                chunk.add(results[i]);
+                positions.put(results[i], i);
+                job.generated.increment();
+            } catch (RuntimeException e) {
+                job.failed.increment();
+                log.error("❌ Failed to generate certificate for {}: {}", participant.getName(), e.getMessage());
+            }
+        }
+        if (chunkSink != null && !chunk.isEmpty()) {
+            UnaryOperator<CertificateResult> rerender = previous -> {
+                int index = positions.remove(previous);
+                CertificateResult fresh = strategy.render(participants.get(index), event);
+                results[index] = fresh;
+                positions.put(fresh, index);
+                return fresh;
+            };
+            try {
+                IssueResult stored = chunkSink.store(chunk, rerender);
+                job.persisted.add(stored.inserted());
+                job.duplicates.add(stored.duplicates());
+                job.unstored.add(stored.failed());
+            } catch (RuntimeException e) {
+                job.unstored.add(chunk.size());
+                log.error("❌ Failed to store {} certificates of batch {}: {}", chunk.size(), job.getJobId(), e.getMessage());
+            }
+        }
+        job.completedChunks.incrementAndGet();
+    }
+    
+    /**
+     * Stores the certificates of a finished chunk. {@code rerender} renders a
+     * certificate of the chunk again with fresh codes, e.g. after a code collision.
+     */
+    @FunctionalInterface
+    interface ChunkSink {
+        IssueResult store(List<CertificateResult> chunk, UnaryOperator<CertificateResult> rerender);
+    }
+    
+    public enum JobStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+    
+    /**
+     * Progress of one certificate batch
+     */
+    @Getter
+    public static class BatchJob {
+        private final String jobId;
+        private final Long eventId;
+        private final String strategy;
+        private final int totalParticipants;
+        private final int totalChunks;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime completedAt;
+        private volatile JobStatus status = JobStatus.RUNNING;
+        private volatile String error;
+        
+        @Getter(lombok.AccessLevel.NONE)
+        private final LongAdder generated = new LongAdder();
+        @Getter(lombok.AccessLevel.NONE)
+        private final LongAdder failed = new LongAdder();
+        @Getter(lombok.AccessLevel.NONE)
+        private final LongAdder persisted = new LongAdder();
+        @Getter(lombok.AccessLevel.NONE)
+        private final LongAdder duplicates = new LongAdder();
+        @Getter(lombok.AccessLevel.NONE)
+        private final LongAdder unstored = new LongAdder();
+        @Getter(lombok.AccessLevel.NONE)
+        private final AtomicInteger completedChunks = new AtomicInteger();
+        @Getter(lombok.AccessLevel.NONE)
+        private final CompletableFuture<List<CertificateResult>> results = new CompletableFuture<>();
+        
+        BatchJob(String jobId, Long eventId, String strategy, int totalParticipants, int totalChunks) {
+            this.jobId = jobId;
+            this.eventId = eventId;
+            this.strategy = strategy;
+            this.totalParticipants = totalParticipants;
+            this.totalChunks = totalChunks;
+        }
+        
+        public long getGenerated() {
+            return generated.sum();
+        }
+        
+        public long getFailed() {
+            return failed.sum();
+        }
+        
+        public long getPersisted() {
+            return persisted.sum();
+        }
+        
+        /**
+         * Certificates the sink rejected because they were already issued
+         */
+        public long getDuplicates() {
+            return duplicates.sum();
+        }
+        
+        /**
+         * Certificates that were rendered, or were due to be, but are not stored
+         */
+        public long getUnstored() {
+            return unstored.sum();
+        }
+        
+        public int getCompletedChunks() {
+            return completedChunks.get();
+        }
+        
+        public double getProgress() {
+            return totalParticipants == 0 ? 1.0 : (double) (getGenerated() + getFailed()) / totalParticipants;
+        }
+        
+        /**
+         * Certificates generated by the job, available once it finishes
+         */
+        @JsonIgnore
+        public CompletableFuture<List<CertificateResult>> getResults() {
+            return results;
+        }
+        
+        void complete(CertificateResult[] generatedResults) {
+            List<CertificateResult> list = new ArrayList<>(generatedResults.length);
+            for (CertificateResult result : generatedResults) {
+                if (result != null) {
+                    list.add(result);
+                }
+            }
+            finish(list);
+        }
+        
+        synchronized void finish(List<CertificateResult> generatedResults) {
+            if (status != JobStatus.RUNNING) {
+                return;
+            }
+            completedAt = LocalDateTime.now();
+            status = JobStatus.COMPLETED;
+            results.complete(generatedResults);
+        }
+        
+        synchronized void fail(String error) {
+            if (status != JobStatus.RUNNING) {
+                return;
+            }
+            this.error = error;
+            completedAt = LocalDateTime.now();
+            status = JobStatus.FAILED;
+            results.completeExceptionally(new RuntimeException(error));
+        }
+    }
+}
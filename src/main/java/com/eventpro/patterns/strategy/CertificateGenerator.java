@@ -1,6 +1,5 @@
 package com.eventpro.patterns.strategy;
 
-import com.eventpro.model.CertificateType;
 import com.eventpro.model.Event;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -8,24 +7,26 @@ import org.springframework.stereotype.Component;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Certificate generator context that uses strategies
+ * Certificate generator context that uses strategies.
+ *
+ * The strategy is picked per call from the event type, so the shared
+ * instance holds no state and concurrent callers never see each other's
+ * choice.
  */
 @Component
 @Slf4j
 public class CertificateGenerator {
     
-    private ICertificateStrategy strategy;
+    private final CertificateStrategyFactory strategyFactory;
     
-    public CertificateGenerator() {
-        this.strategy = new StandardCertificateStrategy();
+    public CertificateGenerator(CertificateStrategyFactory strategyFactory) {
+        this.strategyFactory = strategyFactory;
     }
     
-    public void setStrategy(ICertificateStrategy strategy) {
-        this.strategy = strategy;
-        log.info("🔄 Certificate strategy changed to: {}", strategy.getStrategyName());
-    }
-    
-    public CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event) {
+    public CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event,
+                                                                    boolean isPremium) {
+        String eventType = event.getType() != null ? event.getType().name() : "conference";
+        ICertificateStrategy strategy = strategyFactory.createStrategy(eventType, isPremium);
         log.info("🚀 Starting certificate generation with strategy: {}", strategy.getStrategyName());
         
         return strategy.generateCertificate(participant, event)
@@ -38,12 +39,4 @@ public class CertificateGenerator {
                     throw new RuntimeException("Certificate generation failed", throwable);
                 });
     }
-    
-    public String getCurrentStrategy() {
-        return strategy.getStrategyName();
-    }
-    
-    public CertificateType getCurrentCertificateType() {
-        return strategy.getCertificateType();
-    }
 }
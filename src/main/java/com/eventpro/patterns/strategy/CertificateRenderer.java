@@ -0,0 +1,204 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.*;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.properties.TextAlignment;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders certificate PDFs.
+ *
+ * Templates, font programs and the optional logo are loaded once and shared;
+ * each render only builds the per-participant page and streams it to a file
+ * under eventpro.certificates.storage-path. Render time, bytes allocated by
+ * the rendering thread and file size are recorded per certificate type.
+ */
+@Component
+@Slf4j
+public class CertificateRenderer {
+    
+    static final String RENDER_TIMER = "eventpro.certificates.render";
+    static final String ALLOCATED_SUMMARY = "eventpro.certificates.render.allocated";
+    static final String SIZE_SUMMARY = "eventpro.certificates.size";
+    
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d 'de' MMMM 'de' yyyy",
+            Locale.forLanguageTag("es"));
+    private static final WriterProperties WRITER_PROPERTIES = new WriterProperties()
+            .setCompressionLevel(CompressionConstants.BEST_SPEED);
+    
+    private final Path storagePath;
+    private final Map<CertificateType, CertificateTemplate> templates = CertificateTemplate.defaults();
+    private final FontProgram regularFont;
+    private final FontProgram boldFont;
+    private final ImageData logo;
+    
+    private final Map<CertificateType, Timer> renderTimers = new EnumMap<>(CertificateType.class);
+    private final Map<CertificateType, DistributionSummary> allocatedBytes = new EnumMap<>(CertificateType.class);
+    private final Map<CertificateType, DistributionSummary> fileSizes = new EnumMap<>(CertificateType.class);
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    
+    @Autowired
+    public CertificateRenderer(@Value("${eventpro.certificates.storage-path:/certificates}") String storagePath,
+                               @Value("${eventpro.certificates.logo-path:}") String logoPath,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+        this(storagePath, logoPath, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+    
+    CertificateRenderer(String storagePath, String logoPath, MeterRegistry registry) {
+        this.storagePath = Path.of(storagePath);
+        try {
+            this.regularFont = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            this.boldFont = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+            this.logo = logoPath == null || logoPath.isBlank() ? null : ImageDataFactory.create(Files.readAllBytes(Path.of(logoPath)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load certificate fonts or logo", e);
+        }
+        
+        for (CertificateType type : CertificateType.values()) {
+            String tag = type.name().toLowerCase();
+            renderTimers.put(type, Timer.builder(RENDER_TIMER)
+                    .description("Time to render and write one certificate")
+                    .tag("type", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+            allocatedBytes.put(type, DistributionSummary.builder(ALLOCATED_SUMMARY)
+                    .description("Heap bytes allocated while rendering one certificate")
+                    .baseUnit("bytes")
+                    .tag("type", tag)
+                    .register(registry));
+            fileSizes.put(type, DistributionSummary.builder(SIZE_SUMMARY)
+                    .description("Size of the written certificate file")
+                    .baseUnit("bytes")
+                    .tag("type", tag)
+                    .register(registry));
+        }
+        
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadMXBean = bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported() ? sunBean : null;
+    }
+    
+    /**
+     * Render a certificate to storage-path/&lt;type&gt;/&lt;certificateId&gt;.pdf and return the file
+     */
+    public Path render(CertificateType type, String certificateId, String verificationCode,
+                       ParticipantData participant, Event event) {
+        CertificateTemplate template = templates.get(type);
+        Path target = storagePath.resolve(type.name().toLowerCase()).resolve(certificateId + ".pdf");
+        Path partial = target.resolveSibling(certificateId + ".pdf.part");
+        
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(threadId) : 0L;
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                write(out, template, verificationCode, participant, event);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            fileSizes.get(type).record(Files.size(target));
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // the partial file is overwritten on the next attempt
+            }
+            throw new UncheckedIOException("Could not write certificate " + certificateId, e);
+        } finally {
+            renderTimers.get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (threadMXBean != null) {
+                allocatedBytes.get(type).record(threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+            }
+        }
+        return target;
+    }
+    
+    public Path getStoragePath() {
+        return storagePath;
+    }
+    
+    private void write(OutputStream out, CertificateTemplate template, String verificationCode,
+                       ParticipantData participant, Event event) {
+        try (PdfDocument pdf = new PdfDocument(new PdfWriter(out, WRITER_PROPERTIES))) {
+            PdfFont regular = PdfFontFactory.createFont(regularFont, PdfEncodings.WINANSI);
+            PdfFont bold = PdfFontFactory.createFont(boldFont, PdfEncodings.WINANSI);
+            
+            PageSize pageSize = PageSize.A4.rotate();
+            PdfPage page = pdf.addNewPage(pageSize);
+            PdfCanvas pdfCanvas = new PdfCanvas(page);
+            float width = pageSize.getWidth();
+            float height = pageSize.getHeight();
+            
+            pdfCanvas.setStrokeColor(template.accent()).setLineWidth(template.borderWidth())
+                    .rectangle(24, 24, width - 48, height - 48).stroke();
+            if (template.doubleBorder()) {
+                pdfCanvas.setLineWidth(1f).rectangle(34, 34, width - 68, height - 68).stroke();
+            }
+            if (logo != null) {
+                pdfCanvas.addImageFittedIntoRectangle(logo, new Rectangle(width / 2 - 40, height - 130, 80, 80), false);
+            }
+            
+            try (Canvas canvas = new Canvas(pdfCanvas, pageSize)) {
+                float center = width / 2;
+                canvas.setFontColor(template.accent());
+                canvas.setFont(bold).setFontSize(28)
+                        .showTextAligned(template.heading(), center, height - 170, TextAlignment.CENTER);
+                
+                canvas.setFontColor(ColorConstants.DARK_GRAY);
+                canvas.setFont(regular).setFontSize(14)
+                        .showTextAligned("Se otorga el presente certificado a", center, height - 220, TextAlignment.CENTER);
+                canvas.setFont(bold).setFontSize(26)
+                        .showTextAligned(participant.getName(), center, height - 265, TextAlignment.CENTER);
+                canvas.setFont(regular).setFontSize(14)
+                        .showTextAligned(template.statement(), center, height - 305, TextAlignment.CENTER);
+                canvas.setFont(bold).setFontSize(18)
+                        .showTextAligned(event.getTitle(), center, height - 335, TextAlignment.CENTER);
+                
+                canvas.setFont(regular).setFontSize(12);
+                if (event.getEndDate() != null) {
+                    canvas.showTextAligned(event.getEndDate().format(DATE_FORMAT), center, height - 365,
+                            TextAlignment.CENTER);
+                }
+                if (participant.getAttendanceHours() != null && participant.getAttendanceHours() > 0) {
+                    canvas.showTextAligned("Duración: " + participant.getAttendanceHours() + " horas",
+                            center, height - 385, TextAlignment.CENTER);
+                }
+                canvas.setFontSize(9)
+                        .showTextAligned("Código de verificación: " + verificationCode, 50, 50, TextAlignment.LEFT);
+            }
+        }
+    }
+}
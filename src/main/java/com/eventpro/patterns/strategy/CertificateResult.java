@@ -1,6 +1,7 @@
 package com.eventpro.patterns.strategy;
 
 import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,11 @@ public class CertificateResult {
     private String verificationCode;
     private LocalDateTime generatedAt;
     private CertificateType type;
+    private Long participantId;
+    private String participantName;
+    private Long eventId;
+    private String eventTitle;
+    private Integer completionHours;
     
     public CertificateResult(String certificateId, String filePath, String verificationCode, CertificateType type) {
         this.certificateId = certificateId;
@@ -23,4 +29,14 @@ public class CertificateResult {
         this.type = type;
         this.generatedAt = LocalDateTime.now();
     }
+    
+    public CertificateResult(String certificateId, String filePath, String verificationCode, CertificateType type,
+                             ParticipantData participant, Event event) {
+        this(certificateId, filePath, verificationCode, type);
+        this.participantId = participant.getId();
+        this.participantName = participant.getName();
+        this.eventId = event.getId();
+        this.eventTitle = event.getTitle();
+        this.completionHours = participant.getAttendanceHours();
+    }
 }
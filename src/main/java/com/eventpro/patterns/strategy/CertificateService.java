@@ -1,6 +1,7 @@
 package com.eventpro.patterns.strategy;
 
 import com.eventpro.model.Event;
+import com.eventpro.service.CertificateIssuanceService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -15,47 +16,45 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class CertificateService {
     
-    private final CertificateGenerator generator;
+    private final CertificateBatchEngine batchEngine;
     private final CertificateStrategyFactory strategyFactory;
+    private final CertificateIssuanceService issuanceService;
     
-    public CertificateService(CertificateGenerator generator, CertificateStrategyFactory strategyFactory) {
-        this.generator = generator;
+    public CertificateService(CertificateBatchEngine batchEngine, CertificateStrategyFactory strategyFactory,
+                              CertificateIssuanceService issuanceService) {
+        this.batchEngine = batchEngine;
         this.strategyFactory = strategyFactory;
+        this.issuanceService = issuanceService;
     }
     
+    /**
+     * Start issuing certificates for an event: each rendered chunk is stored
+     * as Certificate rows while the next chunks render
+     */
+    public CertificateBatchEngine.BatchJob startEventCertificates(
+            List<ParticipantData> participants, Event event, boolean isPremium) {
+        return submit(participants, event, isPremium, true);
+    }
+    
+    /**
+     * Render certificates without storing them
+     */
     public CompletableFuture<List<CertificateResult>> generateEventCertificates(
             List<ParticipantData> participants, Event event, boolean isPremium) {
-        
+        return submit(participants, event, isPremium, false).getResults();
+    }
+    
+    private CertificateBatchEngine.BatchJob submit(List<ParticipantData> participants, Event event,
+                                                   boolean isPremium, boolean persist) {
         ICertificateStrategy strategy = strategyFactory.createStrategy(event.getType().name(), isPremium);
-        generator.setStrategy(strategy);
         
         log.info("📋 Generating certificates for {} participants", participants.size());
         log.info("🎯 Event: {} ({})", event.getTitle(), event.getType());
         log.info("⚙️ Strategy: {}", strategy.getStrategyName());
         
-        List<CompletableFuture<CertificateResult>> futures = participants.stream()
-                .map(participant -> generator.generateCertificate(participant, event)
-                        .thenApply(result -> {
-                            log.info("✅ Certificate generated for: {}", participant.getName());
-                            return result;
-                        })
-                        .exceptionally(throwable -> {
-                            log.error("❌ Failed to generate certificate for {}: {}", 
-                                    participant.getName(), throwable.getMessage());
-                            return null;
-                        }))
-                .toList();
-        
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> futures.stream()
-                        .map(CompletableFuture::join)
-                        .filter(result -> result != null)
-                        .toList())
-                .thenApply(results -> {
-                    log.info("🎉 Certificate generation completed. {}/{} certificates generated successfully", 
-                            results.size(), participants.size());
-                    return results;
-                });
+        return persist
+                ? batchEngine.submit(participants, event, strategy, issuanceService::issue)
+                : batchEngine.submit(participants, event, strategy);
     }
     
     public void demonstrateStrategy() {
@@ -1,5 +1,6 @@
 package com.eventpro.patterns.strategy;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -9,20 +10,23 @@ import java.util.List;
  * Factory for creating certificate strategies
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class CertificateStrategyFactory {
     
+    private final CertificateRenderer renderer;
+    
     public ICertificateStrategy createStrategy(String eventType, boolean isPremium) {
         log.debug("🏭 Creating certificate strategy for event type: {}, premium: {}", eventType, isPremium);
         
         if (isPremium) {
-            return new PremiumCertificateStrategy();
+            return new PremiumCertificateStrategy(renderer);
         }
         
         return switch (eventType.toLowerCase()) {
-            case "course", "workshop" -> new CompletionCertificateStrategy();
-            case "conference", "seminar", "webinar" -> new StandardCertificateStrategy();
-            default -> new StandardCertificateStrategy();
+            case "course", "workshop" -> new CompletionCertificateStrategy(renderer);
+            case "conference", "seminar", "webinar" -> new StandardCertificateStrategy(renderer);
+            default -> new StandardCertificateStrategy(renderer);
         };
     }
     
@@ -0,0 +1,33 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.CertificateType;
+import com.itextpdf.kernel.colors.DeviceRgb;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Static layout of a certificate type: headings, colours and border.
+ * Built once per type and shared by every render.
+ */
+record CertificateTemplate(CertificateType type,
+                           String heading,
+                           String statement,
+                           DeviceRgb accent,
+                           float borderWidth,
+                           boolean doubleBorder) {
+    
+    static Map<CertificateType, CertificateTemplate> defaults() {
+        Map<CertificateType, CertificateTemplate> templates = new EnumMap<>(CertificateType.class);
+        templates.put(CertificateType.STANDARD, new CertificateTemplate(CertificateType.STANDARD,
+                "CERTIFICADO DE PARTICIPACIÓN", "Por su participación en",
+                new DeviceRgb(0x1f, 0x4e, 0x79), 3f, false));
+        templates.put(CertificateType.COMPLETION, new CertificateTemplate(CertificateType.COMPLETION,
+                "CERTIFICADO DE FINALIZACIÓN", "Por haber completado satisfactoriamente",
+                new DeviceRgb(0x2e, 0x7d, 0x32), 3f, false));
+        templates.put(CertificateType.PREMIUM, new CertificateTemplate(CertificateType.PREMIUM,
+                "CERTIFICADO DE PARTICIPACIÓN PREMIUM", "Por su destacada participación en",
+                new DeviceRgb(0xb8, 0x86, 0x0b), 5f, true));
+        return templates;
+    }
+}
@@ -5,7 +5,7 @@ import com.eventpro.model.Event;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
 
 /**
  * Completion certificate strategy
@@ -13,38 +13,35 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 class CompletionCertificateStrategy implements ICertificateStrategy {
     
+    private final CertificateRenderer renderer;
+    
+    CompletionCertificateStrategy(CertificateRenderer renderer) {
+        this.renderer = renderer;
+    }
+    
     @Override
-    public CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("🎓 Generating completion certificate for: {}", participant.getName());
-                
-                // Validate attendance requirements
-                int requiredHours = (int) (event.getStartDate().until(event.getEndDate(), 
-                        java.time.temporal.ChronoUnit.HOURS) * 0.8);
-                
-                if (participant.getAttendanceHours() < requiredHours) {
-                    throw new IllegalArgumentException(
-                            String.format("Participant does not meet minimum hours requirement: %d", requiredHours));
-                }
-                
-                Thread.sleep(1500);
-                
-                String certificateId = "CERT-COMP-" + System.currentTimeMillis();
-                String verificationCode = generateCompletionCode(participant, event);
-                String filePath = "/certificates/completion/" + certificateId + ".pdf";
-                
-                log.info("🎯 Completion certificate generated: {}", certificateId);
-                log.info("📊 Hours completed: {}/{}", participant.getAttendanceHours(), requiredHours);
-                
-                return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.COMPLETION);
-                
-            } catch (InterruptedException e) {
-                log.error("❌ Error generating completion certificate: {}", e.getMessage());
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Completion certificate generation failed", e);
-            }
-        });
+    public CertificateResult render(ParticipantData participant, Event event) {
+        log.debug("🎓 Generating completion certificate for: {}", participant.getName());
+        
+        // Validate attendance requirements
+        int requiredHours = (int) (event.getStartDate().until(event.getEndDate(), 
+                java.time.temporal.ChronoUnit.HOURS) * 0.8);
+        
+        if (participant.getAttendanceHours() < requiredHours) {
+            throw new IllegalArgumentException(
+                    String.format("Participant does not meet minimum hours requirement: %d", requiredHours));
+        }
+        
+        String certificateId = "CERT-COMP-" + UUID.randomUUID();
+        String verificationCode = generateCompletionCode(participant, event);
+        String filePath = renderer.render(CertificateType.COMPLETION, certificateId, verificationCode,
+                participant, event).toString();
+        
+        log.debug("🎯 Completion certificate generated: {}", certificateId);
+        log.debug("📊 Hours completed: {}/{}", participant.getAttendanceHours(), requiredHours);
+        
+        return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.COMPLETION,
+                participant, event);
     }
     
     @Override
@@ -6,10 +6,22 @@ import com.eventpro.model.Event;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Strategy interface for certificate generation
+ * Strategy interface for certificate generation.
+ *
+ * Strategies are stateless: every input comes in through the call, so one
+ * instance can render for many threads at once.
  */
 interface ICertificateStrategy {
-    CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event);
+    
+    /**
+     * Render one certificate on the calling thread
+     */
+    CertificateResult render(ParticipantData participant, Event event);
+    
+    default CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event) {
+        return CompletableFuture.supplyAsync(() -> render(participant, event));
+    }
+    
     String getStrategyName();
     CertificateType getCertificateType();
 }
@@ -5,7 +5,6 @@ import com.eventpro.model.Event;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Premium certificate strategy
@@ -13,28 +12,25 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 class PremiumCertificateStrategy implements ICertificateStrategy {
     
+    private final CertificateRenderer renderer;
+    
+    PremiumCertificateStrategy(CertificateRenderer renderer) {
+        this.renderer = renderer;
+    }
+    
     @Override
-    public CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("🏆 Generating premium certificate for: {}", participant.getName());
-                
-                Thread.sleep(2000);
-                
-                String certificateId = "CERT-PREM-" + System.currentTimeMillis();
-                String verificationCode = generateSecureVerificationCode();
-                String filePath = "/certificates/premium/" + certificateId + ".pdf";
-                
-                log.info("✨ Premium certificate generated with special design: {}", certificateId);
-                
-                return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.PREMIUM);
-                
-            } catch (InterruptedException e) {
-                log.error("❌ Error generating premium certificate: {}", e.getMessage());
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Premium certificate generation failed", e);
-            }
-        });
+    public CertificateResult render(ParticipantData participant, Event event) {
+        log.debug("🏆 Generating premium certificate for: {}", participant.getName());
+        
+        String certificateId = "CERT-PREM-" + UUID.randomUUID();
+        String verificationCode = generateSecureVerificationCode();
+        String filePath = renderer.render(CertificateType.PREMIUM, certificateId, verificationCode,
+                participant, event).toString();
+        
+        log.debug("✨ Premium certificate generated with special design: {}", certificateId);
+        
+        return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.PREMIUM,
+                participant, event);
     }
     
     @Override
@@ -5,7 +5,6 @@ import com.eventpro.model.Event;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Standard certificate strategy
@@ -13,28 +12,25 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 class StandardCertificateStrategy implements ICertificateStrategy {
     
+    private final CertificateRenderer renderer;
+    
+    StandardCertificateStrategy(CertificateRenderer renderer) {
+        this.renderer = renderer;
+    }
+    
     @Override
-    public CompletableFuture<CertificateResult> generateCertificate(ParticipantData participant, Event event) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("📜 Generating standard certificate for: {}", participant.getName());
-                
-                Thread.sleep(1000);
-                
-                String certificateId = "CERT-STD-" + System.currentTimeMillis();
-                String verificationCode = generateVerificationCode();
-                String filePath = "/certificates/standard/" + certificateId + ".pdf";
-                
-                log.info("✅ Standard certificate generated: {}", certificateId);
-                
-                return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.STANDARD);
-                
-            } catch (InterruptedException e) {
-                log.error("❌ Error generating standard certificate: {}", e.getMessage());
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Certificate generation failed", e);
-            }
-        });
+    public CertificateResult render(ParticipantData participant, Event event) {
+        log.debug("📜 Generating standard certificate for: {}", participant.getName());
+        
+        String certificateId = "CERT-STD-" + UUID.randomUUID();
+        String verificationCode = generateVerificationCode();
+        String filePath = renderer.render(CertificateType.STANDARD, certificateId, verificationCode,
+                participant, event).toString();
+        
+        log.debug("✅ Standard certificate generated: {}", certificateId);
+        
+        return new CertificateResult(certificateId, filePath, verificationCode, CertificateType.STANDARD,
+                participant, event);
     }
     
     @Override
@@ -48,6 +44,7 @@ class StandardCertificateStrategy implements ICertificateStrategy {
     }
     
     private String generateVerificationCode() {
-        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        // 48 random bits keep collisions negligible even for events with tens of thousands of certificates
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
     }
 }
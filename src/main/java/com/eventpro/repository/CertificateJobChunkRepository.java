@@ -0,0 +1,35 @@
+package com.eventpro.repository;
+
+import com.eventpro.model.CertificateJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for CertificateJobChunk entity
+ */
+@Repository
+public interface CertificateJobChunkRepository extends JpaRepository<CertificateJobChunk, Long> {
+    
+    List<CertificateJobChunk> findByJobIdAndStatusOrderByChunkIndex(Long jobId, CertificateJobChunk.Status status);
+    
+    long countByJobIdAndStatus(Long jobId, CertificateJobChunk.Status status);
+    
+    /**
+     * Mark a chunk done; returns 0 if it already was, so progress is counted once
+     */
+    @Modifying
+    @Query("UPDATE CertificateJobChunk c SET c.status = :done, c.issued = :issued, c.skipped = :skipped, " +
+           "c.failed = :failed, c.completedAt = :completedAt WHERE c.id = :chunkId AND c.status <> :done")
+    int markDone(@Param("chunkId") Long chunkId,
+                 @Param("done") CertificateJobChunk.Status done,
+                 @Param("issued") int issued,
+                 @Param("skipped") int skipped,
+                 @Param("failed") int failed,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
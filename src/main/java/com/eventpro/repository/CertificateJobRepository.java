@@ -0,0 +1,42 @@
+package com.eventpro.repository;
+
+import com.eventpro.model.CertificateJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for CertificateJob entity
+ */
+@Repository
+public interface CertificateJobRepository extends JpaRepository<CertificateJob, Long> {
+    
+    List<CertificateJob> findByStatus(CertificateJob.Status status);
+    
+    List<CertificateJob> findByEventIdOrderByIdDesc(Long eventId);
+    
+    Optional<CertificateJob> findFirstByEventIdAndStatus(Long eventId, CertificateJob.Status status);
+    
+    // Counters are bumped in place because chunks of one job finish concurrently
+    @Modifying
+    @Query("UPDATE CertificateJob j SET j.completedChunks = j.completedChunks + 1, j.issued = j.issued + :issued, " +
+           "j.skipped = j.skipped + :skipped, j.failed = j.failed + :failed WHERE j.id = :jobId")
+    int addChunkProgress(@Param("jobId") Long jobId,
+                         @Param("issued") int issued,
+                         @Param("skipped") int skipped,
+                         @Param("failed") int failed);
+    
+    @Modifying
+    @Query("UPDATE CertificateJob j SET j.status = :completed, j.completedAt = :completedAt " +
+           "WHERE j.id = :jobId AND j.status = :running AND j.completedChunks >= j.totalChunks")
+    int completeIfFinished(@Param("jobId") Long jobId,
+                           @Param("running") CertificateJob.Status running,
+                           @Param("completed") CertificateJob.Status completed,
+                           @Param("completedAt") LocalDateTime completedAt);
+}
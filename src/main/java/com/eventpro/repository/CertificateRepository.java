@@ -2,11 +2,14 @@ package com.eventpro.repository;
 
 import com.eventpro.model.Certificate;
 import com.eventpro.model.CertificateType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,63 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
     boolean existsByCertificateId(String certificateId);
     
     boolean existsByVerificationCode(String verificationCode);
+    
+    boolean existsByEventId(Long eventId);
+    
+    // Bulk form of findByParticipantIdAndEventId for one chunk of participants
+    @Query("SELECT c.participant.id FROM Certificate c WHERE c.event.id = :eventId AND c.participant.id IN :participantIds")
+    List<Long> findIssuedParticipantIds(@Param("eventId") Long eventId,
+                                        @Param("participantIds") Collection<Long> participantIds);
+    
+    // Keyset page of an event's certificate files, for streaming bundles
+    @Query("SELECT c.id AS id, c.certificateId AS certificateId, c.filePath AS filePath FROM Certificate c " +
+           "WHERE c.event.id = :eventId AND c.id > :afterId ORDER BY c.id")
+    List<CertificateFileEntry> findFileEntries(@Param("eventId") Long eventId,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+    
+    interface CertificateFileEntry {
+        Long getId();
+        String getCertificateId();
+        String getFilePath();
+    }
+    
+    // Keyset page of what the verification index needs, without loading entities
+    @Query("SELECT c.id AS id, c.certificateId AS certificateId, c.verificationCode AS verificationCode, " +
+           "c.type AS type, c.issuedDate AS issuedDate, c.createdAt AS createdAt, u.firstName AS firstName, " +
+           "u.lastName AS lastName, e.id AS eventId, e.title AS eventTitle " +
+           "FROM Certificate c JOIN c.participant u JOIN c.event e " +
+           "WHERE c.id > :afterId ORDER BY c.id")
+    List<VerificationEntry> findVerificationEntries(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Keyset page by insertion time, so rows whose ids commit out of order are still found
+    @Query("SELECT c.id AS id, c.certificateId AS certificateId, c.verificationCode AS verificationCode, " +
+           "c.type AS type, c.issuedDate AS issuedDate, c.createdAt AS createdAt, u.firstName AS firstName, " +
+           "u.lastName AS lastName, e.id AS eventId, e.title AS eventTitle " +
+           "FROM Certificate c JOIN c.participant u JOIN c.event e " +
+           "WHERE c.createdAt > :afterTime OR (c.createdAt = :afterTime AND c.id > :afterId) " +
+           "ORDER BY c.createdAt, c.id")
+    List<VerificationEntry> findVerificationEntriesCreatedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                                                @Param("afterId") Long afterId,
+                                                                Pageable pageable);
+    
+    @Query("SELECT c.id AS id, c.certificateId AS certificateId, c.verificationCode AS verificationCode, " +
+           "c.type AS type, c.issuedDate AS issuedDate, c.createdAt AS createdAt, u.firstName AS firstName, " +
+           "u.lastName AS lastName, e.id AS eventId, e.title AS eventTitle " +
+           "FROM Certificate c JOIN c.participant u JOIN c.event e " +
+           "WHERE c.verificationCode = :verificationCode")
+    Optional<VerificationEntry> findVerificationEntry(@Param("verificationCode") String verificationCode);
+    
+    interface VerificationEntry {
+        Long getId();
+        String getCertificateId();
+        String getVerificationCode();
+        CertificateType getType();
+        LocalDateTime getIssuedDate();
+        LocalDateTime getCreatedAt();
+        String getFirstName();
+        String getLastName();
+        Long getEventId();
+        String getEventTitle();
+    }
 }
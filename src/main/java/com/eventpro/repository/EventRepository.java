@@ -33,11 +33,45 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.startDate > :now AND e.status = :status ORDER BY e.startDate ASC")
     List<Event> findUpcomingEvents(@Param("now") LocalDateTime now, @Param("status") EventStatus status);
     
+    @Query("SELECT e FROM Event e WHERE e.startDate > :now AND e.status = :status ORDER BY e.startDate ASC, e.id ASC")
+    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now, @Param("status") EventStatus status, 
+                                   Pageable pageable);
+    
+    @Query("SELECT e FROM Event e WHERE e.startDate > :now AND e.startDate BETWEEN :from AND :to " +
+           "AND e.status = :status ORDER BY e.startDate ASC, e.id ASC")
+    List<Event> findUpcomingEventsBetween(@Param("now") LocalDateTime now, @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to, @Param("status") EventStatus status,
+                                          Pageable pageable);
+    
     // Find events by date range
     @Query("SELECT e FROM Event e WHERE e.startDate BETWEEN :startDate AND :endDate")
     List<Event> findEventsByDateRange(@Param("startDate") LocalDateTime startDate, 
                                      @Param("endDate") LocalDateTime endDate);
     
+    // Walk events in id order without OFFSET scans
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    List<Event> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    
+    List<Event> findAllByOrderByIdAsc(Pageable pageable);
+    
+    List<Event> findAllByOrderByIdDesc(Pageable pageable);
+    
+    // Keyset pagination on (startDate, id)
+    List<Event> findAllByOrderByStartDateAscIdAsc(Pageable pageable);
+    
+    List<Event> findAllByOrderByStartDateDescIdDesc(Pageable pageable);
+    
+    @Query("SELECT e FROM Event e WHERE e.startDate > :startDate OR " +
+           "(e.startDate = :startDate AND e.id > :id) ORDER BY e.startDate ASC, e.id ASC")
+    List<Event> findNextByStartDateAsc(@Param("startDate") LocalDateTime startDate, 
+                                       @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT e FROM Event e WHERE e.startDate < :startDate OR " +
+           "(e.startDate = :startDate AND e.id < :id) ORDER BY e.startDate DESC, e.id DESC")
+    List<Event> findNextByStartDateDesc(@Param("startDate") LocalDateTime startDate, 
+                                        @Param("id") Long id, Pageable pageable);
+    
     // Search events by title or description
     @Query("SELECT e FROM Event e WHERE " +
            "LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -59,6 +93,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT SUM(e.currentAttendees) FROM Event e WHERE e.status = :status")
     Long getTotalAttendeesByStatus(@Param("status") EventStatus status);
     
+    @Query("SELECT e.maxAttendees FROM Event e WHERE e.id = :id")
+    Optional<Integer> findMaxAttendeesById(@Param("id") Long id);
+    
+    // Status and attendees of a single event, without loading the entity
+    Optional<StatusView> findStatusViewById(Long id);
+    
+    interface StatusView {
+        EventStatus getStatus();
+        Integer getCurrentAttendees();
+    }
+    
     // Find events requiring certificates
     @Query("SELECT e FROM Event e WHERE e.status = :status AND e.endDate < :now")
     List<Event> findCompletedEventsForCertificates(@Param("status") EventStatus status, 
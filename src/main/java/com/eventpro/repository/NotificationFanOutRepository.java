@@ -0,0 +1,19 @@
+package com.eventpro.repository;
+
+import com.eventpro.model.NotificationFanOut;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for NotificationFanOut entity
+ */
+@Repository
+public interface NotificationFanOutRepository extends JpaRepository<NotificationFanOut, Long> {
+    
+    Optional<NotificationFanOut> findByDedupeKey(String dedupeKey);
+    
+    List<NotificationFanOut> findByStatus(NotificationFanOut.Status status);
+}
@@ -0,0 +1,58 @@
+package com.eventpro.repository;
+
+import com.eventpro.model.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxMessage entity
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+    
+    /**
+     * Lock the oldest pending messages, skipping rows already locked by another dispatcher
+     * (lock timeout -2 is rendered as SKIP LOCKED where the database supports it)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m WHERE m.status = :status ORDER BY m.id")
+    List<OutboxMessage> findBatchForClaim(@Param("status") OutboxMessage.Status status, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.deliveredAt = :deliveredAt WHERE m.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids,
+                      @Param("status") OutboxMessage.Status status,
+                      @Param("deliveredAt") LocalDateTime deliveredAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.handledBy = :handledBy WHERE m.id = :id")
+    int updateHandledBy(@Param("id") Long id, @Param("handledBy") String handledBy);
+    
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :releasedStatus " +
+           "WHERE m.status = :claimedStatus AND m.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedStatus") OutboxMessage.Status claimedStatus,
+                           @Param("releasedStatus") OutboxMessage.Status releasedStatus,
+                           @Param("claimedBefore") LocalDateTime claimedBefore);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = :status AND m.deliveredAt < :deliveredBefore")
+    int deleteByStatusAndDeliveredAtBefore(@Param("status") OutboxMessage.Status status,
+                                           @Param("deliveredBefore") LocalDateTime deliveredBefore);
+    
+    boolean existsByDedupeKey(String dedupeKey);
+    
+    long countByStatus(OutboxMessage.Status status);
+    
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxMessage.Status status);
+}
@@ -0,0 +1,39 @@
+package com.eventpro.repository;
+
+import com.eventpro.model.PendingNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for PendingNotification entity
+ */
+@Repository
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, Long> {
+    
+    List<PendingNotification> findByCoalescingKeyIn(Collection<String> coalescingKeys);
+    
+    @Query("SELECT p FROM PendingNotification p WHERE p.dueAt <= :now AND p.kind IN :kinds ORDER BY p.dueAt, p.id")
+    List<PendingNotification> findDue(@Param("now") LocalDateTime now,
+                                      @Param("kinds") Collection<String> kinds,
+                                      Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM PendingNotification p WHERE p.id = :id AND p.revision = :revision")
+    int deleteSent(@Param("id") Long id, @Param("revision") Integer revision);
+    
+    @Modifying
+    @Query("UPDATE PendingNotification p SET p.dueAt = :dueAt WHERE p.id = :id AND p.revision = :revision")
+    int reschedule(@Param("id") Long id, @Param("revision") Integer revision, @Param("dueAt") LocalDateTime dueAt);
+    
+    @Modifying
+    @Query("DELETE FROM PendingNotification p WHERE p.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
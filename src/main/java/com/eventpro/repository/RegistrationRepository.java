@@ -2,6 +2,7 @@ package com.eventpro.repository;
 
 import com.eventpro.model.Registration;
 import com.eventpro.model.RegistrationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,5 +36,44 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
     @Query("SELECT r FROM Registration r WHERE r.attended = true AND r.status = :status")
     List<Registration> findAttendedRegistrations(@Param("status") RegistrationStatus status);
     
+    @Query("SELECT r.user.id FROM Registration r WHERE r.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
+    
+    @Query("SELECT r.user.id FROM Registration r WHERE r.event.id = :eventId AND r.status = :status " +
+           "ORDER BY r.registrationDate ASC, r.id ASC")
+    List<Long> findUserIdsByEventIdAndStatusInOrder(@Param("eventId") Long eventId, 
+                                                    @Param("status") RegistrationStatus status);
+    
     boolean existsByUserIdAndEventId(Long userId, Long eventId);
+    
+    // Keyset page of registrant contact details, so large events can be streamed in chunks
+    @Query("SELECT r.id AS registrationId, u.id AS userId, u.email AS email, u.phone AS phone, " +
+           "u.emailNotifications AS emailNotifications FROM Registration r JOIN r.user u " +
+           "WHERE r.event.id = :eventId AND r.status <> :excludedStatus AND r.id > :afterId ORDER BY r.id")
+    List<RegistrantContact> findRegistrantContacts(@Param("eventId") Long eventId,
+                                                   @Param("excludedStatus") RegistrationStatus excludedStatus,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+    
+    // Same rule as Registration.isEligibleForCertificate, evaluated in bulk to plan certificate jobs
+    @Query("SELECT r.id FROM Registration r WHERE r.event.id = :eventId AND r.attended = true " +
+           "AND r.status = :status AND r.id > :afterId ORDER BY r.id")
+    List<Long> findCertificateCandidateIds(@Param("eventId") Long eventId,
+                                           @Param("status") RegistrationStatus status,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+    
+    @Query("SELECT r FROM Registration r JOIN FETCH r.user WHERE r.event.id = :eventId " +
+           "AND r.id BETWEEN :firstId AND :lastId ORDER BY r.id")
+    List<Registration> findWithUserByEventIdAndIdBetween(@Param("eventId") Long eventId,
+                                                         @Param("firstId") Long firstId,
+                                                         @Param("lastId") Long lastId);
+    
+    interface RegistrantContact {
+        Long getRegistrationId();
+        Long getUserId();
+        String getEmail();
+        String getPhone();
+        Boolean getEmailNotifications();
+    }
 }
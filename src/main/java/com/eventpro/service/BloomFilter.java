@@ -0,0 +1,88 @@
+package com.eventpro.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings.
+ *
+ * Bits live in an AtomicLongArray so readers never block writers; k probe
+ * positions come from double hashing a single 64-bit hash of the key.
+ */
+class BloomFilter {
+    
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+    
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / this.expectedInsertions * ln2));
+    }
+    
+    void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+    
+    /**
+     * False means the key was never added; true means it probably was
+     */
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+    
+    long getSizeInBytes() {
+        return bitCount / 8;
+    }
+    
+    int getHashFunctions() {
+        return hashFunctions;
+    }
+    
+    // 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
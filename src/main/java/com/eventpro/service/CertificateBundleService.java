@@ -0,0 +1,112 @@
+package com.eventpro.service;
+
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.CertificateRepository.CertificateFileEntry;
+import com.eventpro.service.CertificateFileService.CertificateFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Service class for streaming every certificate of an event as one ZIP.
+ *
+ * Certificates are read from the table in keyset pages and each PDF is
+ * copied through one fixed buffer in a single pass. PDFs are already
+ * compressed, so entries are DEFLATED at NO_COMPRESSION level: the data goes
+ * out as stored blocks and the CRC and sizes follow in a data descriptor, so
+ * no pass is needed to compute them up front. Memory stays constant whatever
+ * the event size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CertificateBundleService {
+    
+    private static final int PAGE_SIZE = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String MISSING_ENTRY = "certificados-no-encontrados.txt";
+    
+    private final CertificateRepository certificateRepository;
+    private final CertificateFileService certificateFileService;
+    
+    public boolean hasCertificates(Long eventId) {
+        return certificateRepository.existsByEventId(eventId);
+    }
+    
+    /**
+     * Write the event's certificates to the stream as a ZIP archive
+     */
+    public void writeBundle(Long eventId, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        List<String> missing = new ArrayList<>();
+        int written = 0;
+        
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        long lastId = 0L;
+        List<CertificateFileEntry> page;
+        do {
+            page = certificateRepository.findFileEntries(eventId, lastId, PageRequest.ofSize(PAGE_SIZE));
+            for (CertificateFileEntry entry : page) {
+                lastId = entry.getId();
+                Optional<CertificateFile> file = certificateFileService.resolve(entry.getCertificateId(), entry.getFilePath());
+                if (file.isPresent() && writeEntry(zip, file.get(), buffer)) {
+                    written++;
+                } else {
+                    missing.add(entry.getCertificateId());
+                }
+            }
+            // Push what is buffered so the client sees progress page by page
+            zip.flush();
+        } while (page.size() == PAGE_SIZE);
+        
+        if (!missing.isEmpty()) {
+            byte[] listing = String.join("\n", missing).concat("\n").getBytes(StandardCharsets.UTF_8);
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(MISSING_ENTRY));
+            zip.write(listing);
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+        log.info("📦 Streamed certificate bundle for event {}: {} files, {} missing in {} ms",
+                eventId, written, missing.size(), System.currentTimeMillis() - start);
+    }
+    
+    private boolean writeEntry(ZipOutputStream zip, CertificateFile file, byte[] buffer) throws IOException {
+        InputStream in;
+        try {
+            in = Files.newInputStream(file.path());
+        } catch (IOException e) {
+            log.warn("⚠️ Skipping unreadable certificate file {}: {}", file.path(), e.getMessage());
+            return false;
+        }
+        
+        // The header is on the wire once the entry starts, so a read error from here on fails the download
+        try (in) {
+            ZipEntry entry = new ZipEntry(file.downloadName());
+            entry.setTime(file.lastModified());
+            zip.putNextEntry(entry);
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                zip.write(buffer, 0, read);
+            }
+            zip.closeEntry();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Certificate;
+import com.eventpro.repository.CertificateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * Service class for locating certificate files on disk.
+ *
+ * Only files inside eventpro.certificates.storage-path are ever served, so a
+ * tampered file_path cannot point a download at the rest of the filesystem.
+ * The renderer stores paths that already start with that setting, so with a
+ * relative storage path they are resolved against the working directory like
+ * the root itself; any other relative path is taken relative to the root.
+ */
+@Service
+@Slf4j
+public class CertificateFileService {
+    
+    private final CertificateRepository certificateRepository;
+    private final Path configuredRoot;
+    private final Path storageRoot;
+    
+    public CertificateFileService(CertificateRepository certificateRepository,
+                                  @Value("${eventpro.certificates.storage-path:/certificates}") String storagePath) {
+        this.certificateRepository = certificateRepository;
+        this.configuredRoot = Path.of(storagePath).normalize();
+        this.storageRoot = configuredRoot.toAbsolutePath().normalize();
+    }
+    
+    /**
+     * The stored PDF of a certificate, if it exists under the storage root
+     */
+    public Optional<CertificateFile> findFile(String certificateId) {
+        return certificateRepository.findByCertificateId(certificateId)
+                .map(Certificate::getFilePath)
+                .flatMap(filePath -> resolve(certificateId, filePath));
+    }
+    
+    /**
+     * Resolve a stored file path, refusing anything outside the storage root
+     */
+    public Optional<CertificateFile> resolve(String certificateId, String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            return Optional.empty();
+        }
+        Path stored = Path.of(filePath).normalize();
+        Path path = (stored.startsWith(configuredRoot) ? stored : storageRoot.resolve(stored)).toAbsolutePath().normalize();
+        if (!path.startsWith(storageRoot)) {
+            log.warn("⚠️ Certificate {} points outside the storage path: {}", certificateId, filePath);
+            return Optional.empty();
+        }
+        try {
+            // A symlink could still lead out of the storage root
+            if (!path.toRealPath().startsWith(storageRoot.toRealPath())) {
+                log.warn("⚠️ Certificate {} resolves outside the storage path: {}", certificateId, filePath);
+                return Optional.empty();
+            }
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String etag = "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"";
+            return Optional.of(new CertificateFile(path, attributes.size(), lastModified, etag,
+                    certificateId + ".pdf"));
+        } catch (IOException e) {
+            log.warn("⚠️ Certificate file for {} is not readable: {}", certificateId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * A certificate PDF on disk and the validators used for conditional requests
+     */
+    public record CertificateFile(Path path, long size, long lastModified, String etag, String downloadName) {}
+}
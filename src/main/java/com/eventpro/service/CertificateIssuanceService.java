@@ -0,0 +1,224 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Certificate;
+import com.eventpro.model.Event;
+import com.eventpro.model.User;
+import com.eventpro.patterns.strategy.CertificateResult;
+import com.eventpro.service.CertificateVerificationService.CertificateSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Service class for turning generated certificates into Certificate rows.
+ *
+ * Certificates are inserted in JDBC batches: ids come from a pooled sequence,
+ * so Hibernate can group the inserts, and uniqueness of certificate ids,
+ * verification codes and one certificate per participant and event is left
+ * to the unique constraints instead of a query per row. A batch that trips a
+ * constraint is retried row by row so that only the offending rows are lost:
+ * a row whose participant already holds a certificate for the event is a
+ * duplicate, a row whose certificate id or verification code is taken is
+ * rendered again with fresh codes, and any other error counts as a failure.
+ * The rendered PDFs of rows that were not stored are deleted, unless a stored
+ * certificate already points at the same file.
+ */
+@Service
+@Slf4j
+public class CertificateIssuanceService {
+    
+    private static final int MAX_RERENDERS = 3;
+    private static final List<String> UNIQUE_CONSTRAINTS = List.of(
+            Certificate.UK_PARTICIPANT_EVENT, Certificate.UK_CERTIFICATE_ID, Certificate.UK_VERIFICATION_CODE);
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final TransactionTemplate transactionTemplate;
+    private final CertificateVerificationService verificationService;
+    private final int batchSize;
+    
+    public CertificateIssuanceService(PlatformTransactionManager transactionManager,
+                                      CertificateVerificationService verificationService,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.verificationService = verificationService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
+    /**
+     * Persist generated certificates and make them verifiable
+     */
+    public IssueResult issue(List<CertificateResult> results) {
+        return issue(results, null);
+    }
+    
+    /**
+     * Persist generated certificates, rendering a certificate again through
+     * {@code rerender} when its certificate id or verification code is taken
+     */
+    public IssueResult issue(List<CertificateResult> results, UnaryOperator<CertificateResult> rerender) {
+        int inserted = 0;
+        int duplicates = 0;
+        int failed = 0;
+        List<CertificateResult> unstored = new ArrayList<>();
+        for (int start = 0; start < results.size(); start += batchSize) {
+            List<CertificateResult> batch = results.subList(start, Math.min(start + batchSize, results.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(batch));
+                inserted += batch.size();
+                batch.forEach(this::index);
+            } catch (RuntimeException batchError) {
+                log.warn("⚠️ Certificate batch of {} rejected, retrying row by row: {}",
+                        batch.size(), rootMessage(batchError));
+                for (CertificateResult result : batch) {
+                    switch (storeRow(result, rerender, unstored)) {
+                        case STORED -> inserted++;
+                        case DUPLICATE -> duplicates++;
+                        case FAILED -> failed++;
+                    }
+                }
+            }
+        }
+        unstored.forEach(this::discardFile);
+        log.debug("💾 Stored {} certificates ({} duplicates, {} failed)", inserted, duplicates, failed);
+        return new IssueResult(inserted, duplicates, failed);
+    }
+    
+    private RowOutcome storeRow(CertificateResult result, UnaryOperator<CertificateResult> rerender,
+                                List<CertificateResult> unstored) {
+        CertificateResult attempt = result;
+        for (int rerenders = 0; ; rerenders++) {
+            try {
+                CertificateResult row = attempt;
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                index(row);
+                return RowOutcome.STORED;
+            } catch (RuntimeException e) {
+                unstored.add(attempt);
+                String constraint = violatedConstraint(e);
+                boolean codeTaken = Certificate.UK_CERTIFICATE_ID.equals(constraint)
+                        || Certificate.UK_VERIFICATION_CODE.equals(constraint);
+                // The database reports one violated constraint; a resubmitted row trips its codes first
+                if (Certificate.UK_PARTICIPANT_EVENT.equals(constraint) || (codeTaken && alreadyIssued(attempt))) {
+                    log.warn("⚠️ Certificate {} for participant {} already issued",
+                            attempt.getCertificateId(), attempt.getParticipantId());
+                    return RowOutcome.DUPLICATE;
+                }
+                if (!codeTaken || rerender == null || rerenders >= MAX_RERENDERS) {
+                    log.error("❌ Could not store certificate {}: {}", attempt.getCertificateId(), rootMessage(e));
+                    return RowOutcome.FAILED;
+                }
+                log.warn("⚠️ Certificate {} collided on {}, rendering it again", attempt.getCertificateId(), constraint);
+                try {
+                    attempt = rerender.apply(attempt);
+                } catch (RuntimeException renderError) {
+                    log.error("❌ Could not render certificate {} again: {}", attempt.getCertificateId(),
+                            renderError.getMessage());
+                    return RowOutcome.FAILED;
+                }
+            }
+        }
+    }
+    
+    private void persist(List<CertificateResult> batch) {
+        for (CertificateResult result : batch) {
+            entityManager.persist(Certificate.builder()
+                    .certificateId(result.getCertificateId())
+                    .verificationCode(result.getVerificationCode())
+                    .type(result.getType())
+                    .filePath(result.getFilePath())
+                    .completionHours(result.getCompletionHours())
+                    .issuedDate(result.getGeneratedAt())
+                    .participant(entityManager.getReference(User.class, result.getParticipantId()))
+                    .event(entityManager.getReference(Event.class, result.getEventId()))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    private boolean alreadyIssued(CertificateResult result) {
+        Long issued = transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT COUNT(c) FROM Certificate c " +
+                        "WHERE c.participant.id = :participantId AND c.event.id = :eventId", Long.class)
+                .setParameter("participantId", result.getParticipantId())
+                .setParameter("eventId", result.getEventId())
+                .getSingleResult());
+        return issued != null && issued > 0;
+    }
+    
+    private void discardFile(CertificateResult result) {
+        String filePath = result.getFilePath();
+        if (filePath == null || filePath.isBlank()) {
+            return;
+        }
+        try {
+            // Issuing the same result twice must not delete the stored certificate's file
+            Long owners = transactionTemplate.execute(status -> entityManager
+                    .createQuery("SELECT COUNT(c) FROM Certificate c WHERE c.filePath = :filePath", Long.class)
+                    .setParameter("filePath", filePath)
+                    .getSingleResult());
+            if (owners != null && owners == 0) {
+                Files.deleteIfExists(Path.of(filePath));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Could not delete unstored certificate file {}: {}", filePath, e.getMessage());
+        }
+    }
+    
+    private void index(CertificateResult result) {
+        verificationService.index(new CertificateSummary(result.getCertificateId(), result.getVerificationCode(),
+                result.getParticipantName(), result.getEventId(), result.getEventTitle(), result.getType(),
+                result.getGeneratedAt() != null ? result.getGeneratedAt() : LocalDateTime.now()));
+    }
+    
+    /**
+     * Name of the certificates unique constraint the error tripped, or null
+     * for any other error
+     */
+    private static String violatedConstraint(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                for (String constraint : UNIQUE_CONSTRAINTS) {
+                    if (name.contains(constraint)) {
+                        return constraint;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+    
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+    
+    /**
+     * Outcome of storing a set of certificates
+     */
+    public record IssueResult(int inserted, int duplicates, int failed) {}
+    
+    private enum RowOutcome {
+        STORED, DUPLICATE, FAILED
+    }
+}
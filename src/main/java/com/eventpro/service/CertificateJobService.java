@@ -0,0 +1,285 @@
+package com.eventpro.service;
+
+import com.eventpro.model.CertificateJob;
+import com.eventpro.model.CertificateJobChunk;
+import com.eventpro.model.Event;
+import com.eventpro.model.Registration;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.model.User;
+import com.eventpro.patterns.strategy.CertificateBatchEngine;
+import com.eventpro.patterns.strategy.CertificateService;
+import com.eventpro.patterns.strategy.ParticipantData;
+import com.eventpro.repository.CertificateJobChunkRepository;
+import com.eventpro.repository.CertificateJobRepository;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service class for resumable certificate generation jobs.
+ *
+ * Starting a job plans it up front: eligible registrations are walked by id
+ * and cut into chunks of contiguous id ranges, all stored with the job. Each
+ * chunk is rendered and persisted, then checkpointed as DONE. After a crash
+ * the RUNNING jobs are picked up at startup and only the chunks that were
+ * not checkpointed run again; participants of those chunks who already hold
+ * a certificate for the event are skipped with one query per chunk. A chunk
+ * whose certificates could not all be stored is left PENDING, so it runs
+ * again on the next start.
+ */
+@Service
+@Slf4j
+public class CertificateJobService {
+    
+    private static final int PLAN_PAGE_SIZE = 5000;
+    
+    private final CertificateJobRepository jobRepository;
+    private final CertificateJobChunkRepository chunkRepository;
+    private final RegistrationRepository registrationRepository;
+    private final CertificateRepository certificateRepository;
+    private final EventRepository eventRepository;
+    private final CertificateService certificateService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+    private final ExecutorService jobRunner;
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+    
+    public CertificateJobService(CertificateJobRepository jobRepository,
+                                 CertificateJobChunkRepository chunkRepository,
+                                 RegistrationRepository registrationRepository,
+                                 CertificateRepository certificateRepository,
+                                 EventRepository eventRepository,
+                                 CertificateService certificateService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${eventpro.certificates.jobs.chunk-size:250}") int chunkSize,
+                                 @Value("${eventpro.certificates.jobs.max-in-flight-chunks:8}") int maxInFlightChunks,
+                                 @Value("${eventpro.certificates.jobs.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.jobRepository = jobRepository;
+        this.chunkRepository = chunkRepository;
+        this.registrationRepository = registrationRepository;
+        this.certificateRepository = certificateRepository;
+        this.eventRepository = eventRepository;
+        this.certificateService = certificateService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxInFlightChunks = Math.max(1, maxInFlightChunks);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.jobRunner = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), runnable -> {
+            Thread thread = new Thread(runnable, "certificate-job-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Start certificate generation for an event, or return the job already
+     * running for it
+     */
+    public CertificateJob startJob(Long eventId, boolean premium) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new RuntimeException("Event not found with ID: " + eventId);
+        }
+        CertificateJob job;
+        synchronized (this) {
+            Optional<CertificateJob> running = jobRepository.findFirstByEventIdAndStatus(eventId, CertificateJob.Status.RUNNING);
+            job = running.orElseGet(() -> transactionTemplate.execute(status -> plan(eventId, premium)));
+        }
+        if (job.getStatus() == CertificateJob.Status.RUNNING) {
+            launch(job.getId());
+        }
+        return job;
+    }
+    
+    public Optional<CertificateJob> getJob(Long jobId) {
+        return jobRepository.findById(jobId);
+    }
+    
+    public List<CertificateJob> getJobsForEvent(Long eventId) {
+        return jobRepository.findByEventIdOrderByIdDesc(eventId);
+    }
+    
+    /**
+     * Pick up jobs a previous run of the application did not finish
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (CertificateJob job : jobRepository.findByStatus(CertificateJob.Status.RUNNING)) {
+            log.info("♻️ Resuming certificate job {} for event {}: {}/{} chunks done",
+                    job.getId(), job.getEventId(), job.getCompletedChunks(), job.getTotalChunks());
+            launch(job.getId());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+    }
+    
+    private CertificateJob plan(Long eventId, boolean premium) {
+        CertificateJob job = jobRepository.save(CertificateJob.builder().eventId(eventId).premium(premium).build());
+        
+        List<CertificateJobChunk> chunks = new ArrayList<>();
+        List<Long> pending = new ArrayList<>(chunkSize);
+        int eligible = 0;
+        long lastId = 0L;
+        List<Long> page;
+        do {
+            page = registrationRepository.findCertificateCandidateIds(eventId, RegistrationStatus.CONFIRMED,
+                    lastId, PageRequest.ofSize(PLAN_PAGE_SIZE));
+            for (Long registrationId : page) {
+                pending.add(registrationId);
+                if (pending.size() == chunkSize) {
+                    chunks.add(chunk(job.getId(), chunks.size(), pending));
+                    pending.clear();
+                }
+            }
+            eligible += page.size();
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1);
+            }
+        } while (page.size() == PLAN_PAGE_SIZE);
+        if (!pending.isEmpty()) {
+            chunks.add(chunk(job.getId(), chunks.size(), pending));
+        }
+        chunkRepository.saveAll(chunks);
+        
+        job.setEligibleParticipants(eligible);
+        job.setTotalChunks(chunks.size());
+        if (chunks.isEmpty()) {
+            job.setStatus(CertificateJob.Status.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+        }
+        log.info("🗂️ Planned certificate job {} for event {}: {} eligible participants in {} chunks",
+                job.getId(), eventId, eligible, chunks.size());
+        return jobRepository.save(job);
+    }
+    
+    private CertificateJobChunk chunk(Long jobId, int index, List<Long> registrationIds) {
+        return CertificateJobChunk.builder()
+                .jobId(jobId)
+                .chunkIndex(index)
+                .firstRegistrationId(registrationIds.get(0))
+                .lastRegistrationId(registrationIds.get(registrationIds.size() - 1))
+                .build();
+    }
+    
+    private void launch(Long jobId) {
+        if (!activeJobs.add(jobId)) {
+            return;
+        }
+        try {
+            jobRunner.execute(() -> {
+                try {
+                    run(jobId);
+                } catch (Exception e) {
+                    log.error("❌ Certificate job {} stopped, it will resume on the next start: {}", jobId, e.getMessage());
+                } finally {
+                    activeJobs.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+        }
+    }
+    
+    private void run(Long jobId) throws InterruptedException {
+        CertificateJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Certificate job not found with ID: " + jobId));
+        Event event = eventRepository.findById(job.getEventId())
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + job.getEventId()));
+        List<CertificateJobChunk> chunks = chunkRepository.findByJobIdAndStatusOrderByChunkIndex(jobId,
+                CertificateJobChunk.Status.PENDING);
+        
+        Semaphore window = new Semaphore(maxInFlightChunks);
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (CertificateJobChunk chunk : chunks) {
+            window.acquire();
+            CompletableFuture<Void> done;
+            try {
+                done = processChunk(job, event, chunk);
+            } catch (RuntimeException e) {
+                window.release();
+                throw e;
+            }
+            done.whenComplete((ignored, error) -> window.release());
+            inFlight.add(done);
+            inFlight.removeIf(CompletableFuture::isDone);
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        
+        if (transactionTemplate.execute(status -> jobRepository.completeIfFinished(jobId,
+                CertificateJob.Status.RUNNING, CertificateJob.Status.COMPLETED, LocalDateTime.now())) > 0) {
+            CertificateJob finished = jobRepository.findById(jobId).orElse(job);
+            log.info("🎉 Certificate job {} for event {} completed: {} issued, {} skipped, {} failed",
+                    jobId, finished.getEventId(), finished.getIssued(), finished.getSkipped(), finished.getFailed());
+        }
+    }
+    
+    private CompletableFuture<Void> processChunk(CertificateJob job, Event event, CertificateJobChunk chunk) {
+        List<ParticipantData> eligible = registrationRepository.findWithUserByEventIdAndIdBetween(job.getEventId(),
+                        chunk.getFirstRegistrationId(), chunk.getLastRegistrationId()).stream()
+                .filter(Registration::isEligibleForCertificate)
+                .map(this::toParticipant)
+                .toList();
+        if (eligible.isEmpty()) {
+            checkpoint(chunk, 0, 0, 0);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        Set<Long> alreadyIssued = new HashSet<>(certificateRepository.findIssuedParticipantIds(job.getEventId(),
+                eligible.stream().map(ParticipantData::getId).toList()));
+        List<ParticipantData> toIssue = eligible.stream()
+                .filter(participant -> !alreadyIssued.contains(participant.getId()))
+                .toList();
+        int skipped = eligible.size() - toIssue.size();
+        if (toIssue.isEmpty()) {
+            checkpoint(chunk, 0, skipped, 0);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        CertificateBatchEngine.BatchJob batch = certificateService.startEventCertificates(toIssue, event,
+                Boolean.TRUE.equals(job.getPremium()));
+        return batch.getResults().handle((results, error) -> {
+            if (error != null) {
+                // Leave the chunk pending so the next run redoes it
+                log.error("❌ Chunk {} of certificate job {} did not finish: {}",
+                        chunk.getChunkIndex(), job.getId(), error.getMessage());
+                return null;
+            }
+            // Certificates issued by a concurrent run count as skipped; failed ones could not be rendered
+            checkpoint(chunk, (int) batch.getPersisted(), skipped + (int) batch.getDuplicates(), (int) batch.getFailed());
+            return null;
+        });
+    }
+    
+    private void checkpoint(CertificateJobChunk chunk, int issued, int skipped, int failed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (chunkRepository.markDone(chunk.getId(), CertificateJobChunk.Status.DONE,
+                    issued, skipped, failed, LocalDateTime.now()) > 0) {
+                jobRepository.addChunkProgress(chunk.getJobId(), issued, skipped, failed);
+            }
+        });
+    }
+    
+    private ParticipantData toParticipant(Registration registration) {
+        User user = registration.getUser();
+        Integer hours = registration.getAttendanceHours() != null ? registration.getAttendanceHours() : 0;
+        return new ParticipantData(user.getId(), user.getFirstName() + " " + user.getLastName(), user.getEmail(),
+                hours, registration.getAttended());
+    }
+}
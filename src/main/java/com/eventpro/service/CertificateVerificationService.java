@@ -0,0 +1,224 @@
+package com.eventpro.service;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.CertificateRepository.VerificationEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service class for public certificate verification.
+ *
+ * Keeps every issued verification code in memory: a Bloom filter answers
+ * "never issued" without touching the database, and a hash index maps real
+ * codes to a small summary. Both are rebuilt from the certificates table at
+ * startup and then follow new rows by created_at. Ids are allocated before
+ * commit, so a lower id can become visible after a higher one; each catch-up
+ * therefore rescans an overlap window behind the newest row it has seen, which
+ * must be longer than the slowest transaction inserting certificates. Only a
+ * Bloom false positive, or a lookup before the index is ready, goes to the
+ * database.
+ */
+@Service
+@Slf4j
+public class CertificateVerificationService {
+    
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_CODE_LENGTH = 64;
+    
+    private final CertificateRepository certificateRepository;
+    private final long expectedCertificates;
+    private final double falsePositiveRate;
+    private final Duration catchUpOverlap;
+    
+    private final Object writeLock = new Object();
+    private volatile BloomFilter filter;
+    private volatile Map<String, CertificateSummary> index = new ConcurrentHashMap<>();
+    private volatile LocalDateTime caughtUpTo;
+    private volatile boolean ready = false;
+    
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder rejectedByFilter = new LongAdder();
+    private final LongAdder indexHits = new LongAdder();
+    private final LongAdder databaseLookups = new LongAdder();
+    
+    public CertificateVerificationService(CertificateRepository certificateRepository,
+                                          @Value("${eventpro.certificates.verification.expected-certificates:1000000}") long expectedCertificates,
+                                          @Value("${eventpro.certificates.verification.false-positive-rate:0.01}") double falsePositiveRate,
+                                          @Value("${eventpro.certificates.verification.catch-up-overlap-ms:60000}") long catchUpOverlapMillis) {
+        this.certificateRepository = certificateRepository;
+        this.expectedCertificates = Math.max(1, expectedCertificates);
+        this.falsePositiveRate = Math.min(Math.max(falsePositiveRate, 1e-6), 0.5);
+        this.catchUpOverlap = Duration.ofMillis(Math.max(0, catchUpOverlapMillis));
+        this.filter = new BloomFilter(this.expectedCertificates, this.falsePositiveRate);
+    }
+    
+    /**
+     * Load every issued certificate, walking the table by id
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("🔐 Building certificate verification index");
+        long start = System.currentTimeMillis();
+        LocalDateTime scanStart = LocalDateTime.now();
+        
+        Map<String, CertificateSummary> entries = new HashMap<>();
+        Map<Long, String> eventTitles = new HashMap<>();
+        long lastId = 0L;
+        List<VerificationEntry> batch;
+        do {
+            batch = certificateRepository.findVerificationEntries(lastId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (VerificationEntry entry : batch) {
+                CertificateSummary summary = toSummary(entry, eventTitles);
+                entries.put(summary.verificationCode(), summary);
+                lastId = entry.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        
+        synchronized (writeLock) {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedCertificates, 2L * entries.size()), falsePositiveRate);
+            entries.keySet().forEach(rebuilt::put);
+            Map<String, CertificateSummary> rebuiltIndex = new ConcurrentHashMap<>(entries);
+            // Codes indexed directly while the table was being read
+            index.forEach((code, summary) -> {
+                rebuiltIndex.putIfAbsent(code, summary);
+                rebuilt.put(code);
+            });
+            filter = rebuilt;
+            index = rebuiltIndex;
+            if (caughtUpTo == null || caughtUpTo.isBefore(scanStart)) {
+                caughtUpTo = scanStart;
+            }
+            ready = true;
+        }
+        log.info("✅ Certificate verification index built: {} codes, {} KB filter in {} ms",
+                entries.size(), filter.getSizeInBytes() / 1024, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Pick up certificates stored since the last rebuild or catch-up, rescanning
+     * the overlap window for rows that committed late
+     */
+    @Scheduled(fixedDelayString = "${eventpro.certificates.verification.catch-up-interval-ms:5000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        Map<Long, String> eventTitles = new HashMap<>();
+        LocalDateTime newest = caughtUpTo;
+        LocalDateTime afterTime = newest.minus(catchUpOverlap);
+        long afterId = 0L;
+        List<VerificationEntry> batch;
+        do {
+            batch = certificateRepository.findVerificationEntriesCreatedAfter(afterTime, afterId,
+                    PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (VerificationEntry entry : batch) {
+                if (!index.containsKey(entry.getVerificationCode())) {
+                    index(toSummary(entry, eventTitles));
+                }
+                afterTime = entry.getCreatedAt();
+                afterId = entry.getId();
+                if (afterTime.isAfter(newest)) {
+                    newest = afterTime;
+                }
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        caughtUpTo = newest;
+    }
+    
+    /**
+     * Make a newly issued certificate verifiable right away
+     */
+    public void index(CertificateSummary summary) {
+        synchronized (writeLock) {
+            index.put(summary.verificationCode(), summary);
+            filter.put(summary.verificationCode());
+            if (index.size() > filter.getExpectedInsertions()) {
+                // Past its sizing the filter's false-positive rate climbs, so grow it from the index
+                BloomFilter grown = new BloomFilter(2L * index.size(), falsePositiveRate);
+                index.keySet().forEach(grown::put);
+                filter = grown;
+                log.info("📈 Certificate verification filter grown to {} codes", grown.getExpectedInsertions());
+            }
+        }
+    }
+    
+    /**
+     * Look up a verification code
+     */
+    public Optional<CertificateSummary> verify(String verificationCode) {
+        lookups.increment();
+        if (verificationCode == null) {
+            return Optional.empty();
+        }
+        String code = verificationCode.trim();
+        if (code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+            rejectedByFilter.increment();
+            return Optional.empty();
+        }
+        if (ready) {
+            if (!filter.mightContain(code)) {
+                rejectedByFilter.increment();
+                return Optional.empty();
+            }
+            CertificateSummary summary = index.get(code);
+            if (summary != null) {
+                indexHits.increment();
+                return Optional.of(summary);
+            }
+        }
+        databaseLookups.increment();
+        return certificateRepository.findVerificationEntry(code).map(entry -> toSummary(entry, new HashMap<>()));
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Index size and how lookups were answered
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("ready", ready);
+        statistics.put("indexedCodes", index.size());
+        statistics.put("filterBytes", filter.getSizeInBytes());
+        statistics.put("filterHashFunctions", filter.getHashFunctions());
+        statistics.put("lookups", lookups.sum());
+        statistics.put("rejectedByFilter", rejectedByFilter.sum());
+        statistics.put("indexHits", indexHits.sum());
+        statistics.put("databaseLookups", databaseLookups.sum());
+        statistics.put("caughtUpTo", caughtUpTo);
+        return statistics;
+    }
+    
+    private CertificateSummary toSummary(VerificationEntry entry, Map<Long, String> eventTitles) {
+        // Share one title string per event instead of one copy per certificate
+        String eventTitle = eventTitles.computeIfAbsent(entry.getEventId(), id -> entry.getEventTitle());
+        return new CertificateSummary(entry.getCertificateId(), entry.getVerificationCode(),
+                entry.getFirstName() + " " + entry.getLastName(), entry.getEventId(), eventTitle,
+                entry.getType(), entry.getIssuedDate());
+    }
+    
+    /**
+     * What a verifier is shown for a valid code
+     */
+    public record CertificateSummary(String certificateId,
+                                     String verificationCode,
+                                     String participantName,
+                                     Long eventId,
+                                     String eventTitle,
+                                     CertificateType type,
+                                     LocalDateTime issuedDate) {}
+}
@@ -0,0 +1,255 @@
+package com.eventpro.service;
+
+import com.eventpro.model.RegistrationStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for bulk check-in and check-out scans.
+ *
+ * Scans are deduplicated in memory and acknowledged right away; a scheduled
+ * flush applies them to the registrations table with batched UPDATEs that
+ * mirror Registration.checkIn() and Registration.checkOut(). Attendance hours
+ * are computed from the stored check-in time, never from scanner state, and a
+ * scan whose UPDATE matched no row is forgotten so a later scan can retry it.
+ * A check-out that arrives before its check-in is stored waits in the queue
+ * for the next flushes, like a scan whose flush failed.
+ */
+@Service
+@Slf4j
+public class CheckInService {
+    
+    private static final String CHECK_IN_SQL =
+            "UPDATE registrations SET check_in_time = ?, attended = TRUE, updated_at = ? " +
+            "WHERE id = ? AND check_in_time IS NULL AND status = '" + RegistrationStatus.CONFIRMED.name() + "'";
+    // Guarded on the check-in time that was read, so the hours always match the stored row
+    private static final String CHECK_OUT_SQL =
+            "UPDATE registrations SET check_out_time = ?, attendance_hours = ?, updated_at = ? " +
+            "WHERE id = ? AND check_out_time IS NULL AND check_in_time = ?";
+    private static final String CHECK_IN_TIMES_SQL =
+            "SELECT id, check_in_time FROM registrations WHERE check_in_time IS NOT NULL AND id IN (%s)";
+    private static final int CHECK_IN_TIMES_CHUNK = 1000;
+    private static final Duration DEDUPE_RETENTION = Duration.ofHours(24);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingScan> pending;
+    private final int maxFlushAttempts;
+    
+    // registration id -> first accepted scan time, only used to dedupe
+    private final ConcurrentHashMap<Long, LocalDateTime> checkIns = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalDateTime> checkOuts = new ConcurrentHashMap<>();
+    
+    public CheckInService(JdbcTemplate jdbcTemplate,
+                          @Value("${eventpro.checkin.queue-capacity:100000}") int queueCapacity,
+                          @Value("${eventpro.checkin.max-flush-attempts:5}") int maxFlushAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxFlushAttempts = Math.max(1, maxFlushAttempts);
+    }
+    
+    /**
+     * Accept a batch of scans. Only in-memory work happens here.
+     */
+    public ScanBatchAck ingest(List<Scan> scans) {
+        int accepted = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        
+        for (Scan scan : scans) {
+            if (scan.registrationId() == null || scan.type() == null) {
+                rejected++;
+                continue;
+            }
+            Scan stamped = scan.scannedAt() != null ? scan
+                    : new Scan(scan.registrationId(), scan.type(), LocalDateTime.now());
+            Map<Long, LocalDateTime> seen = dedupeFor(stamped.type());
+            
+            if (seen.putIfAbsent(stamped.registrationId(), stamped.scannedAt()) != null) {
+                duplicates++;
+            } else if (!pending.offer(new PendingScan(stamped, 0))) {
+                seen.remove(stamped.registrationId(), stamped.scannedAt());
+                rejected++;
+            } else {
+                accepted++;
+            }
+        }
+        
+        log.debug("🎫 Scan batch ingested - accepted: {}, duplicates: {}, rejected: {}",
+                accepted, duplicates, rejected);
+        return new ScanBatchAck(scans.size(), accepted, duplicates, rejected, pending.size());
+    }
+    
+    /**
+     * Apply the accepted scans to the database
+     */
+    @Scheduled(fixedDelayString = "${eventpro.checkin.flush-interval-ms:200}")
+    public void flush() {
+        List<PendingScan> drained = new ArrayList<>();
+        pending.drainTo(drained);
+        if (drained.isEmpty()) {
+            return;
+        }
+        
+        List<Scan> checkInScans = new ArrayList<>();
+        List<PendingScan> checkOutScans = new ArrayList<>();
+        for (PendingScan entry : drained) {
+            if (entry.scan().type() == ScanType.CHECK_IN) {
+                checkInScans.add(entry.scan());
+            } else {
+                checkOutScans.add(entry);
+            }
+        }
+        
+        List<PendingScan> waitingForCheckIn = List.of();
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (!checkInScans.isEmpty()) {
+                int[][] updated = jdbcTemplate.batchUpdate(CHECK_IN_SQL, checkInScans, checkInScans.size(), (ps, scan) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(scan.scannedAt()));
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, scan.registrationId());
+                });
+                forgetUnapplied(checkInScans, updated, checkIns);
+            }
+            if (!checkOutScans.isEmpty()) {
+                waitingForCheckIn = applyCheckOuts(checkOutScans, now);
+            }
+            log.debug("💾 Applied {} check-ins and {} check-outs", checkInScans.size(),
+                    checkOutScans.size() - waitingForCheckIn.size());
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to apply {} scans: {}", drained.size(), e.getMessage());
+            retryLater(drained);
+            return;
+        }
+        if (!waitingForCheckIn.isEmpty()) {
+            retryLater(waitingForCheckIn);
+        }
+    }
+    
+    /**
+     * Drop dedupe entries that are too old to matter for a scan session
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(DEDUPE_RETENTION);
+        checkIns.values().removeIf(time -> time.isBefore(cutoff));
+        checkOuts.values().removeIf(time -> time.isBefore(cutoff));
+    }
+    
+    public int getPendingScans() {
+        return pending.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private void retryLater(List<PendingScan> failed) {
+        int dropped = 0;
+        for (PendingScan entry : failed) {
+            int attempts = entry.attempts() + 1;
+            if (attempts >= maxFlushAttempts || !pending.offer(new PendingScan(entry.scan(), attempts))) {
+                Scan scan = entry.scan();
+                log.warn("⚠️ Dropping {} scan of registration {} taken at {} after {} attempts",
+                        scan.type(), scan.registrationId(), scan.scannedAt(), attempts);
+                dedupeFor(scan.type()).remove(scan.registrationId(), scan.scannedAt());
+                dropped++;
+            }
+        }
+        if (dropped < failed.size()) {
+            log.info("🔁 {} scans will be retried on the next flush", failed.size() - dropped);
+        }
+    }
+    
+    /**
+     * Apply check-outs whose check-in is stored and return the ones still waiting for it
+     */
+    private List<PendingScan> applyCheckOuts(List<PendingScan> checkOutScans, Timestamp now) {
+        // Check-in times always come from the table: scanner times may never have been applied
+        Map<Long, LocalDateTime> checkInTimes = new HashMap<>();
+        List<Long> ids = checkOutScans.stream().map(entry -> entry.scan().registrationId()).distinct().toList();
+        for (int from = 0; from < ids.size(); from += CHECK_IN_TIMES_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHECK_IN_TIMES_CHUNK, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(String.format(CHECK_IN_TIMES_SQL, placeholders),
+                    rs -> {
+                        checkInTimes.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+                    }, chunk.toArray());
+        }
+        
+        List<Scan> applicable = new ArrayList<>();
+        List<PendingScan> waiting = new ArrayList<>();
+        for (PendingScan entry : checkOutScans) {
+            if (checkInTimes.containsKey(entry.scan().registrationId())) {
+                applicable.add(entry.scan());
+            } else {
+                // The check-in may still be queued or failing, keep the check-out for a later flush
+                waiting.add(entry);
+            }
+        }
+        if (applicable.isEmpty()) {
+            return waiting;
+        }
+        
+        int[][] updated = jdbcTemplate.batchUpdate(CHECK_OUT_SQL, applicable, applicable.size(), (ps, scan) -> {
+            LocalDateTime checkIn = checkInTimes.get(scan.registrationId());
+            ps.setTimestamp(1, Timestamp.valueOf(scan.scannedAt()));
+            ps.setInt(2, attendanceHours(checkIn, scan.scannedAt()));
+            ps.setTimestamp(3, now);
+            ps.setLong(4, scan.registrationId());
+            ps.setTimestamp(5, Timestamp.valueOf(checkIn));
+        });
+        forgetUnapplied(applicable, updated, checkOuts);
+        return waiting;
+    }
+    
+    /**
+     * Whole hours between check-in and check-out, never negative
+     */
+    static int attendanceHours(LocalDateTime checkIn, LocalDateTime checkOut) {
+        return (int) Math.max(0, Duration.between(checkIn, checkOut).toHours());
+    }
+    
+    private void forgetUnapplied(List<Scan> scans, int[][] updated, Map<Long, LocalDateTime> seen) {
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int rows : batch) {
+                Scan scan = scans.get(index++);
+                if (rows == 0) {
+                    seen.remove(scan.registrationId(), scan.scannedAt());
+                }
+            }
+        }
+    }
+    
+    private Map<Long, LocalDateTime> dedupeFor(ScanType type) {
+        return type == ScanType.CHECK_IN ? checkIns : checkOuts;
+    }
+    
+    private record PendingScan(Scan scan, int attempts) {}
+    
+    public enum ScanType { CHECK_IN, CHECK_OUT }
+    
+    /**
+     * A single door scan
+     */
+    public record Scan(Long registrationId, ScanType type, LocalDateTime scannedAt) {}
+    
+    /**
+     * Acknowledgement returned to the scanner for one batch
+     */
+    public record ScanBatchAck(int received, int accepted, int duplicates, int rejected, int pending) {}
+}
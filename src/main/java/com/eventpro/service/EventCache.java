@@ -0,0 +1,160 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of event views in front of EventRepository.findById.
+ *
+ * Entries are kept in segments with LRU order, expire after a TTL and are
+ * invalidated explicitly by the write paths of EventService. Cached values are
+ * detached snapshots and every caller gets its own copy.
+ */
+@Component
+@Slf4j
+public class EventCache {
+    
+    private static final int SEGMENT_COUNT = 16;
+    
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final long ttlMillis;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    
+    public EventCache(@Value("${eventpro.cache.events.max-size:10000}") int maxSize,
+                      @Value("${eventpro.cache.events.ttl-seconds:300}") long ttlSeconds) {
+        int segmentCapacity = Math.max(1, maxSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.ttlMillis = ttlSeconds * 1000;
+        log.info("🗄️ Event cache configured: max size {}, TTL {} s", segmentCapacity * SEGMENT_COUNT, ttlSeconds);
+    }
+    
+    /**
+     * Return the cached view of an event, loading it on a miss
+     */
+    public Optional<Event> get(Long eventId, Function<Long, Optional<Event>> loader) {
+        Segment segment = segmentFor(eventId);
+        long now = System.currentTimeMillis();
+        
+        long generation;
+        synchronized (segment) {
+            CacheEntry entry = segment.entries.get(eventId);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    hits.increment();
+                    return Optional.of(EventSnapshots.copyOf(entry.event()));
+                }
+                segment.entries.remove(eventId);
+                expirations.increment();
+            }
+            generation = segment.generation;
+        }
+        
+        misses.increment();
+        Optional<Event> loaded = loader.apply(eventId).map(EventSnapshots::copyOf);
+        
+        loaded.ifPresent(event -> {
+            synchronized (segment) {
+                // Skip the put if an invalidation raced with the load
+                if (segment.generation == generation) {
+                    segment.entries.put(eventId, new CacheEntry(event, now + ttlMillis));
+                }
+            }
+        });
+        return loaded.map(EventSnapshots::copyOf);
+    }
+    
+    /**
+     * Drop an event now and again once the surrounding transaction completes,
+     * so a concurrent reader cannot re-cache the pre-commit state
+     */
+    public void invalidate(Long eventId) {
+        invalidations.increment();
+        remove(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(eventId);
+                }
+            });
+        }
+    }
+    
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.generation++;
+            }
+        }
+    }
+    
+    public CacheStatistics getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return new CacheStatistics(hitCount, missCount, requests == 0 ? 0.0 : (double) hitCount / requests,
+                sizeEvictions.sum(), expirations.sum(), invalidations.sum(), size);
+    }
+    
+    private void remove(Long eventId) {
+        Segment segment = segmentFor(eventId);
+        synchronized (segment) {
+            segment.entries.remove(eventId);
+            segment.generation++;
+        }
+    }
+    
+    private Segment segmentFor(Long eventId) {
+        return segments[Math.floorMod(eventId.hashCode(), SEGMENT_COUNT)];
+    }
+    
+    private final class Segment {
+        private final Map<Long, CacheEntry> entries;
+        private long generation;
+        
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                    boolean evict = size() > capacity;
+                    if (evict) {
+                        sizeEvictions.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+    }
+    
+    private record CacheEntry(Event event, long expiresAt) {}
+    
+    /**
+     * Cache hit/miss/eviction counters
+     */
+    public record CacheStatistics(long hits, long misses, double hitRate, long sizeEvictions,
+                                  long expirations, long invalidations, int size) {}
+}
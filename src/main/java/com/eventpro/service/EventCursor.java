@@ -0,0 +1,58 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over events.
+ *
+ * The token carries the sort key and id of the last event returned, so the
+ * next page is a seek on (sort key, id) instead of an OFFSET scan.
+ */
+public record EventCursor(SortKey sortKey, boolean descending, LocalDateTime startDate, Long id) {
+    
+    private static final String SEPARATOR = "|";
+    
+    public enum SortKey {
+        START_DATE, ID;
+        
+        public static SortKey fromParameter(String value) {
+            return switch (value) {
+                case "startDate" -> START_DATE;
+                case "id" -> ID;
+                default -> throw new IllegalArgumentException("Unsupported sort key for keyset pagination: " + value);
+            };
+        }
+    }
+    
+    /**
+     * Build the cursor pointing right after the given event
+     */
+    public static EventCursor after(SortKey sortKey, boolean descending, Event event) {
+        return new EventCursor(sortKey, descending, event.getStartDate(), event.getId());
+    }
+    
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + descending + SEPARATOR
+                + (startDate != null ? startDate : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime startDate = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+            return new EventCursor(SortKey.valueOf(parts[0]), Boolean.parseBoolean(parts[1]),
+                    startDate, Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded inverted index over event title, description, tags and location.
+ *
+ * Terms are accent-folded and lower-cased so "Conferencia Tecnológica" and
+ * "conferencia tecnologica" match the same postings. The last query term is
+ * matched as a prefix to keep the type-ahead behaviour of the old LIKE query.
+ * Writes made inside a transaction reach the index only after it commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.5f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "la", "el", "los", "las", "del", "en", "y", "a", "un", "una", "unos", "unas",
+            "con", "por", "para", "al", "lo", "se", "su", "sus", "que", "o", "es",
+            "the", "and", "of", "to", "in", "for", "on", "at", "an", "or", "is");
+
+    private final EventRepository eventRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // term -> (eventId -> weighted term frequency)
+    private final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, Float>> postings = new ConcurrentSkipListMap<>();
+
+    // eventId -> indexed terms, needed to remove stale postings on update/delete
+    private final ConcurrentHashMap<Long, Map<String, Float>> documents = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private volatile boolean ready = false;
+
+    /**
+     * Rebuild the whole index from the events table, walking it by id so that
+     * no OFFSET scan is needed even for very large catalogs. Every page is read
+     * in its own short transaction, so loaded events do not pile up in one
+     * persistence context.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("🔎 Building event search index");
+        long start = System.currentTimeMillis();
+
+        synchronized (writeLock) {
+            postings.clear();
+            documents.clear();
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long lastId = 0L;
+        int indexed = 0;
+        Map<Long, Map<String, Float>> batch;
+        do {
+            long afterId = lastId;
+            batch = readOnly.execute(status -> {
+                Map<Long, Map<String, Float>> page = new LinkedHashMap<>();
+                for (Event event : eventRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+                        PageRequest.ofSize(REBUILD_BATCH_SIZE))) {
+                    page.put(event.getId(), termsOf(event));
+                }
+                return page;
+            });
+            for (Map.Entry<Long, Map<String, Float>> entry : batch.entrySet()) {
+                apply(entry.getKey(), entry.getValue());
+                lastId = entry.getKey();
+            }
+            indexed += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        ready = true;
+        log.info("✅ Event search index built: {} events, {} terms in {} ms",
+                indexed, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or replace the postings of an event. Terms are read right away, while
+     * the event's tags can still be loaded, and applied once the transaction
+     * commits so a rollback never leaves them behind.
+     */
+    public void index(Event event) {
+        if (event == null || event.getId() == null) {
+            return;
+        }
+        Long eventId = event.getId();
+        Map<String, Float> terms = termsOf(event);
+        afterCommit(() -> apply(eventId, terms));
+    }
+
+    /**
+     * Remove an event from the index once the transaction commits
+     */
+    public void remove(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (writeLock) {
+                removePostings(eventId);
+            }
+        });
+    }
+
+    /**
+     * Rank the events matching every query term and return one page of ids.
+     * Ties are broken by id so that paging through equal scores is stable.
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> tokens = tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty() || limit <= 0) {
+            return new SearchHits(0, List.of());
+        }
+
+        int documentCount = Math.max(documents.size(), 1);
+        Map<Long, Float> scores = null;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            boolean prefix = i == tokens.size() - 1;
+
+            Map<Long, Float> tokenScores = new HashMap<>();
+            for (Map.Entry<String, ConcurrentHashMap<Long, Float>> entry : matchingTerms(token, prefix).entrySet()) {
+                Map<Long, Float> posting = entry.getValue();
+                float idf = (float) Math.log(1.0 + (double) documentCount / Math.max(posting.size(), 1));
+                posting.forEach((eventId, weight) -> tokenScores.merge(eventId, weight * idf, Float::sum));
+            }
+
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<Long, Float> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Float> entry : tokenScores.entrySet()) {
+                    Float score = previous.get(entry.getKey());
+                    if (score != null) {
+                        scores.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return new SearchHits(0, List.of());
+            }
+        }
+
+        return new SearchHits(scores.size(), topHits(scores, offset, limit));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the query keeps any term once stop words are dropped. Stop words
+     * are never indexed, so a query made only of them cannot match anything here.
+     */
+    public boolean canSearch(String query) {
+        return !tokenize(query).isEmpty();
+    }
+
+    public int getIndexedEventCount() {
+        return documents.size();
+    }
+
+    public int getTermCount() {
+        return postings.size();
+    }
+
+    /**
+     * Split text into accent-folded, lower-case terms without stop words
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALPHANUMERIC.split(folded)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<String, Float> termsOf(Event event) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, event.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, event.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(terms, event.getLocation(), LOCATION_WEIGHT);
+        if (event.getTags() != null) {
+            for (String tag : event.getTags()) {
+                addTerms(terms, tag, TAG_WEIGHT);
+            }
+        }
+        return terms;
+    }
+
+    private void apply(Long eventId, Map<String, Float> terms) {
+        synchronized (writeLock) {
+            removePostings(eventId);
+            terms.forEach((term, weight) -> postings
+                    .computeIfAbsent(term, t -> new ConcurrentHashMap<>())
+                    .put(eventId, weight));
+            documents.put(eventId, terms);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+
+    private void removePostings(Long eventId) {
+        Map<String, Float> previous = documents.remove(eventId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            postings.computeIfPresent(term, (t, posting) -> {
+                posting.remove(eventId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    private Map<String, ConcurrentHashMap<Long, Float>> matchingTerms(String token, boolean prefix) {
+        if (prefix) {
+            return postings.subMap(token, true, token + Character.MAX_VALUE, false);
+        }
+        ConcurrentHashMap<Long, Float> posting = postings.get(token);
+        return posting != null ? Map.of(token, posting) : Map.of();
+    }
+
+    private List<Long> topHits(Map<Long, Float> scores, int offset, int limit) {
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+        Comparator<Map.Entry<Long, Float>> ranking = Map.Entry.<Long, Float>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+
+        // Bounded heap keeps the cost at O(n log k) instead of sorting every match
+        int keep = offset + limit;
+        PriorityQueue<Map.Entry<Long, Float>> heap = new PriorityQueue<>(keep + 1, ranking.reversed());
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > keep) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(heap);
+        ranked.sort(ranking);
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size()).stream()
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * One page of ranked event ids plus the total number of matches
+     */
+    public record SearchHits(long totalHits, List<Long> eventIds) {}
+}
@@ -7,14 +7,21 @@ import com.eventpro.repository.EventRepository;
 import com.eventpro.patterns.observer.EventManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Event management
@@ -25,8 +32,17 @@ import java.util.Optional;
 @Transactional
 public class EventService {
     
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_UPCOMING_LIMIT = 20;
+    
     private final EventRepository eventRepository;
     private final EventManager eventManager;
+    private final EventSearchIndex searchIndex;
+    private final EventCache eventCache;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final PlatformStatistics platformStatistics;
+    private final SeatReservationEngine seatReservationEngine;
+    private final WaitlistManager waitlistManager;
     
     /**
      * Create a new event
@@ -43,6 +59,9 @@ public class EventService {
         }
         
         Event savedEvent = eventRepository.save(event);
+        searchIndex.index(savedEvent);
+        upcomingEventIndex.refresh(savedEvent);
+        platformStatistics.onEventCreated(savedEvent);
         
         // Notify observers
         eventManager.createEvent(savedEvent);
@@ -60,6 +79,8 @@ public class EventService {
         Event existingEvent = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
         
+        int previousCapacity = existingEvent.getMaxAttendees();
+        
         // Update fields
         existingEvent.setTitle(updatedEvent.getTitle());
         existingEvent.setDescription(updatedEvent.getDescription());
@@ -70,6 +91,14 @@ public class EventService {
         existingEvent.setPrice(updatedEvent.getPrice());
         
         Event savedEvent = eventRepository.save(existingEvent);
+        seatReservationEngine.updateCapacity(eventId, savedEvent.getMaxAttendees());
+        if (savedEvent.getMaxAttendees() > previousCapacity) {
+            // A counter loaded after the save already carries the new capacity
+            waitlistManager.promoteIntoFreeSeats(eventId, savedEvent.getTitle());
+        }
+        searchIndex.index(savedEvent);
+        eventCache.invalidate(eventId);
+        upcomingEventIndex.refresh(savedEvent);
         
         // Notify observers
         eventManager.updateEvent(eventId, savedEvent);
@@ -79,12 +108,23 @@ public class EventService {
     }
     
     /**
-     * Get event by ID
+     * Get event by ID, served from the event cache when possible. Tags are
+     * loaded before the event is cached so the cached view keeps them.
      */
     @Transactional(readOnly = true)
     public Optional<Event> getEventById(Long eventId) {
         log.debug("🔍 Fetching event by ID: {}", eventId);
-        return eventRepository.findById(eventId);
+        return eventCache.get(eventId, id -> eventRepository.findById(id).map(event -> {
+            Hibernate.initialize(event.getTags());
+            return event;
+        }));
+    }
+    
+    /**
+     * Get event cache statistics
+     */
+    public EventCache.CacheStatistics getEventCacheStatistics() {
+        return eventCache.getStatistics();
     }
     
     /**
@@ -96,22 +136,123 @@ public class EventService {
         return eventRepository.findAll(pageable);
     }
     
+    /**
+     * List events with keyset pagination. The next page is a seek on the sort
+     * key plus id, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public EventSlice getEventsSlice(String cursorToken, int size, String sortBy,
+                                     boolean descending, boolean includeTotal) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        EventCursor cursor = cursorToken != null && !cursorToken.isBlank() ? EventCursor.decode(cursorToken) : null;
+        EventCursor.SortKey sortKey = cursor != null ? cursor.sortKey() : EventCursor.SortKey.fromParameter(sortBy);
+        boolean desc = cursor != null ? cursor.descending() : descending;
+        
+        log.debug("📋 Fetching events slice - sort: {}, desc: {}, size: {}", sortKey, desc, limit);
+        
+        // Fetch one extra row to know whether there is a next page without counting
+        Pageable fetch = PageRequest.ofSize(limit + 1);
+        List<Event> rows = switch (sortKey) {
+            case START_DATE -> cursor == null
+                    ? (desc ? eventRepository.findAllByOrderByStartDateDescIdDesc(fetch)
+                            : eventRepository.findAllByOrderByStartDateAscIdAsc(fetch))
+                    : (desc ? eventRepository.findNextByStartDateDesc(cursor.startDate(), cursor.id(), fetch)
+                            : eventRepository.findNextByStartDateAsc(cursor.startDate(), cursor.id(), fetch));
+            case ID -> cursor == null
+                    ? (desc ? eventRepository.findAllByOrderByIdDesc(fetch) : eventRepository.findAllByOrderByIdAsc(fetch))
+                    : (desc ? eventRepository.findByIdLessThanOrderByIdDesc(cursor.id(), fetch)
+                            : eventRepository.findByIdGreaterThanOrderByIdAsc(cursor.id(), fetch));
+        };
+        
+        boolean hasNext = rows.size() > limit;
+        List<Event> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext
+                ? EventCursor.after(sortKey, desc, content.get(content.size() - 1)).encode()
+                : null;
+        
+        return new EventSlice(content, nextCursor, hasNext, includeTotal ? getEventCountEstimate() : null);
+    }
+    
+    /**
+     * Total number of events, served from the platform statistics counters
+     */
+    @Transactional(readOnly = true)
+    public long getEventCountEstimate() {
+        return platformStatistics.getTotalEvents();
+    }
+    
     /**
      * Get upcoming events
      */
     @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents() {
-        log.debug("📅 Fetching upcoming events");
-        return eventRepository.findUpcomingEvents(LocalDateTime.now(), EventStatus.PUBLISHED);
+        return getUpcomingEvents(DEFAULT_UPCOMING_LIMIT);
+    }
+    
+    /**
+     * Get the next upcoming events, served from the upcoming events index
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getUpcomingEvents(int limit) {
+        log.debug("📅 Fetching next {} upcoming events", limit);
+        int bounded = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        if (!upcomingEventIndex.isReady()) {
+            return eventRepository.findUpcomingEvents(LocalDateTime.now(), EventStatus.PUBLISHED,
+                    PageRequest.ofSize(bounded));
+        }
+        return upcomingEventIndex.next(bounded);
+    }
+    
+    /**
+     * Get upcoming events starting between two dates
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getUpcomingEventsBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        log.debug("📅 Fetching upcoming events between {} and {}", from, to);
+        int bounded = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        if (!upcomingEventIndex.isReady()) {
+            return eventRepository.findUpcomingEventsBetween(LocalDateTime.now(), from, to,
+                    EventStatus.PUBLISHED, PageRequest.ofSize(bounded));
+        }
+        return upcomingEventIndex.between(from, to, bounded);
     }
     
     /**
-     * Search events
+     * Search events, ranked by the in-memory search index
      */
     @Transactional(readOnly = true)
     public Page<Event> searchEvents(String searchTerm, Pageable pageable) {
         log.debug("🔍 Searching events with term: {}", searchTerm);
-        return eventRepository.searchEvents(searchTerm, pageable);
+        
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return eventRepository.findAll(pageable);
+        }
+        if (!searchIndex.isReady()) {
+            log.debug("⏳ Search index not ready yet, falling back to database search");
+            return eventRepository.searchEvents(searchTerm, pageable);
+        }
+        if (!searchIndex.canSearch(searchTerm)) {
+            log.debug("🔤 Search term has only stop words, falling back to database search");
+            return eventRepository.searchEvents(searchTerm, pageable);
+        }
+        
+        EventSearchIndex.SearchHits hits = searchIndex.search(searchTerm,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.eventIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.totalHits());
+        }
+        
+        // Load only the requested page and keep the ranking order of the index
+        Map<Long, Event> eventsById = eventRepository.findAllById(hits.eventIds()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> content = hits.eventIds().stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        
+        return new PageImpl<>(content, pageable, hits.totalHits());
     }
     
     /**
@@ -141,8 +282,12 @@ public class EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
         
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.PUBLISHED);
         Event publishedEvent = eventRepository.save(event);
+        eventCache.invalidate(eventId);
+        upcomingEventIndex.refresh(publishedEvent);
+        platformStatistics.onEventStatusChanged(previousStatus, publishedEvent);
         
         log.info("✅ Event published successfully: {}", publishedEvent.getTitle());
         return publishedEvent;
@@ -157,8 +302,12 @@ public class EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
         
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.CANCELLED);
         Event cancelledEvent = eventRepository.save(event);
+        eventCache.invalidate(eventId);
+        upcomingEventIndex.refresh(cancelledEvent);
+        platformStatistics.onEventStatusChanged(previousStatus, cancelledEvent);
         
         // Notify observers
         eventManager.cancelEvent(eventId, cancelledEvent.getTitle());
@@ -176,8 +325,12 @@ public class EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
         
+        EventStatus previousStatus = event.getStatus();
         event.setStatus(EventStatus.COMPLETED);
         Event completedEvent = eventRepository.save(event);
+        eventCache.invalidate(eventId);
+        upcomingEventIndex.refresh(completedEvent);
+        platformStatistics.onEventStatusChanged(previousStatus, completedEvent);
         
         // Notify observers
         eventManager.completeEvent(eventId, completedEvent.getTitle());
@@ -196,26 +349,32 @@ public class EventService {
             throw new RuntimeException("Event not found with ID: " + eventId);
         }
         
+        Optional<EventRepository.StatusView> statusView = eventRepository.findStatusViewById(eventId);
         eventRepository.deleteById(eventId);
+        platformStatistics.onEventDeleted(
+                statusView.map(EventRepository.StatusView::getStatus).orElse(null),
+                statusView.map(EventRepository.StatusView::getCurrentAttendees).orElse(null));
+        searchIndex.remove(eventId);
+        seatReservationEngine.evict(eventId);
+        eventCache.invalidate(eventId);
+        upcomingEventIndex.remove(eventId);
         log.info("✅ Event deleted successfully");
     }
     
     /**
-     * Get event statistics
+     * Get event statistics, served from incrementally maintained counters
      */
     @Transactional(readOnly = true)
     public EventStatistics getEventStatistics() {
-        log.debug("📊 Calculating event statistics");
-        
-        Long totalEvents = eventRepository.count();
-        Long publishedEvents = eventRepository.countEventsByStatus(EventStatus.PUBLISHED);
-        Long completedEvents = eventRepository.countEventsByStatus(EventStatus.COMPLETED);
-        Long totalAttendees = eventRepository.getTotalAttendeesByStatus(EventStatus.PUBLISHED);
-        
-        return new EventStatistics(totalEvents, publishedEvents, completedEvents, 
-                totalAttendees != null ? totalAttendees : 0L);
+        log.debug("📊 Reading event statistics");
+        return platformStatistics.getEventStatistics();
     }
     
+    /**
+     * One keyset page of events with the token for the next page
+     */
+    public record EventSlice(List<Event> content, String nextCursor, boolean hasNext, Long totalEstimate) {}
+    
     /**
      * Inner class for event statistics
      */
@@ -0,0 +1,46 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import org.hibernate.Hibernate;
+
+import java.util.HashSet;
+
+/**
+ * Detached copies of events that are safe to keep outside a persistence context.
+ *
+ * Only scalar fields and already-loaded tags are copied; lazy associations are
+ * left out so a cached view never triggers a lazy load after its session closed.
+ */
+final class EventSnapshots {
+    
+    private EventSnapshots() {
+    }
+    
+    static Event copyOf(Event event) {
+        Event copy = new Event();
+        copy.setId(event.getId());
+        copy.setTitle(event.getTitle());
+        copy.setDescription(event.getDescription());
+        copy.setStartDate(event.getStartDate());
+        copy.setEndDate(event.getEndDate());
+        copy.setRegistrationStart(event.getRegistrationStart());
+        copy.setRegistrationEnd(event.getRegistrationEnd());
+        copy.setLocation(event.getLocation());
+        copy.setAddress(event.getAddress());
+        copy.setVirtualLink(event.getVirtualLink());
+        copy.setIsVirtual(event.getIsVirtual());
+        copy.setMaxAttendees(event.getMaxAttendees());
+        copy.setCurrentAttendees(event.getCurrentAttendees());
+        copy.setType(event.getType());
+        copy.setStatus(event.getStatus());
+        copy.setPrice(event.getPrice());
+        copy.setIsFree(event.getIsFree());
+        copy.setImageUrl(event.getImageUrl());
+        if (event.getTags() != null && Hibernate.isInitialized(event.getTags())) {
+            copy.setTags(new HashSet<>(event.getTags()));
+        }
+        copy.setCreatedAt(event.getCreatedAt());
+        copy.setUpdatedAt(event.getUpdatedAt());
+        return copy;
+    }
+}
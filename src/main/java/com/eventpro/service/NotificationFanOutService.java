@@ -0,0 +1,348 @@
+package com.eventpro.service;
+
+import com.eventpro.model.NotificationFanOut;
+import com.eventpro.model.NotificationType;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.patterns.factory.NotificationFactory;
+import com.eventpro.patterns.factory.notifications.DeliveryResult;
+import com.eventpro.patterns.factory.notifications.INotification;
+import com.eventpro.repository.NotificationFanOutRepository;
+import com.eventpro.repository.RegistrationRepository;
+import com.eventpro.repository.RegistrationRepository.RegistrantContact;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service class for notifying every registrant of an event.
+ *
+ * Registrants are read in keyset chunks, each user is mapped to the channels
+ * they can be reached on, and sends are dispatched through NotificationFactory
+ * with a bound on how many are in flight at once. Each fan-out runs as a job
+ * whose progress can be polled. Jobs are stored in notification_fanouts and
+ * checkpointed after every chunk whose sends have finished, so a job cut
+ * short by a restart resumes after its last finished chunk. Users who turned
+ * notifications off are not contacted on any channel.
+ */
+@Service
+@Slf4j
+public class NotificationFanOutService {
+    
+    private static final int MAX_RETAINED_JOBS = 100;
+    
+    private final RegistrationRepository registrationRepository;
+    private final NotificationFanOutRepository fanOutRepository;
+    private final NotificationFactory notificationFactory;
+    private final int chunkSize;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final ExecutorService jobExecutor;
+    private final Set<Long> activeFanOuts = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, FanOutJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, FanOutJob> eldest) {
+            return size() > MAX_RETAINED_JOBS && eldest.getValue().getStatus() != JobStatus.RUNNING;
+        }
+    });
+    
+    public NotificationFanOutService(RegistrationRepository registrationRepository,
+                                     NotificationFanOutRepository fanOutRepository,
+                                     NotificationFactory notificationFactory,
+                                     @Value("${eventpro.notifications.fanout.chunk-size:1000}") int chunkSize,
+                                     @Value("${eventpro.notifications.fanout.max-in-flight:200}") int maxInFlight,
+                                     @Value("${eventpro.notifications.fanout.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.registrationRepository = registrationRepository;
+        this.fanOutRepository = fanOutRepository;
+        this.notificationFactory = notificationFactory;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.jobExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), runnable -> {
+            Thread thread = new Thread(runnable, "notification-fanout-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Start notifying every registrant of an event; returns the job to poll for progress
+     */
+    public FanOutJob notifyRegistrants(Long eventId, String subject, String message) {
+        return start(fanOutRepository.save(NotificationFanOut.builder()
+                .eventId(eventId)
+                .subject(subject)
+                .message(message)
+                .build()));
+    }
+    
+    /**
+     * Notify every registrant at most once per dedupe key, e.g. one cancellation notice per event.
+     * The job is stored before this returns; a repeated call returns the existing job and only
+     * restarts it if it was interrupted.
+     */
+    public FanOutJob notifyRegistrantsOnce(Long eventId, String dedupeKey, String subject, String message) {
+        NotificationFanOut fanOut = fanOutRepository.findByDedupeKey(dedupeKey).orElse(null);
+        if (fanOut == null) {
+            try {
+                fanOut = fanOutRepository.save(NotificationFanOut.builder()
+                        .eventId(eventId)
+                        .dedupeKey(dedupeKey)
+                        .subject(subject)
+                        .message(message)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                fanOut = fanOutRepository.findByDedupeKey(dedupeKey).orElseThrow(() -> e);
+            }
+        }
+        if (fanOut.getStatus() == NotificationFanOut.Status.COMPLETED) {
+            log.info("📣 Notification fan-out {} already sent", dedupeKey);
+            FanOutJob job = jobs.get(String.valueOf(fanOut.getId()));
+            if (job == null) {
+                job = new FanOutJob(String.valueOf(fanOut.getId()), eventId, fanOut.getSubject());
+                job.finish(JobStatus.COMPLETED, null);
+            }
+            return job;
+        }
+        return start(fanOut);
+    }
+    
+    /**
+     * Pick up fan-outs a previous run left unfinished
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedFanOuts() {
+        for (NotificationFanOut fanOut : fanOutRepository.findByStatus(NotificationFanOut.Status.RUNNING)) {
+            log.info("♻️ Resuming notification fan-out {} for event {} after registration {}",
+                    fanOut.getId(), fanOut.getEventId(), fanOut.getLastRegistrationId());
+            start(fanOut);
+        }
+    }
+    
+    public Optional<FanOutJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+    
+    public List<FanOutJob> getJobsForEvent(Long eventId) {
+        synchronized (jobs) {
+            return jobs.values().stream()
+                    .filter(job -> job.getEventId().equals(eventId))
+                    .toList();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+    
+    /**
+     * Run a stored fan-out unless it is already running on this node
+     */
+    private FanOutJob start(NotificationFanOut fanOut) {
+        String jobId = String.valueOf(fanOut.getId());
+        if (!activeFanOuts.add(fanOut.getId())) {
+            return jobs.get(jobId);
+        }
+        FanOutJob job = new FanOutJob(jobId, fanOut.getEventId(), fanOut.getSubject());
+        jobs.put(jobId, job);
+        log.info("📣 Starting notification fan-out {} for event {}", jobId, fanOut.getEventId());
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    run(job, fanOut);
+                } finally {
+                    activeFanOuts.remove(fanOut.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            activeFanOuts.remove(fanOut.getId());
+            job.finish(JobStatus.FAILED, "Rejected");
+        }
+        return job;
+    }
+    
+    private void run(FanOutJob job, NotificationFanOut fanOut) {
+        INotification email = notificationFactory.createNotification(NotificationType.EMAIL);
+        INotification sms = notificationFactory.createNotification(NotificationType.SMS);
+        String subject = fanOut.getSubject();
+        String message = fanOut.getMessage();
+        
+        try {
+            List<RegistrantContact> chunk;
+            do {
+                chunk = registrationRepository.findRegistrantContacts(job.getEventId(),
+                        RegistrationStatus.CANCELLED, fanOut.getLastRegistrationId(), PageRequest.ofSize(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                job.recipientsScanned.add(chunk.size());
+                List<CompletableFuture<?>> pending = new ArrayList<>();
+                dispatchChunk(job, chunk, email, sms, subject, message, pending);
+                // Checkpoint only once every send of the chunk has finished
+                CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+                fanOut.setLastRegistrationId(chunk.get(chunk.size() - 1).getRegistrationId());
+                fanOutRepository.save(fanOut);
+            } while (chunk.size() == chunkSize);
+            
+            fanOut.setStatus(NotificationFanOut.Status.COMPLETED);
+            fanOut.setCompletedAt(LocalDateTime.now());
+            fanOutRepository.save(fanOut);
+            job.finish(JobStatus.COMPLETED, null);
+            log.info("✅ Notification fan-out {} completed: {} registrants, {} sent, {} failed, {} skipped",
+                    job.getJobId(), job.recipientsScanned.sum(), job.sent(), job.failed(), job.skipped.sum());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(JobStatus.FAILED, "Interrupted");
+        } catch (RuntimeException e) {
+            log.error("❌ Notification fan-out {} stopped, it resumes on the next start: {}",
+                    job.getJobId(), e.getMessage());
+            job.finish(JobStatus.FAILED, e.getMessage());
+        }
+    }
+    
+    private void dispatchChunk(FanOutJob job, List<RegistrantContact> chunk, INotification email, INotification sms,
+                               String subject, String message, List<CompletableFuture<?>> pending)
+            throws InterruptedException {
+        List<String> emailRecipients = new ArrayList<>();
+        for (RegistrantContact contact : chunk) {
+            // The notifications preference is the only opt-out users have, so it covers every channel
+            if (!Boolean.TRUE.equals(contact.getEmailNotifications())) {
+                job.skipped.increment();
+                continue;
+            }
+            boolean reachable = false;
+            if (email.isValidRecipient(contact.getEmail())) {
+                emailRecipients.add(contact.getEmail());
+                reachable = true;
+            }
+            if (sms.isValidRecipient(contact.getPhone())) {
+                pending.add(dispatch(job, NotificationType.SMS,
+                        () -> sms.send(contact.getPhone(), truncate(message, sms.getMaxMessageLength()), subject, Map.of())
+                                .thenApply(sent -> List.of(sent
+                                        ? DeliveryResult.delivered(contact.getPhone())
+                                        : DeliveryResult.failed(contact.getPhone(), "Not delivered")))));
+                reachable = true;
+            }
+            // Push needs a device token, which users do not have yet
+            if (!reachable) {
+                job.skipped.increment();
+            }
+        }
+        if (!emailRecipients.isEmpty()) {
+            pending.add(dispatch(job, NotificationType.EMAIL,
+                    () -> email.sendBulk(emailRecipients, message, subject, Map.of())));
+        }
+    }
+    
+    /**
+     * Start one send (or bulk send) once an in-flight slot is free
+     */
+    private CompletableFuture<?> dispatch(FanOutJob job, NotificationType channel,
+                                          Callable<CompletableFuture<List<DeliveryResult>>> send)
+            throws InterruptedException {
+        inFlight.acquire();
+        CompletableFuture<List<DeliveryResult>> future;
+        try {
+            future = send.call();
+        } catch (Exception e) {
+            inFlight.release();
+            job.record(channel, false);
+            return CompletableFuture.completedFuture(null);
+        }
+        return future.whenComplete((results, error) -> {
+            inFlight.release();
+            if (error != null) {
+                job.record(channel, false);
+            } else {
+                results.forEach(result -> job.record(channel, result.delivered()));
+            }
+        });
+    }
+    
+    private String truncate(String message, int maxLength) {
+        return message.length() <= maxLength ? message : message.substring(0, maxLength - 1) + "…";
+    }
+    
+    public enum JobStatus { RUNNING, COMPLETED, FAILED }
+    
+    /**
+     * Progress of one fan-out
+     */
+    @Getter
+    public static class FanOutJob {
+        private final String jobId;
+        private final Long eventId;
+        private final String subject;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime completedAt;
+        private volatile JobStatus status = JobStatus.RUNNING;
+        private volatile String error;
+        
+        private final LongAdder recipientsScanned = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final Map<NotificationType, LongAdder> sentByChannel = new ConcurrentHashMap<>();
+        private final Map<NotificationType, LongAdder> failedByChannel = new ConcurrentHashMap<>();
+        
+        FanOutJob(String jobId, Long eventId, String subject) {
+            this.jobId = jobId;
+            this.eventId = eventId;
+            this.subject = subject;
+        }
+        
+        public long getRecipientsScanned() {
+            return recipientsScanned.sum();
+        }
+        
+        public long getSkipped() {
+            return skipped.sum();
+        }
+        
+        public Map<NotificationType, Long> getSentByChannel() {
+            return totals(sentByChannel);
+        }
+        
+        public Map<NotificationType, Long> getFailedByChannel() {
+            return totals(failedByChannel);
+        }
+        
+        long sent() {
+            return sentByChannel.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+        
+        long failed() {
+            return failedByChannel.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+        
+        void record(NotificationType channel, boolean delivered) {
+            (delivered ? sentByChannel : failedByChannel)
+                    .computeIfAbsent(channel, c -> new LongAdder())
+                    .increment();
+        }
+        
+        void finish(JobStatus status, String error) {
+            this.error = error;
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+        }
+        
+        private Map<NotificationType, Long> totals(Map<NotificationType, LongAdder> counters) {
+            Map<NotificationType, Long> totals = new EnumMap<>(NotificationType.class);
+            counters.forEach((channel, counter) -> totals.put(channel, counter.sum()));
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.model.User;
+import com.eventpro.model.UserRole;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Incrementally maintained platform statistics.
+ *
+ * The state-changing service methods report their changes here, so the
+ * dashboard and statistics endpoints are answered from striped counters
+ * without touching the database. Changes reported inside a transaction are
+ * applied once it commits. A periodic reconciliation against the aggregate
+ * queries corrects any drift (writes from other nodes, direct SQL).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlatformStatistics {
+    
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    
+    private final LongAdder totalEvents = new LongAdder();
+    private final Map<EventStatus, LongAdder> eventsByStatus = counters(EventStatus.class);
+    private final LongAdder publishedAttendees = new LongAdder();
+    
+    private final LongAdder totalUsers = new LongAdder();
+    private final Map<UserRole, LongAdder> activeUsersByRole = counters(UserRole.class);
+    
+    private volatile boolean reconciled = false;
+    
+    public void onEventCreated(Event event) {
+        EventStatus status = event.getStatus();
+        long attendees = status == EventStatus.PUBLISHED ? attendeesOf(event) : 0;
+        afterCommit(() -> {
+            totalEvents.increment();
+            eventsByStatus.get(status).increment();
+            publishedAttendees.add(attendees);
+        });
+    }
+    
+    public void onEventStatusChanged(EventStatus previous, Event event) {
+        EventStatus status = event.getStatus();
+        if (previous == status) {
+            return;
+        }
+        long attendees = attendeesOf(event);
+        afterCommit(() -> {
+            if (previous != null) {
+                eventsByStatus.get(previous).decrement();
+            }
+            eventsByStatus.get(status).increment();
+            if (previous == EventStatus.PUBLISHED) {
+                publishedAttendees.add(-attendees);
+            } else if (status == EventStatus.PUBLISHED) {
+                publishedAttendees.add(attendees);
+            }
+        });
+    }
+    
+    public void onEventDeleted(EventStatus status, Integer currentAttendees) {
+        afterCommit(() -> {
+            totalEvents.decrement();
+            if (status != null) {
+                eventsByStatus.get(status).decrement();
+                if (status == EventStatus.PUBLISHED && currentAttendees != null) {
+                    publishedAttendees.add(-currentAttendees);
+                }
+            }
+        });
+    }
+    
+    public void onPublishedAttendeesChanged(long delta) {
+        afterCommit(() -> publishedAttendees.add(delta));
+    }
+    
+    public void onUserCreated(User user) {
+        UserRole role = user.getRole();
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        afterCommit(() -> {
+            totalUsers.increment();
+            if (active) {
+                activeUsersByRole.get(role).increment();
+            }
+        });
+    }
+    
+    public void onUserActivationChanged(UserRole role, boolean wasActive, boolean isActive) {
+        if (wasActive != isActive) {
+            afterCommit(() -> activeUsersByRole.get(role).add(isActive ? 1 : -1));
+        }
+    }
+    
+    public void onUserDeleted(User user) {
+        UserRole role = user.getRole();
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        afterCommit(() -> {
+            totalUsers.decrement();
+            if (active) {
+                activeUsersByRole.get(role).decrement();
+            }
+        });
+    }
+    
+    public EventService.EventStatistics getEventStatistics() {
+        ensureReconciled();
+        return new EventService.EventStatistics(totalEvents.sum(),
+                eventsByStatus.get(EventStatus.PUBLISHED).sum(),
+                eventsByStatus.get(EventStatus.COMPLETED).sum(),
+                publishedAttendees.sum());
+    }
+    
+    public UserService.UserStatistics getUserStatistics() {
+        ensureReconciled();
+        return new UserService.UserStatistics(totalUsers.sum(),
+                activeUsersByRole.get(UserRole.PARTICIPANT).sum(),
+                activeUsersByRole.get(UserRole.ORGANIZER).sum(),
+                activeUsersByRole.get(UserRole.ADMIN).sum());
+    }
+    
+    public long getTotalEvents() {
+        ensureReconciled();
+        return totalEvents.sum();
+    }
+    
+    /**
+     * Re-align every counter with the database. Each counter is read just
+     * before its aggregate query and then moved by the difference, so
+     * increments that land while the query runs are kept. A write that
+     * commits inside that window can be counted twice until the next run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${eventpro.statistics.reconcile-interval-ms:300000}",
+               fixedDelayString = "${eventpro.statistics.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        log.debug("📊 Reconciling platform statistics with the database");
+        
+        align(totalEvents, eventRepository::count);
+        for (EventStatus status : EventStatus.values()) {
+            align(eventsByStatus.get(status), () -> eventRepository.countEventsByStatus(status));
+        }
+        align(publishedAttendees, () -> eventRepository.getTotalAttendeesByStatus(EventStatus.PUBLISHED));
+        
+        align(totalUsers, userRepository::count);
+        for (UserRole role : UserRole.values()) {
+            align(activeUsersByRole.get(role), () -> userRepository.countActiveUsersByRole(role));
+        }
+        
+        reconciled = true;
+    }
+    
+    private void ensureReconciled() {
+        if (!reconciled) {
+            synchronized (this) {
+                if (!reconciled) {
+                    reconcile();
+                }
+            }
+        }
+    }
+    
+    private static void align(LongAdder counter, Supplier<Long> query) {
+        long before = counter.sum();
+        Long actual = query.get();
+        long drift = (actual != null ? actual : 0L) - before;
+        if (drift != 0) {
+            counter.add(drift);
+        }
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private static long attendeesOf(Event event) {
+        return event.getCurrentAttendees() != null ? event.getCurrentAttendees() : 0;
+    }
+    
+    private static <E extends Enum<E>> Map<E, LongAdder> counters(Class<E> type) {
+        Map<E, LongAdder> counters = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counters.put(value, new LongAdder());
+        }
+        return counters;
+    }
+}
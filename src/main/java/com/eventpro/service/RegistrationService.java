@@ -0,0 +1,348 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.Registration;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.repository.RegistrationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for event registrations.
+ *
+ * Sign-ups are validated against an in-memory membership set per event and a
+ * seat is reserved with SeatReservationEngine before the request is queued.
+ * A single writer thread drains the bounded queue and inserts Registration
+ * rows in JDBC batches; callers get the outcome through a CompletableFuture.
+ * A batch is written in one transaction, so a failing row rolls back the whole
+ * batch before it is retried row by row.
+ */
+@Service
+@Slf4j
+public class RegistrationService {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO registrations (user_id, event_id, status, registration_date, expectations, " +
+            "attended, created_at, updated_at) VALUES (?, ?, ?, ?, ?, FALSE, ?, ?)";
+    
+    private final RegistrationRepository registrationRepository;
+    private final EventService eventService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final PlatformStatistics platformStatistics;
+    private final WaitlistManager waitlistManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate promotionTemplate;
+    private final int batchSize;
+    
+    private final BlockingQueue<PendingRegistration> queue;
+    private final ConcurrentHashMap<Long, Set<Long>> membersByEvent = new ConcurrentHashMap<>();
+    
+    private volatile boolean running = true;
+    private Thread writer;
+    
+    public RegistrationService(RegistrationRepository registrationRepository,
+                               EventService eventService,
+                               SeatReservationEngine seatReservationEngine,
+                               PlatformStatistics platformStatistics,
+                               WaitlistManager waitlistManager,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${eventpro.registrations.queue-capacity:10000}") int queueCapacity,
+                               @Value("${eventpro.registrations.batch-size:500}") int batchSize) {
+        this.registrationRepository = registrationRepository;
+        this.eventService = eventService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.platformStatistics = platformStatistics;
+        this.waitlistManager = waitlistManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.promotionTemplate = new TransactionTemplate(transactionManager);
+        this.promotionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+    
+    @PostConstruct
+    void startWriter() {
+        running = true;
+        writer = new Thread(this::drainLoop, "registration-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    
+    /**
+     * Register a user for an event. The returned future completes once the
+     * registration row has been written.
+     */
+    public CompletableFuture<RegistrationResult> register(Long userId, Long eventId, String expectations) {
+        log.debug("📝 Registration request - user: {}, event: {}", userId, eventId);
+        
+        Event event = eventService.getEventById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
+        if (!event.isRegistrationOpen()) {
+            return CompletableFuture.completedFuture(RegistrationResult.closed(userId, eventId));
+        }
+        
+        // The set add is the atomic duplicate check for concurrent requests
+        Set<Long> members = membersOf(eventId);
+        if (!members.add(userId)) {
+            return CompletableFuture.completedFuture(RegistrationResult.duplicate(userId, eventId));
+        }
+        
+        RegistrationStatus status = seatReservationEngine.tryReserve(eventId)
+                ? RegistrationStatus.CONFIRMED : RegistrationStatus.WAITLIST;
+        
+        PendingRegistration pending = new PendingRegistration(userId, eventId, status, expectations,
+                LocalDateTime.now(), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            log.warn("⚠️ Registration queue full, rejecting user {} for event {}", userId, eventId);
+            rollback(pending);
+            return CompletableFuture.completedFuture(
+                    RegistrationResult.rejected(userId, eventId, "Registration queue is full, try again later"));
+        }
+        return pending.result();
+    }
+    
+    /**
+     * Cancel a registration. A freed confirmed seat goes to the head of the
+     * waitlist once the cancellation commits.
+     */
+    @Transactional
+    public Registration cancel(Long userId, Long eventId) {
+        log.info("❌ Cancelling registration - user: {}, event: {}", userId, eventId);
+        
+        Registration registration = registrationRepository.findByUserIdAndEventId(userId, eventId)
+                .orElseThrow(() -> new RuntimeException(
+                        "Registration not found for user " + userId + " and event " + eventId));
+        
+        RegistrationStatus previousStatus = registration.getStatus();
+        if (previousStatus == RegistrationStatus.CANCELLED) {
+            return registration;
+        }
+        registration.setStatus(RegistrationStatus.CANCELLED);
+        Registration cancelled = registrationRepository.save(registration);
+        
+        if (previousStatus == RegistrationStatus.CONFIRMED) {
+            String eventTitle = eventService.getEventById(eventId).map(Event::getTitle).orElse(null);
+            afterCommit(() -> releaseSeat(eventId, eventTitle));
+        } else if (previousStatus == RegistrationStatus.WAITLIST) {
+            afterCommit(() -> waitlistManager.remove(eventId, userId));
+        }
+        
+        log.info("✅ Registration cancelled for user {} and event {}", userId, eventId);
+        return cancelled;
+    }
+    
+    /**
+     * Hand a cancelled seat back and promote into it. Runs after the
+     * cancelling transaction committed, so the promotion writes in a
+     * transaction of its own.
+     */
+    private void releaseSeat(Long eventId, String eventTitle) {
+        seatReservationEngine.release(eventId, 1);
+        promotionTemplate.executeWithoutResult(status -> {
+            platformStatistics.onPublishedAttendeesChanged(-1);
+            waitlistManager.promote(eventId, eventTitle, 1);
+        });
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    public int getQueueDepth() {
+        return queue.size();
+    }
+    
+    private Set<Long> membersOf(Long eventId) {
+        return membersByEvent.computeIfAbsent(eventId, id -> {
+            Set<Long> members = ConcurrentHashMap.newKeySet();
+            members.addAll(registrationRepository.findUserIdsByEventId(id));
+            return members;
+        });
+    }
+    
+    private void drainLoop() {
+        List<PendingRegistration> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRegistration first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+                recheckWaitlists(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("❌ Unexpected error in registration writer: {}", e.getMessage());
+                batch.forEach(pending -> fail(pending, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void persist(List<PendingRegistration> batch) {
+        try {
+            // All or nothing, so the row-by-row retry never meets rows of its own batch
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                        ps.setLong(1, pending.userId());
+                        ps.setLong(2, pending.eventId());
+                        ps.setString(3, pending.status().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(pending.requestedAt()));
+                        ps.setString(5, pending.expectations());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                    }));
+            batch.forEach(this::succeed);
+            log.debug("💾 Persisted {} registrations", batch.size());
+        } catch (DataAccessException e) {
+            // Isolate the offending rows and keep the rest of the batch
+            log.warn("⚠️ Registration batch of {} failed, retrying row by row: {}", batch.size(), e.getMessage());
+            for (PendingRegistration pending : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, pending.userId(), pending.eventId(), pending.status().name(),
+                            Timestamp.valueOf(pending.requestedAt()), pending.expectations(),
+                            Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()));
+                    succeed(pending);
+                } catch (DuplicateKeyException duplicate) {
+                    releaseSeat(pending);
+                    pending.result().complete(RegistrationResult.duplicate(pending.userId(), pending.eventId()));
+                } catch (DataAccessException rowFailure) {
+                    fail(pending, rowFailure);
+                }
+            }
+        }
+    }
+    
+    /**
+     * A seat freed while a WAITLIST registration was still queued found an
+     * empty waitlist, so look again once the queued rows are stored
+     */
+    private void recheckWaitlists(List<PendingRegistration> batch) {
+        batch.stream()
+                .filter(pending -> pending.status() == RegistrationStatus.WAITLIST)
+                .map(PendingRegistration::eventId)
+                .distinct()
+                .forEach(eventId -> {
+                    try {
+                        String eventTitle = eventService.getEventById(eventId).map(Event::getTitle).orElse(null);
+                        waitlistManager.promoteIntoFreeSeats(eventId, eventTitle);
+                    } catch (RuntimeException e) {
+                        log.error("❌ Failed to re-check the waitlist of event {}: {}", eventId, e.getMessage());
+                    }
+                });
+    }
+    
+    private void succeed(PendingRegistration pending) {
+        if (pending.status() == RegistrationStatus.CONFIRMED) {
+            platformStatistics.onPublishedAttendeesChanged(1);
+        } else {
+            waitlistManager.enqueue(pending.eventId(), pending.userId());
+        }
+        pending.result().complete(RegistrationResult.accepted(pending.userId(), pending.eventId(), pending.status()));
+    }
+    
+    private void fail(PendingRegistration pending, Exception cause) {
+        log.error("❌ Failed to register user {} for event {}: {}",
+                pending.userId(), pending.eventId(), cause.getMessage());
+        rollback(pending);
+        pending.result().complete(RegistrationResult.rejected(pending.userId(), pending.eventId(),
+                "Registration could not be stored"));
+    }
+    
+    private void rollback(PendingRegistration pending) {
+        releaseSeat(pending);
+        Set<Long> members = membersByEvent.get(pending.eventId());
+        if (members != null) {
+            members.remove(pending.userId());
+        }
+    }
+    
+    private void releaseSeat(PendingRegistration pending) {
+        if (pending.status() == RegistrationStatus.CONFIRMED) {
+            seatReservationEngine.release(pending.eventId(), 1);
+        }
+    }
+    
+    private record PendingRegistration(Long userId, Long eventId, RegistrationStatus status, String expectations,
+                                       LocalDateTime requestedAt, CompletableFuture<RegistrationResult> result) {}
+    
+    /**
+     * Outcome of a registration request
+     */
+    public record RegistrationResult(Long userId, Long eventId, RegistrationStatus status,
+                                     Outcome outcome, String message) {
+        
+        public enum Outcome { ACCEPTED, DUPLICATE, CLOSED, REJECTED }
+        
+        static RegistrationResult accepted(Long userId, Long eventId, RegistrationStatus status) {
+            return new RegistrationResult(userId, eventId, status, Outcome.ACCEPTED,
+                    status == RegistrationStatus.CONFIRMED ? "Registration confirmed" : "Added to the waitlist");
+        }
+        
+        static RegistrationResult duplicate(Long userId, Long eventId) {
+            return new RegistrationResult(userId, eventId, null, Outcome.DUPLICATE,
+                    "User is already registered for this event");
+        }
+        
+        static RegistrationResult closed(Long userId, Long eventId) {
+            return new RegistrationResult(userId, eventId, null, Outcome.CLOSED,
+                    "Registration is not open for this event");
+        }
+        
+        static RegistrationResult rejected(Long userId, Long eventId, String message) {
+            return new RegistrationResult(userId, eventId, null, Outcome.REJECTED, message);
+        }
+        
+        public static RegistrationResult pending(Long userId, Long eventId) {
+            return new RegistrationResult(userId, eventId, RegistrationStatus.PENDING, Outcome.ACCEPTED,
+                    "Registration received and being processed");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.eventpro.service;
+
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free seat reservation for events.
+ *
+ * Every event gets an in-memory counter that is reserved and released with
+ * compare-and-set, so concurrent sign-ups never oversell and never wait on a
+ * row lock. The counter is written back to events.current_attendees in JDBC
+ * batches (write-behind). Confirmed Registration rows are the source of truth:
+ * counters are loaded from them and the events table is reconciled against
+ * them at startup, so a crash between two flushes cannot leave drift behind.
+ * Flushed events are dropped from the event cache and their count is pushed to
+ * the upcoming events index, so in-memory views follow the new attendee count.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReservationEngine {
+    
+    private static final String FLUSH_SQL = "UPDATE events SET current_attendees = ? WHERE id = ?";
+    private static final String RECONCILE_SQL =
+            "UPDATE events SET current_attendees = (SELECT COUNT(*) FROM registrations r " +
+            "WHERE r.event_id = events.id AND r.status = '" + RegistrationStatus.CONFIRMED.name() + "')";
+    
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventCache eventCache;
+    private final UpcomingEventIndex upcomingEventIndex;
+    
+    private final ConcurrentHashMap<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyEvents = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Reserve one seat, returns false when the event is full
+     */
+    public boolean tryReserve(Long eventId) {
+        return tryReserve(eventId, 1);
+    }
+    
+    public boolean tryReserve(Long eventId, int seats) {
+        SeatCounter counter = counterFor(eventId);
+        int current;
+        do {
+            current = counter.reserved.get();
+            if (current + seats > counter.capacity) {
+                return false;
+            }
+        } while (!counter.reserved.compareAndSet(current, current + seats));
+        
+        dirtyEvents.add(eventId);
+        return true;
+    }
+    
+    /**
+     * Give seats back, e.g. after a cancellation or a failed insert
+     */
+    public void release(Long eventId, int seats) {
+        SeatCounter counter = counterFor(eventId);
+        int current;
+        do {
+            current = counter.reserved.get();
+            if (current == 0) {
+                log.warn("⚠️ Tried to release {} seats for event {} with no reservations", seats, eventId);
+                return;
+            }
+        } while (!counter.reserved.compareAndSet(current, Math.max(0, current - seats)));
+        
+        dirtyEvents.add(eventId);
+    }
+    
+    /**
+     * Apply a new capacity and return how many seats became available. A
+     * counter that is not loaded yet is loaded first, so the increase is
+     * measured against the stored capacity.
+     */
+    public int updateCapacity(Long eventId, int maxAttendees) {
+        SeatCounter counter = counterFor(eventId);
+        int previousAvailable;
+        int available;
+        synchronized (counter) {
+            previousAvailable = Math.max(0, counter.capacity - counter.reserved.get());
+            counter.capacity = maxAttendees;
+            available = Math.max(0, maxAttendees - counter.reserved.get());
+        }
+        log.info("🎟️ Capacity of event {} set to {} ({} seats available)", eventId, maxAttendees, available);
+        return Math.max(0, available - previousAvailable);
+    }
+    
+    public int getReservedSeats(Long eventId) {
+        return counterFor(eventId).reserved.get();
+    }
+    
+    public int getAvailableSeats(Long eventId) {
+        SeatCounter counter = counterFor(eventId);
+        return Math.max(0, counter.capacity - counter.reserved.get());
+    }
+    
+    /**
+     * Forget an event, e.g. after it was deleted
+     */
+    public void evict(Long eventId) {
+        counters.remove(eventId);
+        dirtyEvents.remove(eventId);
+    }
+    
+    /**
+     * Write the counters changed since the last flush to the events table
+     */
+    @Scheduled(fixedDelayString = "${eventpro.seats.flush-interval-ms:500}")
+    public void flush() {
+        if (dirtyEvents.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> batch = new ArrayList<>();
+        for (Long eventId : dirtyEvents) {
+            // Remove before reading so a concurrent reservation marks it dirty again
+            dirtyEvents.remove(eventId);
+            SeatCounter counter = counters.get(eventId);
+            if (counter != null) {
+                batch.add(new Object[]{counter.reserved.get(), eventId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            for (Object[] row : batch) {
+                eventCache.invalidate((Long) row[1]);
+                upcomingEventIndex.updateAttendees((Long) row[1], (Integer) row[0]);
+            }
+            log.debug("💾 Flushed seat counters for {} events", batch.size());
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to flush seat counters: {}", e.getMessage());
+            batch.forEach(row -> dirtyEvents.add((Long) row[1]));
+        }
+    }
+    
+    /**
+     * Recompute events.current_attendees from confirmed registrations. Runs
+     * ahead of the other startup listeners so in-memory indexes load
+     * reconciled counts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reconcile() {
+        int updated = jdbcTemplate.update(RECONCILE_SQL);
+        counters.clear();
+        eventCache.clear();
+        log.info("🔄 Seat counters reconciled against confirmed registrations for {} events", updated);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private SeatCounter counterFor(Long eventId) {
+        return counters.computeIfAbsent(eventId, this::loadCounter);
+    }
+    
+    private SeatCounter loadCounter(Long eventId) {
+        Integer capacity = eventRepository.findMaxAttendeesById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with ID: " + eventId));
+        Long confirmed = registrationRepository.countByEventIdAndStatus(eventId, RegistrationStatus.CONFIRMED);
+        log.debug("🎟️ Loaded seat counter for event {}: {}/{}", eventId, confirmed, capacity);
+        return new SeatCounter(capacity, confirmed != null ? confirmed.intValue() : 0);
+    }
+    
+    private static final class SeatCounter {
+        private final AtomicInteger reserved;
+        private volatile int capacity;
+        
+        private SeatCounter(int capacity, int reserved) {
+            this.capacity = capacity;
+            this.reserved = new AtomicInteger(reserved);
+        }
+    }
+}
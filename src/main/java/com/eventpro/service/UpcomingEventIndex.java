@@ -0,0 +1,206 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Time-ordered index of published events that have not started yet.
+ *
+ * Backed by a skip list keyed by (startDate, id); entries whose start has
+ * passed are dropped lazily from the head of the list on every read. Seat
+ * counts of indexed snapshots follow SeatReservationEngine flushes. Writes
+ * made inside a transaction are applied once it commits.
+ */
+@Component
+@Slf4j
+public class UpcomingEventIndex {
+    
+    private final EventRepository eventRepository;
+    private final Clock clock;
+    
+    private final ConcurrentSkipListMap<Key, Event> upcoming = new ConcurrentSkipListMap<>();
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    
+    private volatile boolean ready = false;
+    
+    @Autowired
+    public UpcomingEventIndex(EventRepository eventRepository) {
+        this(eventRepository, Clock.systemDefaultZone());
+    }
+    
+    UpcomingEventIndex(EventRepository eventRepository, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.clock = clock;
+    }
+    
+    /**
+     * Load the published future events at startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        log.info("📅 Building upcoming events index");
+        List<Event> events = eventRepository.findUpcomingEvents(LocalDateTime.now(clock), EventStatus.PUBLISHED);
+        
+        synchronized (this) {
+            upcoming.clear();
+            keysById.clear();
+            events.forEach(event -> apply(event.getId(), upcomingSnapshotOf(event)));
+        }
+        
+        ready = true;
+        log.info("✅ Upcoming events index built with {} events", upcoming.size());
+    }
+    
+    /**
+     * Add, move or drop an event depending on its current status and start date.
+     * The snapshot is taken right away, while lazy tags are still loadable, and
+     * applied once the transaction commits so a rollback never leaves it behind.
+     */
+    public void refresh(Event event) {
+        if (event == null || event.getId() == null) {
+            return;
+        }
+        Long eventId = event.getId();
+        Event snapshot = upcomingSnapshotOf(event);
+        afterCommit(() -> apply(eventId, snapshot));
+    }
+    
+    /**
+     * Apply a flushed attendee count to the indexed snapshot of an event
+     */
+    public synchronized void updateAttendees(Long eventId, int currentAttendees) {
+        Key key = keysById.get(eventId);
+        if (key == null) {
+            return;
+        }
+        upcoming.computeIfPresent(key, (k, snapshot) -> {
+            Event updated = EventSnapshots.copyOf(snapshot);
+            updated.setCurrentAttendees(currentAttendees);
+            return updated;
+        });
+    }
+    
+    /**
+     * Drop an event from the index once the transaction commits
+     */
+    public void remove(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        afterCommit(() -> apply(eventId, null));
+    }
+    
+    /**
+     * The next {@code limit} events to start
+     */
+    public List<Event> next(int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        expireStarted(now);
+        return collect(upcoming.tailMap(new Key(now, Long.MAX_VALUE), false), limit);
+    }
+    
+    /**
+     * Events starting between {@code from} and {@code to}, at most {@code limit} of them
+     */
+    public List<Event> between(LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        expireStarted(now);
+        LocalDateTime lower = from.isAfter(now) ? from : now;
+        if (lower.isAfter(to)) {
+            return List.of();
+        }
+        return collect(upcoming.subMap(new Key(lower, Long.MIN_VALUE), true, new Key(to, Long.MAX_VALUE), true), limit);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        return upcoming.size();
+    }
+    
+    private Event upcomingSnapshotOf(Event event) {
+        if (event.getStatus() != EventStatus.PUBLISHED || event.getStartDate() == null
+                || !event.getStartDate().isAfter(LocalDateTime.now(clock))) {
+            return null;
+        }
+        Hibernate.initialize(event.getTags());
+        return EventSnapshots.copyOf(event);
+    }
+    
+    private synchronized void apply(Long eventId, Event snapshot) {
+        Key previous = keysById.remove(eventId);
+        if (previous != null) {
+            upcoming.remove(previous);
+        }
+        if (snapshot != null) {
+            Key key = new Key(snapshot.getStartDate(), eventId);
+            upcoming.put(key, snapshot);
+            keysById.put(eventId, key);
+        }
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private List<Event> collect(Map<Key, Event> range, int limit) {
+        List<Event> result = new ArrayList<>(Math.min(limit, 64));
+        for (Event event : range.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(EventSnapshots.copyOf(event));
+        }
+        return result;
+    }
+    
+    private void expireStarted(LocalDateTime now) {
+        Map.Entry<Key, Event> head;
+        while ((head = upcoming.firstEntry()) != null && !head.getKey().startDate().isAfter(now)) {
+            if (upcoming.remove(head.getKey(), head.getValue())) {
+                keysById.remove(head.getKey().id(), head.getKey());
+                log.debug("⌛ Event {} started, removed from upcoming index", head.getKey().id());
+            }
+        }
+    }
+    
+    private record Key(LocalDateTime startDate, Long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::startDate).thenComparing(Key::id);
+        
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
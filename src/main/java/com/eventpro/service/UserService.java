@@ -21,6 +21,7 @@ import java.util.Optional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final PlatformStatistics platformStatistics;
     
     /**
      * Create a new user
@@ -42,6 +43,7 @@ public class UserService {
         }
         
         User savedUser = userRepository.save(user);
+        platformStatistics.onUserCreated(savedUser);
         log.info("✅ User created successfully with ID: {}", savedUser.getId());
         return savedUser;
     }
@@ -131,8 +133,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
         
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(false);
         User deactivatedUser = userRepository.save(user);
+        platformStatistics.onUserActivationChanged(deactivatedUser.getRole(), wasActive, false);
         
         log.info("✅ User deactivated successfully: {}", deactivatedUser.getFullName());
         return deactivatedUser;
@@ -147,8 +151,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
         
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(true);
         User activatedUser = userRepository.save(user);
+        platformStatistics.onUserActivationChanged(activatedUser.getRole(), wasActive, true);
         
         log.info("✅ User activated successfully: {}", activatedUser.getFullName());
         return activatedUser;
@@ -160,30 +166,21 @@ public class UserService {
     public void deleteUser(Long userId) {
         log.info("🗑️ Deleting user ID: {}", userId);
         
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found with ID: " + userId);
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
         
-        userRepository.deleteById(userId);
+        userRepository.delete(user);
+        platformStatistics.onUserDeleted(user);
         log.info("✅ User deleted successfully");
     }
     
     /**
-     * Get user statistics
+     * Get user statistics, served from incrementally maintained counters
      */
     @Transactional(readOnly = true)
     public UserStatistics getUserStatistics() {
-        log.debug("📊 Calculating user statistics");
-        
-        Long totalUsers = userRepository.count();
-        Long activeParticipants = userRepository.countActiveUsersByRole(UserRole.PARTICIPANT);
-        Long activeOrganizers = userRepository.countActiveUsersByRole(UserRole.ORGANIZER);
-        Long activeAdmins = userRepository.countActiveUsersByRole(UserRole.ADMIN);
-        
-        return new UserStatistics(totalUsers, 
-                activeParticipants != null ? activeParticipants : 0L,
-                activeOrganizers != null ? activeOrganizers : 0L,
-                activeAdmins != null ? activeAdmins : 0L);
+        log.debug("📊 Reading user statistics");
+        return platformStatistics.getUserStatistics();
     }
     
     /**
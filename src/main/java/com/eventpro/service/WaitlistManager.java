@@ -0,0 +1,156 @@
+package com.eventpro.service;
+
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.patterns.observer.EventManager;
+import com.eventpro.repository.RegistrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * FIFO waitlists per event, backed by WAITLIST Registration rows.
+ *
+ * Each waitlist is loaded once from the database and then kept in memory,
+ * so promoting the next person is a constant-time poll instead of a query
+ * and a sort. Promotions are written with one batched UPDATE and announced
+ * with a single observer notification.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistManager {
+    
+    private static final String PROMOTE_SQL =
+            "UPDATE registrations SET status = '" + RegistrationStatus.CONFIRMED.name() + "', updated_at = ? " +
+            "WHERE event_id = ? AND user_id = ? AND status = '" + RegistrationStatus.WAITLIST.name() + "'";
+    
+    private final RegistrationRepository registrationRepository;
+    private final SeatReservationEngine seatReservationEngine;
+    private final PlatformStatistics platformStatistics;
+    private final EventManager eventManager;
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final ConcurrentHashMap<Long, Waitlist> waitlists = new ConcurrentHashMap<>();
+    
+    /**
+     * Append a user whose WAITLIST registration has been stored
+     */
+    public void enqueue(Long eventId, Long userId) {
+        waitlistOf(eventId).add(userId);
+    }
+    
+    /**
+     * Take a user off the waitlist, e.g. after they cancelled
+     */
+    public void remove(Long eventId, Long userId) {
+        Waitlist waitlist = waitlists.get(eventId);
+        if (waitlist != null) {
+            // Removal is lazy, the stale queue entry is skipped on poll
+            waitlist.members.remove(userId);
+        }
+    }
+    
+    /**
+     * Promote up to {@code freedSeats} waitlisted users to CONFIRMED
+     */
+    public List<Long> promote(Long eventId, String eventTitle, int freedSeats) {
+        if (freedSeats <= 0) {
+            return List.of();
+        }
+        Waitlist waitlist = waitlistOf(eventId);
+        List<Long> promoted = new ArrayList<>();
+        
+        synchronized (waitlist) {
+            while (promoted.size() < freedSeats) {
+                Long userId = waitlist.queue.pollFirst();
+                if (userId == null) {
+                    break;
+                }
+                if (!waitlist.members.contains(userId)) {
+                    continue;
+                }
+                if (!seatReservationEngine.tryReserve(eventId)) {
+                    waitlist.queue.offerFirst(userId);
+                    break;
+                }
+                waitlist.members.remove(userId);
+                promoted.add(userId);
+            }
+        }
+        if (promoted.isEmpty()) {
+            return promoted;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] updated = jdbcTemplate.batchUpdate(PROMOTE_SQL, promoted, promoted.size(), (ps, userId) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, eventId);
+            ps.setLong(3, userId);
+        });
+        
+        // Rows that were no longer WAITLIST (cancelled concurrently) give their seat back
+        List<Long> confirmed = new ArrayList<>(promoted.size());
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int rows : batch) {
+                Long userId = promoted.get(index++);
+                if (rows == 0) {
+                    seatReservationEngine.release(eventId, 1);
+                } else {
+                    confirmed.add(userId);
+                }
+            }
+        }
+        
+        if (!confirmed.isEmpty()) {
+            platformStatistics.onPublishedAttendeesChanged(confirmed.size());
+            eventManager.promoteFromWaitlist(eventId, eventTitle, confirmed);
+            log.info("⬆️ Promoted {} users from the waitlist of event {}", confirmed.size(), eventId);
+        }
+        return confirmed;
+    }
+    
+    /**
+     * Promote waitlisted users into seats that are free right now, e.g. seats
+     * released while their registrations were still queued for writing
+     */
+    public List<Long> promoteIntoFreeSeats(Long eventId, String eventTitle) {
+        int available = seatReservationEngine.getAvailableSeats(eventId);
+        return available > 0 ? promote(eventId, eventTitle, available) : List.of();
+    }
+    
+    public int size(Long eventId) {
+        Waitlist waitlist = waitlists.get(eventId);
+        return waitlist != null ? waitlist.members.size() : 0;
+    }
+    
+    private Waitlist waitlistOf(Long eventId) {
+        return waitlists.computeIfAbsent(eventId, id -> {
+            Waitlist waitlist = new Waitlist();
+            registrationRepository.findUserIdsByEventIdAndStatusInOrder(id, RegistrationStatus.WAITLIST)
+                    .forEach(waitlist::add);
+            log.debug("📋 Loaded waitlist of event {} with {} users", id, waitlist.members.size());
+            return waitlist;
+        });
+    }
+    
+    private static final class Waitlist {
+        private final ConcurrentLinkedDeque<Long> queue = new ConcurrentLinkedDeque<>();
+        private final Set<Long> members = ConcurrentHashMap.newKeySet();
+        
+        private void add(Long userId) {
+            if (members.add(userId)) {
+                queue.offerLast(userId);
+            }
+        }
+    }
+}
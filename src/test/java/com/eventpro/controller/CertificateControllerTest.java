@@ -0,0 +1,138 @@
+package com.eventpro.controller;
+
+import com.eventpro.model.Certificate;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.service.CertificateBundleService;
+import com.eventpro.service.CertificateFileService;
+import com.eventpro.service.CertificateJobService;
+import com.eventpro.service.CertificateVerificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for certificate downloads
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateControllerTest {
+    
+    private static final String CONTENT = "%PDF-1.7 certificado de prueba";
+    
+    @TempDir
+    Path tempDir;
+    
+    private Path storage;
+    
+    @Mock
+    private CertificateRepository certificateRepository;
+    
+    @Mock
+    private CertificateVerificationService verificationService;
+    
+    @Mock
+    private CertificateJobService certificateJobService;
+    
+    private MockMvc mockMvc;
+    private String etag;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = tempDir.resolve("certificates");
+        Path file = storage.resolve("standard").resolve("CERT-1.pdf");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, CONTENT, StandardCharsets.US_ASCII);
+        Files.writeString(tempDir.resolve("secret.txt"), "secreto");
+        
+        lenient().when(certificateRepository.findByCertificateId("CERT-1"))
+                .thenReturn(Optional.of(Certificate.builder().certificateId("CERT-1").filePath(file.toString()).build()));
+        lenient().when(certificateRepository.findByCertificateId("CERT-EVIL"))
+                .thenReturn(Optional.of(Certificate.builder().certificateId("CERT-EVIL").filePath("../secret.txt").build()));
+        
+        CertificateFileService fileService = new CertificateFileService(certificateRepository, storage.toString());
+        mockMvc = MockMvcBuilders.standaloneSetup(new CertificateController(verificationService, fileService,
+                new CertificateBundleService(certificateRepository, fileService), certificateJobService)).build();
+        etag = fileService.findFile("CERT-1").orElseThrow().etag();
+    }
+    
+    @Test
+    void testFullDownload() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/certificates/CERT-1/download"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType("application/pdf"))
+                .andReturn();
+        
+        // Then
+        assertEquals(CONTENT, result.getResponse().getContentAsString());
+        assertEquals(CONTENT.length(), result.getResponse().getContentLength());
+    }
+    
+    @Test
+    void testRelativeStoragePathServesRenderedFile() throws Exception {
+        // Given: the renderer stores paths built from a relative storage-path as they are
+        Path relativeStorage = Path.of("").toAbsolutePath().relativize(storage);
+        CertificateFileService fileService = new CertificateFileService(certificateRepository, relativeStorage.toString());
+        
+        // When
+        Optional<CertificateFileService.CertificateFile> file = fileService.resolve("CERT-1",
+                relativeStorage.resolve("standard").resolve("CERT-1.pdf").toString());
+        
+        // Then
+        assertTrue(file.isPresent());
+        assertEquals(CONTENT.length(), file.get().size());
+        assertTrue(fileService.resolve("CERT-EVIL", relativeStorage.resolve("../secret.txt").toString()).isEmpty());
+    }
+    
+    @Test
+    void testRangeDownload() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/certificates/CERT-1/download").header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/" + CONTENT.length()))
+                .andExpect(content().string("%PDF-1.7"));
+        
+        mockMvc.perform(get("/api/certificates/CERT-1/download").header(HttpHeaders.RANGE, "bytes=-6"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("prueba"));
+        
+        mockMvc.perform(get("/api/certificates/CERT-1/download").header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+    
+    @Test
+    void testConditionalRequestIsNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/certificates/CERT-1/download").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void testFilesOutsideStorageAreNotServed() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/certificates/CERT-EVIL/download"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/certificates/CERT-404/download"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,60 @@
+package com.eventpro.controller;
+
+import com.eventpro.service.EventService;
+import com.eventpro.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WebController
+ */
+@ExtendWith(MockitoExtension.class)
+class WebControllerTest {
+    
+    @Mock
+    private EventService eventService;
+    
+    @Mock
+    private UserService userService;
+    
+    @InjectMocks
+    private WebController webController;
+    
+    @Test
+    void testPlainListingRejectsPageNumber() {
+        // Given
+        ExtendedModelMap model = new ExtendedModelMap();
+        
+        // When
+        String view = webController.events(model, 3, 12, null, null);
+        
+        // Then
+        assertEquals("error", view);
+        verify(eventService, never()).getEventsSlice(any(), anyInt(), anyString(), anyBoolean(), anyBoolean());
+    }
+    
+    @Test
+    void testPlainListingIsPagedByCursor() {
+        // Given
+        ExtendedModelMap model = new ExtendedModelMap();
+        when(eventService.getEventsSlice("abc", 12, "startDate", false, false))
+                .thenReturn(new EventService.EventSlice(List.of(), "def", true, null));
+        
+        // When
+        String view = webController.events(model, null, 12, null, "abc");
+        
+        // Then
+        assertEquals("events", view);
+        assertEquals("def", model.getAttribute("nextCursor"));
+    }
+}
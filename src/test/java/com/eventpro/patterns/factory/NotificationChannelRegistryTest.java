@@ -0,0 +1,101 @@
+package com.eventpro.patterns.factory;
+
+import com.eventpro.model.NotificationType;
+import com.eventpro.patterns.factory.notifications.INotification;
+import com.eventpro.patterns.factory.notifications.NotificationRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the notification channel registry
+ */
+class NotificationChannelRegistryTest {
+    
+    private NotificationChannelRegistry registry;
+    
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("eventpro.notifications.channels.sms.threads", "1")
+                .withProperty("eventpro.notifications.channels.sms.queue-capacity", "1")
+                .withProperty("eventpro.notifications.channels.sms.timeout-ms", "300")
+                .withProperty("eventpro.notifications.channels.sms.retry.max-attempts", "1");
+        registry = new NotificationChannelRegistry(environment, (JavaMailSender) null, null, null, null);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+    
+    @Test
+    void testChannelsAreReused() {
+        // When & Then
+        assertSame(registry.getChannel(NotificationType.EMAIL), registry.getChannel(NotificationType.EMAIL));
+        assertEquals("SMS", registry.getChannel(NotificationType.SMS).getNotificationType());
+        assertThrows(IllegalArgumentException.class, () -> registry.getChannel(null));
+    }
+    
+    @Test
+    void testSaturatedChannelDoesNotStallOthers() throws Exception {
+        // Given
+        INotification sms = registry.getChannel(NotificationType.SMS);
+        INotification email = registry.getChannel(NotificationType.EMAIL);
+        
+        // When
+        CompletableFuture<Boolean> running = sms.send("+51999888001", "Mensaje", null, Map.of());
+        CompletableFuture<Boolean> queued = sms.send("+51999888002", "Mensaje", null, Map.of());
+        CompletableFuture<Boolean> rejected = sms.send("+51999888003", "Mensaje", null, Map.of());
+        CompletableFuture<Boolean> emailSent = email.send("ana@eventpro.com", "Mensaje", "Asunto", Map.of());
+        
+        // Then
+        assertFalse(rejected.get(100, TimeUnit.MILLISECONDS), "Full SMS queue should reject at once");
+        assertFalse(running.get(1, TimeUnit.SECONDS), "Slow SMS should time out");
+        assertFalse(queued.get(1, TimeUnit.SECONDS));
+        assertTrue(emailSent.get(3, TimeUnit.SECONDS), "E-mail must not wait for the SMS channel");
+        
+        Map<String, Object> smsStatistics = registry.getStatistics().get(NotificationType.SMS);
+        assertEquals(1L, smsStatistics.get("rejected"));
+        assertEquals(2L, smsStatistics.get("timedOut"));
+        assertEquals(2L, smsStatistics.get("deliveryUnknown"), "Timed-out sends are not retried");
+    }
+    
+    @Test
+    void testFullRateLimitBacklogWaitIsBounded() throws Exception {
+        // Given
+        NotificationRateLimiter rateLimiter = new NotificationRateLimiter(1, 1, 100, 10, 1, 20);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("eventpro.notifications.channels.sms.retry.max-attempts", "1");
+        NotificationChannelRegistry limitedRegistry = new NotificationChannelRegistry(environment,
+                (JavaMailSender) null, null, rateLimiter, null);
+        try {
+            INotification sms = limitedRegistry.getChannel(NotificationType.SMS);
+            INotification email = limitedRegistry.getChannel(NotificationType.EMAIL);
+            
+            // When
+            long start = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                sms.send("+5199988800" + i, "Mensaje", null, Map.of());
+            }
+            CompletableFuture<Boolean> emailSent = email.send("ana@eventpro.com", "Mensaje", "Asunto", Map.of());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            
+            // Then
+            assertTrue(elapsedMillis < 500, "A full SMS backlog may hold the caller only briefly, took " + elapsedMillis);
+            assertTrue(emailSent.get(3, TimeUnit.SECONDS));
+            assertTrue((long) rateLimiter.getStatistics().get("SMS").get("rejected") >= 7);
+        } finally {
+            limitedRegistry.shutdown();
+            rateLimiter.shutdown();
+        }
+    }
+}
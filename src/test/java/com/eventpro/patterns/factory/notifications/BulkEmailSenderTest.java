@@ -0,0 +1,94 @@
+package com.eventpro.patterns.factory.notifications;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bulk e-mail sending against a local GreenMail SMTP server
+ */
+class BulkEmailSenderTest {
+    
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+    
+    private BulkEmailSender bulkEmailSender;
+    
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        bulkEmailSender = new BulkEmailSender(mailSender, 50, 4, "noreply@eventpro.com");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bulkEmailSender.shutdown();
+    }
+    
+    @Test
+    void testBulkSendDeliversEveryMessage() throws Exception {
+        // Given
+        List<String> recipients = IntStream.range(0, 1000)
+                .mapToObj(i -> "asistente" + i + "@eventpro.com")
+                .toList();
+        
+        // When
+        List<DeliveryResult> results = bulkEmailSender
+                .send(recipients, "Evento cancelado", "El evento ha sido cancelado")
+                .get(60, TimeUnit.SECONDS);
+        
+        // Then
+        assertEquals(1000, results.size());
+        assertTrue(results.stream().allMatch(DeliveryResult::delivered));
+        assertEquals(recipients.get(999), results.get(999).recipient());
+        assertTrue(greenMail.waitForIncomingEmail(10_000, 1000));
+    }
+    
+    @Test
+    void testBulkSendReportsInvalidRecipients() throws Exception {
+        // Given
+        List<String> recipients = new ArrayList<>(List.of("uno@eventpro.com", "no-es-un-correo", "dos@eventpro.com"));
+        recipients.add(null);
+        
+        // When
+        List<DeliveryResult> results = bulkEmailSender
+                .send(recipients, "Asunto", "Mensaje")
+                .get(30, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(results.get(0).delivered(), String.valueOf(results.get(0)));
+        assertFalse(results.get(1).delivered());
+        assertEquals("Invalid email address", results.get(1).error());
+        assertTrue(results.get(2).delivered());
+        assertFalse(results.get(3).delivered());
+        assertEquals(2, greenMail.getReceivedMessages().length);
+    }
+    
+    @Test
+    void testEmailNotificationUsesBulkSender() throws Exception {
+        // Given
+        EmailNotification notification = new EmailNotification(null, bulkEmailSender);
+        
+        // When
+        List<DeliveryResult> results = notification
+                .sendBulk(List.of("tres@eventpro.com", "cuatro@eventpro.com"), "Mensaje", "Asunto", null)
+                .get(30, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(results.stream().allMatch(DeliveryResult::delivered));
+        assertEquals(2, greenMail.getReceivedMessages().length);
+    }
+}
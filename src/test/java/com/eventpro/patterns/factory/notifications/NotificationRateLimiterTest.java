@@ -0,0 +1,134 @@
+package com.eventpro.patterns.factory.notifications;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-channel notification rate limiting
+ */
+class NotificationRateLimiterTest {
+    
+    private NotificationRateLimiter rateLimiter;
+    
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+    
+    @Test
+    void testSendsAreSmoothedToChannelBudget() throws Exception {
+        // Given
+        rateLimiter = new NotificationRateLimiter(50, 1, 100, 10, 1000, 500);
+        RecordingNotification sms = new RecordingNotification("SMS");
+        INotification limited = rateLimiter.limit(sms);
+        
+        // When
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 51; i++) {
+            results.add(limited.send("+51999888" + i, "Mensaje", null, Map.of()));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        
+        // Then
+        List<Long> sentAt = new ArrayList<>(sms.sentAtNanos);
+        long spanMillis = TimeUnit.NANOSECONDS.toMillis(sentAt.get(sentAt.size() - 1) - sentAt.get(0));
+        assertEquals(51, sentAt.size());
+        assertTrue(spanMillis >= 900 && spanMillis < 1500, "50 intervals at 50/s should take about 1 s, took " + spanMillis);
+        assertTrue(results.stream().allMatch(CompletableFuture::join));
+    }
+    
+    @Test
+    void testFullBacklogPushesBackOnTheCaller() throws Exception {
+        // Given
+        rateLimiter = new NotificationRateLimiter(10, 1, 20, 1, 2, 1000);
+        RecordingNotification push = new RecordingNotification("PUSH");
+        INotification limited = rateLimiter.limit(push);
+        
+        // When
+        long start = System.nanoTime();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(limited.send("device-token-" + i, "Mensaje", "Titulo", Map.of()));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(elapsedMillis >= 600, "The caller should wait for the backlog to drain, took " + elapsedMillis);
+        assertTrue(results.stream().allMatch(CompletableFuture::join), "Nothing is dropped while the wait suffices");
+        assertEquals(0L, rateLimiter.getStatistics().get("PUSH").get("rejected"));
+    }
+    
+    @Test
+    void testBacklogWaitIsBounded() throws Exception {
+        // Given
+        rateLimiter = new NotificationRateLimiter(10, 1, 1, 1, 1, 50);
+        RecordingNotification push = new RecordingNotification("PUSH");
+        INotification limited = rateLimiter.limit(push);
+        
+        // When
+        long start = System.nanoTime();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(limited.send("device-token-" + i, "Mensaje", "Titulo", Map.of()));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        
+        // Then
+        assertTrue(elapsedMillis < 800, "Each caller waits at most the backlog wait, took " + elapsedMillis);
+        Map<String, Object> statistics = rateLimiter.getStatistics().get("PUSH");
+        assertEquals(1, statistics.get("backlogCapacity"));
+        assertTrue((long) statistics.get("rejected") >= 3, "Sends still blocked after the wait are rejected");
+        assertFalse(results.get(results.size() - 1).get(1, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testUnlimitedChannelIsNotWrapped() {
+        // Given
+        rateLimiter = new NotificationRateLimiter(10, 1, 10, 1, 10, 500);
+        INotification email = new RecordingNotification("EMAIL");
+        
+        // When & Then
+        assertSame(email, rateLimiter.limit(email));
+    }
+    
+    private static class RecordingNotification implements INotification {
+        
+        private final String type;
+        private final ConcurrentLinkedQueue<Long> sentAtNanos = new ConcurrentLinkedQueue<>();
+        
+        RecordingNotification(String type) {
+            this.type = type;
+        }
+        
+        @Override
+        public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+            sentAtNanos.add(System.nanoTime());
+            return CompletableFuture.completedFuture(true);
+        }
+        
+        @Override
+        public String getNotificationType() {
+            return type;
+        }
+        
+        @Override
+        public boolean isValidRecipient(String recipient) {
+            return true;
+        }
+        
+        @Override
+        public int getMaxMessageLength() {
+            return 160;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.eventpro.patterns.factory.notifications;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for notification retries, retry budget and dead letters
+ */
+class ReliableNotificationTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private ScheduledExecutorService scheduler;
+    private DeadLetterStore deadLetterStore;
+    
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        deadLetterStore = new DeadLetterStore(tempDir.resolve("dead-letters.jsonl").toString());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+    
+    @Test
+    void testTransientFailureIsRetried() throws Exception {
+        // Given
+        FlakyNotification sms = new FlakyNotification(2);
+        ReliableNotification reliable = new ReliableNotification(sms,
+                new RetryPolicy(4, 10, 50, 0.1, 10), scheduler, deadLetterStore);
+        
+        // When
+        boolean sent = reliable.send("+51999888001", "Mensaje", null, Map.of()).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(sent);
+        assertEquals(3, sms.attempts.get());
+        assertEquals(2, reliable.getRetried());
+        assertTrue(deadLetterStore.findPending(null, 10).isEmpty());
+    }
+    
+    @Test
+    void testExhaustedSendIsDeadLetteredAndReplayable() throws Exception {
+        // Given
+        FlakyNotification sms = new FlakyNotification(Integer.MAX_VALUE);
+        ReliableNotification reliable = new ReliableNotification(sms,
+                new RetryPolicy(3, 10, 50, 0.1, 10), scheduler, deadLetterStore);
+        
+        // When
+        boolean sent = reliable.send("+51999888001", "Evento cancelado", "Aviso", Map.of()).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertFalse(sent);
+        assertEquals(3, sms.attempts.get());
+        List<DeadLetter> deadLetters = deadLetterStore.findPending("SMS", 10);
+        assertEquals(1, deadLetters.size());
+        assertEquals("+51999888001", deadLetters.get(0).recipient());
+        assertEquals("Evento cancelado", deadLetters.get(0).message());
+        assertEquals(3, deadLetters.get(0).attempts());
+        
+        deadLetterStore.markReplayed(List.of(deadLetters.get(0).id()));
+        assertTrue(deadLetterStore.findPending("SMS", 10).isEmpty());
+    }
+    
+    @Test
+    void testRetryBudgetStopsRetryStorm() throws Exception {
+        // Given
+        FlakyNotification sms = new FlakyNotification(Integer.MAX_VALUE);
+        ReliableNotification reliable = new ReliableNotification(sms,
+                new RetryPolicy(5, 1, 5, 0.0, 3), scheduler, deadLetterStore);
+        
+        // When
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(reliable.send("+5199988800" + i, "Mensaje", null, Map.of()));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertEquals(23, sms.attempts.get(), "Only the 3 budgeted retries may hit the provider");
+        assertEquals(3, reliable.getRetried());
+        assertEquals(20, deadLetterStore.findPending(null, 100).size());
+    }
+    
+    @Test
+    void testTimedOutSendIsDeadLetteredWithoutRetry() throws Exception {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        INotification slow = new FlakyNotification(0) {
+            @Override
+            public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+                attempts.incrementAndGet();
+                return new CompletableFuture<>();
+            }
+        };
+        BulkheadNotification bulkhead = new BulkheadNotification(slow, 50);
+        ReliableNotification reliable = new ReliableNotification(bulkhead,
+                new RetryPolicy(4, 10, 50, 1.0, 10), scheduler, deadLetterStore);
+        
+        // When
+        boolean sent = reliable.send("+51999888001", "Mensaje", null, Map.of()).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertFalse(sent);
+        assertEquals(1, attempts.get(), "A send that may have been delivered must not be retried");
+        assertEquals(1, bulkhead.getTimedOut());
+        assertEquals(1, reliable.getUnknown());
+        List<DeadLetter> deadLetters = deadLetterStore.findPending("SMS", 10);
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).error().contains("unknown"));
+    }
+    
+    @Test
+    void testFailedSendIsRetriedAndNotCountedAsTimeout() throws Exception {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        INotification failing = new FlakyNotification(0) {
+            @Override
+            public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+                return attempts.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new IllegalStateException("Gateway error"))
+                        : CompletableFuture.completedFuture(true);
+            }
+        };
+        BulkheadNotification bulkhead = new BulkheadNotification(failing, 1000);
+        ReliableNotification reliable = new ReliableNotification(bulkhead,
+                new RetryPolicy(3, 10, 50, 1.0, 10), scheduler, deadLetterStore);
+        
+        // When
+        boolean sent = reliable.send("+51999888001", "Mensaje", null, Map.of()).get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertTrue(sent);
+        assertEquals(2, attempts.get());
+        assertEquals(0, bulkhead.getTimedOut());
+        assertEquals(1, bulkhead.getFailed());
+    }
+    
+    @Test
+    void testRetryRunsOnTheRetryExecutor() throws Exception {
+        // Given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        INotification flaky = new FlakyNotification(1) {
+            @Override
+            public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+                threads.add(Thread.currentThread().getName());
+                return super.send(recipient, message, subject, data);
+            }
+        };
+        ExecutorService retryExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "sms-retry"));
+        try {
+            ReliableNotification reliable = new ReliableNotification(flaky,
+                    new RetryPolicy(3, 10, 50, 1.0, 10), scheduler, retryExecutor, deadLetterStore);
+            
+            // When
+            boolean sent = reliable.send("+51999888001", "Mensaje", null, Map.of()).get(5, TimeUnit.SECONDS);
+            
+            // Then
+            assertTrue(sent);
+            assertEquals(List.of(Thread.currentThread().getName(), "sms-retry"), threads);
+        } finally {
+            retryExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * SMS channel that fails a fixed number of times before delivering
+     */
+    private static class FlakyNotification implements INotification {
+        
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        
+        FlakyNotification(int failures) {
+            this.failures = failures;
+        }
+        
+        @Override
+        public CompletableFuture<Boolean> send(String recipient, String message, String subject, Map<String, Object> data) {
+            return CompletableFuture.completedFuture(attempts.incrementAndGet() > failures);
+        }
+        
+        @Override
+        public String getNotificationType() {
+            return "SMS";
+        }
+        
+        @Override
+        public boolean isValidRecipient(String recipient) {
+            return true;
+        }
+        
+        @Override
+        public int getMaxMessageLength() {
+            return 160;
+        }
+    }
+}
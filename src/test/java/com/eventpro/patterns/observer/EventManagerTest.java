@@ -0,0 +1,414 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.model.Event;
+import com.eventpro.service.CertificateJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for asynchronous observer dispatch
+ */
+class EventManagerTest {
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventManager eventManager;
+    
+    @AfterEach
+    void tearDown() {
+        if (eventManager != null) {
+            eventManager.shutdown();
+        }
+    }
+    
+    @Test
+    void testNotificationsKeepOrderPerEvent() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.BLOCK, 4, 8, 100, 1000, 5000);
+        
+        // When
+        for (int i = 0; i < 200; i++) {
+            for (long eventId = 1; eventId <= 5; eventId++) {
+                eventManager.notifyObservers(new EventData(eventId, "Evento " + i,
+                        EventData.EventType.UPDATED, null));
+            }
+        }
+        
+        // Then
+        assertTrue(eventManager.awaitQuiescence(5000));
+        for (long eventId = 1; eventId <= 5; eventId++) {
+            List<String> titles = observer.titlesFor(eventId);
+            assertEquals(200, titles.size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals("Evento " + i, titles.get(i));
+            }
+        }
+    }
+    
+    @Test
+    void testCreatedEventIsAnnouncedUnderItsSavedId() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.BLOCK, 4, 8, 100, 1000, 5000);
+        Event event = new Event();
+        event.setId(42L);
+        event.setTitle("Creado");
+        
+        // When
+        Long eventId = eventManager.createEvent(event);
+        event.setTitle("Actualizado");
+        eventManager.updateEvent(42L, event);
+        
+        // Then
+        assertTrue(eventManager.awaitQuiescence(5000));
+        assertEquals(42L, eventId);
+        assertEquals(List.of("Creado", "Actualizado"), observer.titlesFor(42L),
+                "CREATED and UPDATED share the event's lane and arrive in order");
+        assertThrows(IllegalArgumentException.class, () -> eventManager.createEvent(new Event()));
+    }
+    
+    @Test
+    void testDispatchDoesNotWaitForSlowObserver() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver observer = new RecordingObserver(release);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.SPILL, 1, 2, 100, 1000, 5000);
+        
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            eventManager.notifyObservers(new EventData(1L, "Evento " + i, EventData.EventType.UPDATED, null));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        
+        // Then
+        assertTrue(elapsedMillis < 1000, "Publishing should not block on the observer");
+        assertTrue(eventManager.awaitQuiescence(5000));
+        assertEquals(10, observer.titlesFor(1L).size());
+        assertEquals("Evento 9", observer.titlesFor(1L).get(9));
+        Map<String, Long> statistics = eventManager.getDispatchStatistics().get("RecordingObserver");
+        assertTrue(statistics.get("spilled") > 0);
+        assertEquals(0L, statistics.get("dropped"));
+    }
+    
+    @Test
+    void testSpillIsBounded() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        RecordingObserver observer = new RecordingObserver(release) {
+            @Override
+            public void update(EventData eventData) {
+                busy.countDown();
+                super.update(eventData);
+            }
+        };
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.SPILL, 1, 2, 3, 1000, 5000);
+        
+        // When: the worker holds the first notification, so the queue and spill fill deterministically
+        eventManager.notifyObservers(new EventData(1L, "Evento 0", EventData.EventType.UPDATED, null));
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 10; i++) {
+            eventManager.notifyObservers(new EventData(1L, "Evento " + i, EventData.EventType.UPDATED, null));
+        }
+        release.countDown();
+        
+        // Then
+        assertTrue(eventManager.awaitQuiescence(5000));
+        Map<String, Long> statistics = eventManager.getDispatchStatistics().get("RecordingObserver");
+        assertEquals(3L, statistics.get("spilled"));
+        assertEquals(10L - observer.titlesFor(1L).size(), statistics.get("dropped"));
+        assertTrue(statistics.get("dropped") > 0);
+    }
+    
+    @Test
+    void testBlockGivesUpAfterOfferTimeout() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver observer = new RecordingObserver(release);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.BLOCK, 1, 1, 100, 50, 5000);
+        
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            eventManager.notifyObservers(new EventData(1L, "Evento " + i, EventData.EventType.UPDATED, null));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        
+        // Then
+        assertTrue(elapsedMillis < 2000, "Publishing should wait at most the offer timeout per notification");
+        assertTrue(eventManager.awaitQuiescence(5000));
+        assertTrue(eventManager.getDispatchStatistics().get("RecordingObserver").get("dropped") > 0);
+    }
+    
+    @Test
+    void testDropOldestWhenLaneIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver observer = new RecordingObserver(release);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.DROP_OLDEST, 1, 2, 100, 1000, 5000);
+        
+        // When
+        for (int i = 0; i < 10; i++) {
+            eventManager.notifyObservers(new EventData(1L, "Evento " + i, EventData.EventType.UPDATED, null));
+        }
+        release.countDown();
+        
+        // Then
+        assertTrue(eventManager.awaitQuiescence(5000));
+        List<String> titles = observer.titlesFor(1L);
+        assertTrue(titles.size() < 10);
+        assertEquals("Evento 9", titles.get(titles.size() - 1));
+        assertEquals(10L - titles.size(),
+                eventManager.getDispatchStatistics().get("RecordingObserver").get("dropped"));
+    }
+    
+    @Test
+    void testDispatchDeferredUntilCommit() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.SYNC,
+                EventManager.OverflowPolicy.BLOCK, 1, 1, 100, 1000, 5000);
+        
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventManager.notifyObservers(new EventData(1L, "Evento", EventData.EventType.UPDATED, null));
+            
+            // Then
+            assertTrue(observer.titlesFor(1L).isEmpty());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of("Evento"), observer.titlesFor(1L));
+    }
+    
+    @Test
+    void testOutboxMessagesDispatchedAndAcknowledged() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        EventOutbox outbox = mock(EventOutbox.class);
+        eventManager = new EventManager(List.of(observer), outbox, meterRegistry, true, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.BLOCK, 2, 8, 100, 1000, 5000);
+        EventData eventData = new EventData(7L, "Evento", EventData.EventType.CANCELLED, null);
+        EventOutbox.Claimed claimed = new EventOutbox.Claimed(1L, "key-1", eventData, Set.of());
+        when(outbox.claimBatch()).thenReturn(List.of(claimed)).thenReturn(List.of());
+        
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            eventManager.notifyObservers(eventData);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        
+        // Then
+        verify(outbox).append(eventData);
+        assertTrue(observer.titlesFor(7L).isEmpty());
+        
+        eventManager.drainOutbox();
+        assertTrue(eventManager.awaitQuiescence(5000));
+        eventManager.drainOutbox();
+        assertEquals(List.of("Evento"), observer.titlesFor(7L));
+        verify(outbox, atLeastOnce()).markDelivered(argThat(messages -> messages.contains(claimed)));
+    }
+    
+    @Test
+    void testThrowingObserverLeavesOutboxMessageClaimed() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        FailingObserver failing = new FailingObserver();
+        EventOutbox outbox = mock(EventOutbox.class);
+        eventManager = new EventManager(List.of(observer, failing), outbox, meterRegistry, true,
+                EventManager.DispatchMode.ASYNC, EventManager.OverflowPolicy.BLOCK, 2, 8, 100, 1000, 5000);
+        EventData eventData = new EventData(7L, "Evento", EventData.EventType.CANCELLED, null);
+        EventOutbox.Claimed claimed = new EventOutbox.Claimed(1L, "key-1", eventData, Set.of());
+        when(outbox.claimBatch()).thenReturn(List.of(claimed)).thenReturn(List.of());
+        
+        // When
+        eventManager.drainOutbox();
+        assertTrue(eventManager.awaitQuiescence(5000));
+        eventManager.drainOutbox();
+        
+        // Then
+        assertEquals(List.of("Evento"), observer.titlesFor(7L));
+        verify(outbox, never()).markDelivered(argThat(messages -> messages.contains(claimed)));
+        verify(outbox).release(claimed, Set.of("RecordingObserver"));
+    }
+    
+    @Test
+    void testFailedCertificateJobStartIsRedelivered() throws InterruptedException {
+        // Given
+        CertificateJobService certificateJobService = mock(CertificateJobService.class);
+        when(certificateJobService.startJob(7L, false)).thenThrow(new IllegalStateException("Storage unavailable"));
+        EventOutbox outbox = mock(EventOutbox.class);
+        eventManager = new EventManager(List.of(new CertificateGeneratorObserver(certificateJobService)), outbox,
+                meterRegistry, true, EventManager.DispatchMode.ASYNC, EventManager.OverflowPolicy.BLOCK,
+                2, 8, 100, 1000, 5000);
+        EventData eventData = new EventData(7L, "Evento", EventData.EventType.COMPLETED, null);
+        EventOutbox.Claimed claimed = new EventOutbox.Claimed(1L, "key-1", eventData, Set.of());
+        when(outbox.claimBatch()).thenReturn(List.of(claimed)).thenReturn(List.of());
+        
+        // When
+        eventManager.drainOutbox();
+        assertTrue(eventManager.awaitQuiescence(5000));
+        eventManager.drainOutbox();
+        
+        // Then
+        verify(outbox, never()).markDelivered(argThat(messages -> messages.contains(claimed)));
+        verify(outbox).release(claimed, Set.of());
+    }
+    
+    @Test
+    void testRedeliverySkipsObserversThatHandledTheMessage() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        EventOutbox outbox = mock(EventOutbox.class);
+        eventManager = new EventManager(List.of(observer), outbox, meterRegistry, true,
+                EventManager.DispatchMode.ASYNC, EventManager.OverflowPolicy.BLOCK, 2, 8, 100, 1000, 5000);
+        EventData eventData = new EventData(7L, "Evento", EventData.EventType.CANCELLED, null);
+        EventOutbox.Claimed claimed = new EventOutbox.Claimed(1L, "key-1", eventData, Set.of("RecordingObserver"));
+        when(outbox.claimBatch()).thenReturn(List.of(claimed)).thenReturn(List.of());
+        
+        // When
+        eventManager.drainOutbox();
+        assertTrue(eventManager.awaitQuiescence(5000));
+        eventManager.drainOutbox();
+        
+        // Then
+        assertTrue(observer.titlesFor(7L).isEmpty());
+        verify(outbox, atLeastOnce()).markDelivered(argThat(messages -> messages.contains(claimed)));
+        verify(outbox, never()).release(any(), any());
+    }
+    
+    @Test
+    void testObserverUpdatesAreTimedPerEventType() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        eventManager = new EventManager(List.of(observer), null, meterRegistry, false, EventManager.DispatchMode.ASYNC,
+                EventManager.OverflowPolicy.BLOCK, 2, 8, 100, 1000, 5000);
+        
+        // When
+        for (int i = 0; i < 3; i++) {
+            eventManager.notifyObservers(new EventData((long) i, "Evento", EventData.EventType.UPDATED, null));
+        }
+        eventManager.notifyObservers(new EventData(9L, "Evento", EventData.EventType.COMPLETED, null));
+        assertTrue(eventManager.awaitQuiescence(5000));
+        
+        // Then
+        Timer updated = meterRegistry.get(ObserverMetrics.UPDATE_TIMER)
+                .tags("observer", "RecordingObserver", "eventType", "UPDATED").timer();
+        Timer completed = meterRegistry.get(ObserverMetrics.UPDATE_TIMER)
+                .tags("observer", "RecordingObserver", "eventType", "COMPLETED").timer();
+        assertEquals(3, updated.count());
+        assertEquals(1, completed.count());
+        assertEquals(0.0, meterRegistry.get(ObserverMetrics.QUEUE_DEPTH_GAUGE).gauge().value());
+        assertTrue(eventManager.getObserverMetrics().get("RecordingObserver").containsKey("eventTypes"));
+    }
+    
+    @Test
+    void testRemovedObserverMetersLeaveTheRegistry() throws InterruptedException {
+        // Given
+        RecordingObserver observer = new RecordingObserver(null);
+        FailingObserver failing = new FailingObserver();
+        eventManager = new EventManager(List.of(observer, failing), null, meterRegistry, false,
+                EventManager.DispatchMode.ASYNC, EventManager.OverflowPolicy.BLOCK, 2, 8, 100, 1000, 5000);
+        eventManager.notifyObservers(new EventData(1L, "Evento", EventData.EventType.UPDATED, null));
+        assertTrue(eventManager.awaitQuiescence(5000));
+        assertFalse(meterRegistry.find(ObserverMetrics.ERROR_COUNTER).tag("observer", "FailingObserver")
+                .meters().isEmpty());
+        
+        // When
+        eventManager.removeObserver(failing);
+        
+        // Then
+        assertTrue(meterRegistry.getMeters().stream()
+                .noneMatch(meter -> "FailingObserver".equals(meter.getId().getTag("observer"))));
+        assertEquals(1, meterRegistry.find(ObserverMetrics.UPDATE_TIMER)
+                .tag("observer", "RecordingObserver").timers().size());
+    }
+    
+    private static class RecordingObserver implements IEventObserver {
+        
+        private final CountDownLatch gate;
+        private final Map<Long, List<String>> received = new ConcurrentHashMap<>();
+        
+        RecordingObserver(CountDownLatch gate) {
+            this.gate = gate;
+        }
+        
+        @Override
+        public void update(EventData eventData) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.computeIfAbsent(eventData.getEventId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(eventData.getEventTitle());
+        }
+        
+        @Override
+        public String getObserverName() {
+            return "RecordingObserver";
+        }
+        
+        @Override
+        public boolean isInterestedIn(EventData.EventType eventType) {
+            return true;
+        }
+        
+        List<String> titlesFor(Long eventId) {
+            return new ArrayList<>(received.getOrDefault(eventId, List.of()));
+        }
+    }
+    
+    private static class FailingObserver implements IEventObserver {
+        
+        @Override
+        public void update(EventData eventData) {
+            throw new IllegalStateException("SMTP server unavailable");
+        }
+        
+        @Override
+        public String getObserverName() {
+            return "FailingObserver";
+        }
+        
+        @Override
+        public boolean isInterestedIn(EventData.EventType eventType) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.model.OutboxMessage;
+import com.eventpro.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the transactional outbox against the database
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "eventpro.outbox.max-attempts=2"})
+@Import({EventOutbox.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventOutboxTest {
+    
+    @Autowired
+    private EventOutbox eventOutbox;
+    
+    @Autowired
+    private OutboxMessageRepository outboxRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+    }
+    
+    @Test
+    void testSameNotificationIsStoredOnce() {
+        // Given
+        EventData eventData = new EventData(3L, "Evento", EventData.EventType.CANCELLED, null,
+                LocalDateTime.of(2026, 3, 1, 9, 0));
+        
+        // When
+        append(eventData);
+        append(eventData);
+        append(new EventData(3L, "Evento", EventData.EventType.CANCELLED, null,
+                LocalDateTime.of(2026, 3, 1, 9, 5)));
+        
+        // Then
+        assertEquals(2, outboxRepository.count());
+    }
+    
+    @Test
+    void testClaimedMessageCarriesSnapshotTakenAtAppend() {
+        // Given
+        Event event = Event.builder()
+                .id(3L)
+                .title("Evento")
+                .status(EventStatus.PUBLISHED)
+                .startDate(LocalDateTime.of(2026, 3, 1, 9, 0))
+                .location("Lima")
+                .maxAttendees(100)
+                .build();
+        append(new EventData(3L, "Evento", EventData.EventType.UPDATED, EventSnapshot.of(event)));
+        event.setLocation("Cusco");
+        
+        // When
+        List<EventOutbox.Claimed> claimed = eventOutbox.claimBatch();
+        
+        // Then
+        assertEquals(1, claimed.size());
+        EventSnapshot snapshot = (EventSnapshot) claimed.get(0).eventData().getData();
+        assertEquals("Lima", snapshot.location());
+        assertEquals(EventStatus.PUBLISHED, snapshot.status());
+        assertEquals(100, snapshot.maxAttendees());
+    }
+    
+    @Test
+    void testReleasedMessageStaysClaimedAndRemembersObservers() {
+        // Given
+        append(new EventData(3L, "Evento", EventData.EventType.CANCELLED, null));
+        EventOutbox.Claimed claimed = eventOutbox.claimBatch().get(0);
+        
+        // When
+        eventOutbox.release(claimed, Set.of("AnalyticsObserver"));
+        
+        // Then
+        OutboxMessage message = outboxRepository.findById(claimed.messageId()).orElseThrow();
+        assertEquals(OutboxMessage.Status.IN_FLIGHT, message.getStatus());
+        assertEquals("AnalyticsObserver", message.getHandledBy());
+        assertTrue(eventOutbox.claimBatch().isEmpty());
+    }
+    
+    @Test
+    void testMessageOutOfAttemptsIsMarkedFailed() {
+        // Given
+        append(new EventData(3L, "Evento", EventData.EventType.CANCELLED, null));
+        EventOutbox.Claimed first = eventOutbox.claimBatch().get(0);
+        Long messageId = first.messageId();
+        expireClaim(first);
+        expireClaim(eventOutbox.claimBatch().get(0));
+        
+        // When
+        List<EventOutbox.Claimed> claimed = eventOutbox.claimBatch();
+        
+        // Then
+        assertTrue(claimed.isEmpty(), "A message out of attempts should not be dispatched again");
+        OutboxMessage message = outboxRepository.findById(messageId).orElseThrow();
+        assertEquals(OutboxMessage.Status.FAILED, message.getStatus());
+        assertEquals(2, message.getAttempts());
+        assertEquals(1L, eventOutbox.getStatistics().get("failed"));
+        assertEquals(0L, eventOutbox.getStatistics().get("pending"));
+    }
+    
+    /**
+     * Release a claimed message the way a failed dispatch followed by a claim timeout does
+     */
+    private void expireClaim(EventOutbox.Claimed claimed) {
+        eventOutbox.release(claimed, Set.of());
+        OutboxMessage message = outboxRepository.findById(claimed.messageId()).orElseThrow();
+        message.setStatus(OutboxMessage.Status.PENDING);
+        outboxRepository.save(message);
+    }
+    
+    private void append(EventData eventData) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventOutbox.append(eventData));
+    }
+}
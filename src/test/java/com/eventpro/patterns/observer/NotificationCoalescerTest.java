@@ -0,0 +1,195 @@
+package com.eventpro.patterns.observer;
+
+import com.eventpro.repository.PendingNotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for notification coalescing, driven by a manual clock
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationCoalescerTest {
+    
+    @Autowired
+    private PendingNotificationRepository pendingRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T09:00:00Z"));
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        pendingRepository.deleteAll();
+    }
+    
+    @Test
+    void testBurstCollapsesIntoLatestState() {
+        // Given
+        NotificationCoalescer coalescer = coalescer(150, 5000);
+        
+        // When
+        for (int i = 1; i <= 5; i++) {
+            coalescer.submit(1L, null, EventData.EventType.UPDATED, updated(1L, "Version " + i));
+            clock.advance(Duration.ofMillis(20));
+            coalescer.flushDue();
+        }
+        assertTrue(sent.isEmpty());
+        clock.advance(Duration.ofMillis(150));
+        coalescer.flushDue();
+        
+        // Then
+        assertEquals(List.of("*:Version 5"), sent);
+        assertEquals(4L, coalescer.getStatistics().get("coalesced"));
+        assertEquals(0L, coalescer.getStatistics().get("pending"));
+    }
+    
+    @Test
+    void testEachRecipientIsCoalescedSeparately() {
+        // Given
+        NotificationCoalescer coalescer = coalescer(100, 5000);
+        
+        // When
+        coalescer.submitAll(1L, List.of("ana@eventpro.com", "luis@eventpro.com"),
+                EventData.EventType.UPDATED, updated(1L, "Evento 1"));
+        coalescer.submit(1L, "ana@eventpro.com", EventData.EventType.UPDATED, updated(1L, "Evento 1 v2"));
+        coalescer.submit(2L, "ana@eventpro.com", EventData.EventType.UPDATED, updated(2L, "Evento 2"));
+        clock.advance(Duration.ofMillis(100));
+        coalescer.flushDue();
+        
+        // Then
+        assertEquals(3, sent.size());
+        assertTrue(sent.containsAll(List.of(
+                "ana@eventpro.com:Evento 1 v2", "luis@eventpro.com:Evento 1", "ana@eventpro.com:Evento 2")));
+    }
+    
+    @Test
+    void testMaxDelayBoundsContinuousEditing() {
+        // Given
+        NotificationCoalescer coalescer = coalescer(200, 300);
+        
+        // When
+        for (int i = 1; i <= 10; i++) {
+            coalescer.submit(1L, null, EventData.EventType.UPDATED, updated(1L, "Version " + i));
+            coalescer.flushDue();
+            clock.advance(Duration.ofMillis(50));
+        }
+        clock.advance(Duration.ofMillis(200));
+        coalescer.flushDue();
+        
+        // Then
+        assertEquals(List.of("*:Version 7", "*:Version 10"), sent);
+    }
+    
+    @Test
+    void testDiscardDropsPendingNotifications() {
+        // Given
+        NotificationCoalescer coalescer = coalescer(100, 5000);
+        coalescer.submit(1L, null, EventData.EventType.UPDATED, updated(1L, "Evento"));
+        
+        // When
+        coalescer.discard(1L);
+        clock.advance(Duration.ofMillis(300));
+        coalescer.flushDue();
+        
+        // Then
+        assertTrue(sent.isEmpty());
+        assertEquals(1L, coalescer.getStatistics().get("discarded"));
+    }
+    
+    @Test
+    void testPendingNotificationsSurviveRestart() {
+        // Given
+        NotificationCoalescer beforeRestart = new NotificationCoalescer(pendingRepository, objectMapper,
+                transactionManager, 100, 5000, clock);
+        beforeRestart.submit(1L, "ana@eventpro.com", EventData.EventType.UPDATED, updated(1L, "Evento"));
+        
+        // When
+        NotificationCoalescer afterRestart = coalescer(100, 5000);
+        clock.advance(Duration.ofMillis(100));
+        afterRestart.flushDue();
+        
+        // Then
+        assertEquals(List.of("ana@eventpro.com:Evento"), sent);
+    }
+    
+    @Test
+    void testFailedSendIsRetriedAfterQuietWindow() {
+        // Given
+        NotificationCoalescer coalescer = new NotificationCoalescer(pendingRepository, objectMapper,
+                transactionManager, 100, 5000, clock);
+        List<String> attempts = new CopyOnWriteArrayList<>();
+        coalescer.registerSender(EventData.EventType.UPDATED, (recipient, latest) -> {
+            attempts.add(latest.getEventTitle());
+            if (attempts.size() == 1) {
+                throw new IllegalStateException("SMTP server unavailable");
+            }
+        });
+        coalescer.submit(1L, null, EventData.EventType.UPDATED, updated(1L, "Evento"));
+        
+        // When
+        clock.advance(Duration.ofMillis(100));
+        coalescer.flushDue();
+        coalescer.flushDue();
+        clock.advance(Duration.ofMillis(100));
+        coalescer.flushDue();
+        
+        // Then
+        assertEquals(List.of("Evento", "Evento"), attempts);
+        assertEquals(0L, coalescer.getStatistics().get("pending"));
+    }
+    
+    private NotificationCoalescer coalescer(long quietWindowMillis, long maxDelayMillis) {
+        NotificationCoalescer coalescer = new NotificationCoalescer(pendingRepository, objectMapper,
+                transactionManager, quietWindowMillis, maxDelayMillis, clock);
+        coalescer.registerSender(EventData.EventType.UPDATED,
+                (recipient, latest) -> sent.add((recipient != null ? recipient : "*") + ":" + latest.getEventTitle()));
+        return coalescer;
+    }
+    
+    private EventData updated(Long eventId, String title) {
+        return new EventData(eventId, title, EventData.EventType.UPDATED, null, LocalDateTime.now(clock));
+    }
+    
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+        
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+        
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
+import com.eventpro.service.CertificateIssuanceService.IssueResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batch certificate engine
+ */
+class CertificateBatchEngineTest {
+    
+    private CertificateBatchEngine engine;
+    
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+    
+    @Test
+    void testConcurrentJobsKeepTheirOwnStrategy() throws Exception {
+        // Given
+        engine = new CertificateBatchEngine(4, 10);
+        List<ParticipantData> participants = participants(100);
+        
+        // When
+        CertificateBatchEngine.BatchJob standard = engine.submit(participants, event(1L),
+                new FixedStrategy(CertificateType.STANDARD, 1));
+        CertificateBatchEngine.BatchJob premium = engine.submit(participants, event(2L),
+                new FixedStrategy(CertificateType.PREMIUM, 1));
+        List<CertificateResult> standardResults = standard.getResults().get(10, TimeUnit.SECONDS);
+        List<CertificateResult> premiumResults = premium.getResults().get(10, TimeUnit.SECONDS);
+        
+        // Then
+        assertEquals(100, standardResults.size());
+        assertTrue(standardResults.stream().allMatch(result -> result.getType() == CertificateType.STANDARD));
+        assertTrue(premiumResults.stream().allMatch(result -> result.getType() == CertificateType.PREMIUM));
+        assertEquals("CERT-1", standardResults.get(0).getCertificateId(), "Results keep participant order");
+        assertEquals(CertificateBatchEngine.JobStatus.COMPLETED, premium.getStatus());
+        assertEquals(10, premium.getCompletedChunks());
+        assertEquals(1.0, premium.getProgress());
+    }
+    
+    @Test
+    void testFailedParticipantsAreCountedNotFatal() throws Exception {
+        // Given
+        engine = new CertificateBatchEngine(2, 5);
+        ICertificateStrategy strategy = new FixedStrategy(CertificateType.STANDARD, 0) {
+            @Override
+            public CertificateResult render(ParticipantData participant, Event event) {
+                if (participant.getId() % 10 == 0) {
+                    throw new IllegalArgumentException("Not enough hours");
+                }
+                return super.render(participant, event);
+            }
+        };
+        
+        // When
+        CertificateBatchEngine.BatchJob job = engine.submit(participants(50), event(1L), strategy);
+        List<CertificateResult> results = job.getResults().get(10, TimeUnit.SECONDS);
+        
+        // Then
+        assertEquals(45, results.size());
+        assertEquals(45, job.getGenerated());
+        assertEquals(5, job.getFailed());
+    }
+    
+    @Test
+    void testStorageFailureFailsTheJobAndDuplicatesDoNot() throws Exception {
+        // Given
+        engine = new CertificateBatchEngine(2, 5);
+        FixedStrategy strategy = new FixedStrategy(CertificateType.STANDARD, 0);
+        
+        // When
+        CertificateBatchEngine.BatchJob duplicated = engine.submit(participants(10), event(1L), strategy,
+                (chunk, rerender) -> new IssueResult(chunk.size() - 1, 1, 0));
+        CertificateBatchEngine.BatchJob unstored = engine.submit(participants(10), event(2L), strategy,
+                (chunk, rerender) -> {
+                    if (chunk.get(0).getCertificateId().equals("CERT-6")) {
+                        throw new IllegalStateException("Database unavailable");
+                    }
+                    return new IssueResult(chunk.size(), 0, 0);
+                });
+        
+        // Then
+        assertEquals(10, duplicated.getResults().get(10, TimeUnit.SECONDS).size());
+        assertEquals(8, duplicated.getPersisted());
+        assertEquals(2, duplicated.getDuplicates());
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> unstored.getResults().get(10, TimeUnit.SECONDS));
+        assertTrue(error.getCause().getMessage().contains("5 certificates were not stored"));
+        assertEquals(CertificateBatchEngine.JobStatus.FAILED, unstored.getStatus());
+        assertEquals(5, unstored.getPersisted());
+    }
+    
+    @Test
+    void testRerenderedCertificateReplacesTheCollidingOne() throws Exception {
+        // Given
+        engine = new CertificateBatchEngine(1, 5);
+        List<CertificateResult> collided = new ArrayList<>();
+        List<CertificateResult> rerendered = new ArrayList<>();
+        
+        // When
+        CertificateBatchEngine.BatchJob job = engine.submit(participants(5), event(1L),
+                new FixedStrategy(CertificateType.STANDARD, 0), (chunk, rerender) -> {
+                    collided.add(chunk.get(1));
+                    rerendered.add(rerender.apply(chunk.get(1)));
+                    return new IssueResult(chunk.size(), 0, 0);
+                });
+        List<CertificateResult> results = job.getResults().get(10, TimeUnit.SECONDS);
+        
+        // Then
+        assertEquals(5, results.size());
+        assertNotSame(collided.get(0), results.get(1));
+        assertSame(rerendered.get(0), results.get(1), "The job reports the certificate that was stored");
+        assertEquals("CERT-2", results.get(1).getCertificateId());
+    }
+    
+    @Test
+    void testShutdownFailsJobsWithQueuedChunks() {
+        // Given
+        engine = new CertificateBatchEngine(1, 1);
+        CertificateBatchEngine.BatchJob job = engine.submit(participants(20), event(1L),
+                new FixedStrategy(CertificateType.STANDARD, 50));
+        
+        // When
+        engine.shutdown();
+        
+        // Then
+        assertEquals(CertificateBatchEngine.JobStatus.FAILED, job.getStatus());
+        assertTrue(job.getCompletedChunks() < 20, "Queued chunks should have been dropped");
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> job.getResults().get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause().getMessage().contains("shut down"));
+    }
+    
+    @Test
+    void testThroughputScalesWithWorkers() throws Exception {
+        // Given
+        List<ParticipantData> participants = participants(200);
+        
+        // When
+        long single = timeBatch(1, participants);
+        long parallel = timeBatch(8, participants);
+        
+        // Then
+        assertTrue(parallel * 4 < single, "8 workers took " + parallel + " ms vs " + single + " ms with 1");
+    }
+    
+    private long timeBatch(int threads, List<ParticipantData> participants) throws Exception {
+        engine = new CertificateBatchEngine(threads, 10);
+        try {
+            long start = System.nanoTime();
+            engine.submit(participants, event(1L), new FixedStrategy(CertificateType.STANDARD, 5))
+                    .getResults().get(30, TimeUnit.SECONDS);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    private static List<ParticipantData> participants(int count) {
+        List<ParticipantData> participants = new ArrayList<>();
+        LongStream.rangeClosed(1, count).forEach(id ->
+                participants.add(new ParticipantData(id, "Participante " + id, "p" + id + "@email.com", 8, true)));
+        return participants;
+    }
+    
+    private static Event event(Long id) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Evento " + id);
+        return event;
+    }
+    
+    /**
+     * Strategy that takes a fixed time per certificate
+     */
+    private static class FixedStrategy implements ICertificateStrategy {
+        
+        private final CertificateType type;
+        private final long millis;
+        
+        FixedStrategy(CertificateType type, long millis) {
+            this.type = type;
+            this.millis = millis;
+        }
+        
+        @Override
+        public CertificateResult render(ParticipantData participant, Event event) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new CertificateResult("CERT-" + participant.getId(), "/tmp/" + participant.getId() + ".pdf",
+                    "CODE" + participant.getId(), type);
+        }
+        
+        @Override
+        public String getStrategyName() {
+            return type.name();
+        }
+        
+        @Override
+        public CertificateType getCertificateType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
+import com.eventpro.model.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the certificate generator context
+ */
+class CertificateGeneratorTest {
+    
+    @TempDir
+    Path storage;
+    
+    @Test
+    void testStrategyIsChosenPerCall() throws Exception {
+        // Given
+        CertificateRenderer renderer = new CertificateRenderer(storage.toString(), "", new SimpleMeterRegistry());
+        CertificateGenerator generator = new CertificateGenerator(new CertificateStrategyFactory(renderer));
+        ParticipantData participant = new ParticipantData(1L, "Juan Pérez", "juan@email.com", 8, true);
+        
+        // When
+        CompletableFuture<CertificateResult> workshop = generator.generateCertificate(participant,
+                event(1L, EventType.WORKSHOP), false);
+        CompletableFuture<CertificateResult> premium = generator.generateCertificate(participant,
+                event(2L, EventType.CONFERENCE), true);
+        
+        // Then
+        assertEquals(CertificateType.COMPLETION, workshop.get(30, TimeUnit.SECONDS).getType());
+        assertEquals(CertificateType.PREMIUM, premium.get(30, TimeUnit.SECONDS).getType());
+    }
+    
+    private static Event event(Long id, EventType type) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Evento " + id);
+        event.setType(type);
+        event.setStartDate(LocalDateTime.of(2024, 5, 10, 9, 0));
+        event.setEndDate(LocalDateTime.of(2024, 5, 10, 17, 0));
+        return event;
+    }
+}
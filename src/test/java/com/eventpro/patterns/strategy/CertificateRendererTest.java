@@ -0,0 +1,102 @@
+package com.eventpro.patterns.strategy;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PDF certificate rendering, including a render benchmark
+ */
+@Slf4j
+class CertificateRendererTest {
+    
+    @TempDir
+    Path storage;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private CertificateRenderer renderer;
+    private Event event;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        renderer = new CertificateRenderer(storage.toString(), "", meterRegistry);
+        event = new Event();
+        event.setId(7L);
+        event.setTitle("Conferencia Tecnológica 2024");
+        event.setStartDate(LocalDateTime.of(2024, 5, 10, 9, 0));
+        event.setEndDate(LocalDateTime.of(2024, 5, 10, 17, 0));
+    }
+    
+    @Test
+    void testRendersReadablePdfUnderStoragePath() throws Exception {
+        // Given
+        ParticipantData participant = new ParticipantData(1L, "María García", "maria@email.com", 8, true);
+        
+        // When
+        Path file = renderer.render(CertificateType.PREMIUM, "CERT-PREM-1", "ABC123", participant, event);
+        
+        // Then
+        assertEquals(storage.resolve("premium").resolve("CERT-PREM-1.pdf"), file);
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(file.toFile()))) {
+            String text = PdfTextExtractor.getTextFromPage(pdf.getFirstPage());
+            assertTrue(text.contains("María García"), text);
+            assertTrue(text.contains("Conferencia Tecnológica 2024"), text);
+            assertTrue(text.contains("ABC123"), text);
+        }
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(1, files.count(), "No partial files are left behind");
+        }
+        
+        DistributionSummary size = meterRegistry.get(CertificateRenderer.SIZE_SUMMARY).tag("type", "premium").summary();
+        assertEquals(1, size.count());
+        assertEquals(Files.size(file), (long) size.totalAmount());
+    }
+    
+    @Test
+    @Tag("benchmark")
+    void testSingleThreadRendersHundredsPerSecond() {
+        // Given
+        for (int i = 0; i < 200; i++) {
+            renderer.render(CertificateType.STANDARD, "WARMUP-" + i, "CODE", participant(i), event);
+        }
+        
+        // When
+        int count = 500;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            renderer.render(CertificateType.STANDARD, "CERT-STD-" + i, "CODE" + i, participant(i), event);
+        }
+        double perSecond = count / (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / 1000.0);
+        
+        // Then
+        Timer timer = meterRegistry.get(CertificateRenderer.RENDER_TIMER).tag("type", "standard").timer();
+        DistributionSummary allocated = meterRegistry.get(CertificateRenderer.ALLOCATED_SUMMARY)
+                .tag("type", "standard").summary();
+        log.info("Rendered {} certificates/s, mean {} ms, {} KB allocated each", Math.round(perSecond),
+                String.format("%.2f", timer.mean(TimeUnit.MILLISECONDS)), Math.round(allocated.mean() / 1024));
+        assertEquals(700, timer.count());
+        assertTrue(perSecond > 100, "Rendered only " + perSecond + " certificates/s");
+    }
+    
+    private static ParticipantData participant(int id) {
+        return new ParticipantData((long) id, "Participante " + id, "p" + id + "@email.com", 8, true);
+    }
+}
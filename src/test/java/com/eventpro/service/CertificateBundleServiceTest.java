@@ -0,0 +1,82 @@
+package com.eventpro.service;
+
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.CertificateRepository.CertificateFileEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CertificateBundleService
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateBundleServiceTest {
+    
+    @TempDir
+    Path storage;
+    
+    @Mock
+    private CertificateRepository certificateRepository;
+    
+    @Test
+    void testBundleStoresEveryPdfAndListsMissingOnes() throws Exception {
+        // Given
+        Files.createDirectories(storage.resolve("standard"));
+        String large = "%PDF uno " + "x".repeat(200_000);
+        Files.writeString(storage.resolve("standard/CERT-1.pdf"), large);
+        Files.writeString(storage.resolve("standard/CERT-2.pdf"), "%PDF dos");
+        when(certificateRepository.findFileEntries(eq(7L), eq(0L), any())).thenReturn(List.of(
+                entry(1L, "CERT-1", storage.resolve("standard/CERT-1.pdf").toString()),
+                entry(2L, "CERT-2", "standard/CERT-2.pdf"),
+                entry(3L, "CERT-3", storage.resolve("standard/CERT-3.pdf").toString())));
+        CertificateBundleService bundleService = new CertificateBundleService(certificateRepository,
+                new CertificateFileService(certificateRepository, storage.toString()));
+        
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bundleService.writeBundle(7L, out);
+        
+        // Then
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                if (entry.getName().endsWith(".pdf")) {
+                    // Sizes come from the data descriptor, known once the entry has been read
+                    assertTrue(entry.getCompressedSize() >= entry.getSize(), "PDFs must not be recompressed");
+                }
+            }
+        }
+        assertEquals(List.of("CERT-1.pdf", "CERT-2.pdf", "certificados-no-encontrados.txt"), List.copyOf(entries.keySet()));
+        assertEquals(large, entries.get("CERT-1.pdf"));
+        assertEquals("%PDF dos", entries.get("CERT-2.pdf"));
+        assertEquals("CERT-3\n", entries.get("certificados-no-encontrados.txt"));
+    }
+    
+    private static CertificateFileEntry entry(Long id, String certificateId, String filePath) {
+        return new CertificateFileEntry() {
+            public Long getId() { return id; }
+            public String getCertificateId() { return certificateId; }
+            public String getFilePath() { return filePath; }
+        };
+    }
+}
@@ -0,0 +1,224 @@
+package com.eventpro.service;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.model.Event;
+import com.eventpro.model.User;
+import com.eventpro.patterns.strategy.CertificateResult;
+import com.eventpro.patterns.strategy.ParticipantData;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for batched certificate persistence, including an insert benchmark
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import({CertificateIssuanceService.class, CertificateVerificationService.class})
+@Slf4j
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CertificateIssuanceServiceTest {
+    
+    @Autowired
+    private CertificateIssuanceService issuanceService;
+    
+    @Autowired
+    private CertificateVerificationService verificationService;
+    
+    @Autowired
+    private CertificateRepository certificateRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    private List<User> users;
+    
+    @BeforeEach
+    void setUp() {
+        certificateRepository.deleteAllInBatch();
+        users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            users.add(userRepository.save(User.builder()
+                    .firstName("Participante")
+                    .lastName(String.valueOf(i))
+                    .email(UUID.randomUUID() + "@email.com")
+                    .build()));
+        }
+    }
+    
+    @Test
+    void testDuplicatesAreRejectedByConstraintsNotQueries() {
+        // Given
+        Event event = newEvent();
+        List<CertificateResult> first = results(event, 0, 10);
+        
+        // When
+        CertificateIssuanceService.IssueResult initial = issuanceService.issue(first);
+        List<CertificateResult> retry = results(event, 5, 15);
+        CertificateIssuanceService.IssueResult rerun = issuanceService.issue(retry);
+        
+        // Then
+        assertEquals(new CertificateIssuanceService.IssueResult(10, 0, 0), initial);
+        assertEquals(new CertificateIssuanceService.IssueResult(5, 5, 0), rerun,
+                "Participants 5-9 already hold a certificate for the event");
+        assertEquals(15, certificateRepository.findByEventId(event.getId()).size());
+        assertTrue(verificationService.verify(first.get(0).getVerificationCode()).isPresent());
+    }
+    
+    @Test
+    void testOnlyParticipantEventConflictsCountAsDuplicates() {
+        // Given
+        Event event = newEvent();
+        List<CertificateResult> first = results(event, 0, 2);
+        issuanceService.issue(first);
+        List<CertificateResult> rerun = results(event, 1, 4);
+        rerun.get(1).setVerificationCode(first.get(0).getVerificationCode());
+        rerun.get(2).setParticipantId(Long.MAX_VALUE);
+        
+        // When
+        CertificateIssuanceService.IssueResult result = issuanceService.issue(rerun);
+        
+        // Then
+        assertEquals(new CertificateIssuanceService.IssueResult(0, 1, 2), result,
+                "A taken code or a missing participant is a failure, not a duplicate");
+    }
+    
+    @Test
+    void testCodeCollisionIsRenderedAgain() {
+        // Given
+        Event event = newEvent();
+        List<CertificateResult> first = results(event, 0, 2);
+        issuanceService.issue(first);
+        List<CertificateResult> colliding = results(event, 2, 5);
+        colliding.get(0).setVerificationCode(first.get(0).getVerificationCode());
+        colliding.get(1).setCertificateId(first.get(1).getCertificateId());
+        List<CertificateResult> rerendered = new ArrayList<>();
+        
+        // When
+        CertificateIssuanceService.IssueResult result = issuanceService.issue(colliding, previous -> {
+            CertificateResult fresh = results(event, users.indexOf(userOf(previous)), users.indexOf(userOf(previous)) + 1).get(0);
+            rerendered.add(fresh);
+            return fresh;
+        });
+        
+        // Then
+        assertEquals(new CertificateIssuanceService.IssueResult(3, 0, 0), result);
+        assertEquals(2, rerendered.size());
+        assertEquals(5, certificateRepository.findByEventId(event.getId()).size());
+        assertTrue(verificationService.verify(rerendered.get(0).getVerificationCode()).isPresent());
+    }
+    
+    @Test
+    void testFilesOfUnstoredCertificatesAreDeleted(@TempDir Path storage) throws Exception {
+        // Given
+        Event event = newEvent();
+        List<CertificateResult> first = withFiles(storage, results(event, 0, 3));
+        issuanceService.issue(first);
+        List<CertificateResult> duplicates = withFiles(storage, results(event, 0, 3));
+        
+        // When
+        CertificateIssuanceService.IssueResult rerun = issuanceService.issue(duplicates);
+        CertificateIssuanceService.IssueResult resubmitted = issuanceService.issue(first);
+        
+        // Then
+        assertEquals(new CertificateIssuanceService.IssueResult(0, 3, 0), rerun);
+        assertEquals(new CertificateIssuanceService.IssueResult(0, 3, 0), resubmitted);
+        for (CertificateResult result : duplicates) {
+            assertFalse(Files.exists(Path.of(result.getFilePath())), "Rendered file of a rejected row must go");
+        }
+        for (CertificateResult result : first) {
+            assertTrue(Files.exists(Path.of(result.getFilePath())), "Stored certificates keep their file");
+        }
+    }
+    
+    @Test
+    @Tag("benchmark")
+    void testBatchedInsertThroughput() {
+        // Given
+        List<CertificateResult> batched = new ArrayList<>();
+        List<CertificateResult> oneByOne = new ArrayList<>();
+        for (int e = 0; e < 40; e++) {
+            Event event = newEvent();
+            batched.addAll(results(event, 0, users.size()));
+            if (e < 10) {
+                oneByOne.addAll(results(newEvent(), 0, users.size()));
+            }
+        }
+        
+        // When
+        long start = System.nanoTime();
+        for (CertificateResult result : oneByOne) {
+            issuanceService.issue(List.of(result));
+        }
+        double singleRate = oneByOne.size() / ((System.nanoTime() - start) / 1e9);
+        
+        start = System.nanoTime();
+        CertificateIssuanceService.IssueResult issued = issuanceService.issue(batched);
+        double batchedRate = batched.size() / ((System.nanoTime() - start) / 1e9);
+        
+        // Then
+        log.info("Certificate inserts: {}/s batched vs {}/s one per transaction",
+                Math.round(batchedRate), Math.round(singleRate));
+        assertEquals(batched.size(), issued.inserted());
+    }
+    
+    private User userOf(CertificateResult result) {
+        return users.stream().filter(user -> user.getId().equals(result.getParticipantId())).findFirst().orElseThrow();
+    }
+    
+    private static List<CertificateResult> withFiles(Path storage, List<CertificateResult> results) throws Exception {
+        for (CertificateResult result : results) {
+            Path file = storage.resolve(result.getFilePath());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "%PDF");
+            result.setFilePath(file.toString());
+        }
+        return results;
+    }
+    
+    private Event newEvent() {
+        return eventRepository.save(Event.builder()
+                .title("Conferencia " + UUID.randomUUID())
+                .description("Evento de prueba")
+                .location("Lima")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1).plusHours(8))
+                .maxAttendees(1000)
+                .organizer(users.get(0))
+                .build());
+    }
+    
+    private List<CertificateResult> results(Event event, int fromUser, int toUser) {
+        List<CertificateResult> results = new ArrayList<>();
+        for (int i = fromUser; i < toUser; i++) {
+            User user = users.get(i);
+            ParticipantData participant = new ParticipantData(user.getId(),
+                    user.getFirstName() + " " + user.getLastName(), user.getEmail(), 8, true);
+            String code = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+            results.add(new CertificateResult("CERT-STD-" + UUID.randomUUID(), "standard/" + code + ".pdf", code,
+                    CertificateType.STANDARD, participant, event));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,245 @@
+package com.eventpro.service;
+
+import com.eventpro.model.CertificateJob;
+import com.eventpro.model.CertificateJobChunk;
+import com.eventpro.model.Event;
+import com.eventpro.model.EventType;
+import com.eventpro.model.Registration;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.model.User;
+import com.eventpro.patterns.strategy.CertificateBatchEngine;
+import com.eventpro.patterns.strategy.CertificateService;
+import com.eventpro.patterns.strategy.ParticipantData;
+import com.eventpro.repository.CertificateJobChunkRepository;
+import com.eventpro.repository.CertificateJobRepository;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CertificateJobService
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateJobServiceTest {
+    
+    @Mock
+    private CertificateJobRepository jobRepository;
+    
+    @Mock
+    private CertificateJobChunkRepository chunkRepository;
+    
+    @Mock
+    private RegistrationRepository registrationRepository;
+    
+    @Mock
+    private CertificateRepository certificateRepository;
+    
+    @Mock
+    private EventRepository eventRepository;
+    
+    @Mock
+    private CertificateService certificateService;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private CertificateJobService jobService;
+    
+    @BeforeEach
+    void setUp() {
+        jobService = new CertificateJobService(jobRepository, chunkRepository, registrationRepository,
+                certificateRepository, eventRepository, certificateService, transactionManager, 2, 4, 1);
+        Event event = Event.builder().id(1L).title("Conferencia").type(EventType.CONFERENCE).build();
+        lenient().when(eventRepository.existsById(1L)).thenReturn(true);
+        lenient().when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+    
+    @Test
+    void testResumeRedoesOnlyPendingChunksAndSkipsIssuedParticipants() {
+        // Given
+        CertificateJob job = CertificateJob.builder().id(7L).eventId(1L).totalChunks(2).completedChunks(1).build();
+        CertificateJobChunk pending = CertificateJobChunk.builder()
+                .id(71L).jobId(7L).chunkIndex(1).firstRegistrationId(20L).lastRegistrationId(22L).build();
+        when(jobRepository.findByStatus(CertificateJob.Status.RUNNING)).thenReturn(List.of(job));
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(chunkRepository.findByJobIdAndStatusOrderByChunkIndex(7L, CertificateJobChunk.Status.PENDING))
+                .thenReturn(List.of(pending));
+        when(registrationRepository.findWithUserByEventIdAndIdBetween(1L, 20L, 22L)).thenReturn(List.of(
+                registration(20L, 100L, true),
+                registration(21L, 101L, true),
+                registration(22L, 102L, false)));
+        when(certificateRepository.findIssuedParticipantIds(eq(1L), anyCollection())).thenReturn(List.of(100L));
+        CertificateBatchEngine.BatchJob batch = mock(CertificateBatchEngine.BatchJob.class);
+        when(batch.getResults()).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(batch.getPersisted()).thenReturn(1L);
+        when(certificateService.startEventCertificates(anyList(), any(), eq(false))).thenReturn(batch);
+        when(chunkRepository.markDone(eq(71L), eq(CertificateJobChunk.Status.DONE), anyInt(), anyInt(), anyInt(), any()))
+                .thenReturn(1);
+        
+        // When
+        jobService.resumeInterruptedJobs();
+        
+        // Then
+        verify(jobRepository, timeout(5000)).completeIfFinished(eq(7L), eq(CertificateJob.Status.RUNNING),
+                eq(CertificateJob.Status.COMPLETED), any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ParticipantData>> issued = ArgumentCaptor.forClass(List.class);
+        verify(certificateService).startEventCertificates(issued.capture(), any(), eq(false));
+        assertEquals(List.of(101L), issued.getValue().stream().map(ParticipantData::getId).toList());
+        verify(chunkRepository).markDone(eq(71L), eq(CertificateJobChunk.Status.DONE), eq(1), eq(1), eq(0), any());
+        verify(jobRepository).addChunkProgress(7L, 1, 1, 0);
+        verify(registrationRepository, times(1)).findWithUserByEventIdAndIdBetween(anyLong(), anyLong(), anyLong());
+    }
+    
+    @Test
+    void testChunkWithUnstoredCertificatesStaysPending() {
+        // Given
+        CertificateJob job = CertificateJob.builder().id(7L).eventId(1L).totalChunks(1).build();
+        CertificateJobChunk pending = CertificateJobChunk.builder()
+                .id(71L).jobId(7L).chunkIndex(0).firstRegistrationId(20L).lastRegistrationId(21L).build();
+        when(jobRepository.findByStatus(CertificateJob.Status.RUNNING)).thenReturn(List.of(job));
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(chunkRepository.findByJobIdAndStatusOrderByChunkIndex(7L, CertificateJobChunk.Status.PENDING))
+                .thenReturn(List.of(pending));
+        when(registrationRepository.findWithUserByEventIdAndIdBetween(1L, 20L, 21L)).thenReturn(List.of(
+                registration(20L, 100L, true),
+                registration(21L, 101L, true)));
+        CertificateBatchEngine.BatchJob batch = mock(CertificateBatchEngine.BatchJob.class);
+        when(batch.getResults()).thenReturn(CompletableFuture.failedFuture(
+                new RuntimeException("1 certificates were not stored")));
+        when(certificateService.startEventCertificates(anyList(), any(), eq(false))).thenReturn(batch);
+        
+        // When
+        jobService.resumeInterruptedJobs();
+        
+        // Then
+        verify(jobRepository, timeout(5000)).completeIfFinished(eq(7L), any(), any(), any());
+        verify(chunkRepository, never()).markDone(anyLong(), any(), anyInt(), anyInt(), anyInt(), any());
+        verify(jobRepository, never()).addChunkProgress(anyLong(), anyInt(), anyInt(), anyInt());
+    }
+    
+    @Test
+    void testDuplicatesAreCheckpointedAsSkipped() {
+        // Given
+        CertificateJob job = CertificateJob.builder().id(7L).eventId(1L).totalChunks(1).build();
+        CertificateJobChunk pending = CertificateJobChunk.builder()
+                .id(71L).jobId(7L).chunkIndex(0).firstRegistrationId(20L).lastRegistrationId(21L).build();
+        when(jobRepository.findByStatus(CertificateJob.Status.RUNNING)).thenReturn(List.of(job));
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(chunkRepository.findByJobIdAndStatusOrderByChunkIndex(7L, CertificateJobChunk.Status.PENDING))
+                .thenReturn(List.of(pending));
+        when(registrationRepository.findWithUserByEventIdAndIdBetween(1L, 20L, 21L)).thenReturn(List.of(
+                registration(20L, 100L, true),
+                registration(21L, 101L, true)));
+        CertificateBatchEngine.BatchJob batch = mock(CertificateBatchEngine.BatchJob.class);
+        when(batch.getResults()).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(batch.getPersisted()).thenReturn(1L);
+        when(batch.getDuplicates()).thenReturn(1L);
+        when(certificateService.startEventCertificates(anyList(), any(), eq(false))).thenReturn(batch);
+        when(chunkRepository.markDone(eq(71L), eq(CertificateJobChunk.Status.DONE), anyInt(), anyInt(), anyInt(), any()))
+                .thenReturn(1);
+        
+        // When
+        jobService.resumeInterruptedJobs();
+        
+        // Then
+        verify(jobRepository, timeout(5000)).completeIfFinished(eq(7L), any(), any(), any());
+        verify(chunkRepository).markDone(eq(71L), eq(CertificateJobChunk.Status.DONE), eq(1), eq(1), eq(0), any());
+        verify(jobRepository).addChunkProgress(7L, 1, 1, 0);
+    }
+    
+    @Test
+    void testStartReturnsTheRunningJobInsteadOfPlanningAgain() {
+        // Given
+        CertificateJob running = CertificateJob.builder().id(7L).eventId(1L).totalChunks(3).build();
+        when(jobRepository.findFirstByEventIdAndStatus(1L, CertificateJob.Status.RUNNING))
+                .thenReturn(Optional.of(running));
+        lenient().when(jobRepository.findById(7L)).thenReturn(Optional.of(running));
+        
+        // When
+        CertificateJob job = jobService.startJob(1L, false);
+        
+        // Then
+        assertSame(running, job);
+        verify(jobRepository, never()).save(any());
+        verify(registrationRepository, never()).findCertificateCandidateIds(anyLong(), any(), anyLong(), any());
+    }
+    
+    @Test
+    void testStartPlansChunksOverEligibleRegistrations() {
+        // Given
+        when(jobRepository.findFirstByEventIdAndStatus(1L, CertificateJob.Status.RUNNING)).thenReturn(Optional.empty());
+        when(jobRepository.save(any(CertificateJob.class))).thenAnswer(invocation -> {
+            CertificateJob job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+        lenient().when(jobRepository.findById(7L))
+                .thenReturn(Optional.of(CertificateJob.builder().id(7L).eventId(1L).premium(true).build()));
+        when(registrationRepository.findCertificateCandidateIds(eq(1L), eq(RegistrationStatus.CONFIRMED), eq(0L), any()))
+                .thenReturn(List.of(10L, 11L, 12L, 13L, 14L));
+        
+        // When
+        CertificateJob job = jobService.startJob(1L, true);
+        verify(jobRepository, timeout(5000)).completeIfFinished(eq(7L), any(), any(), any());
+        
+        // Then
+        assertEquals(5, job.getEligibleParticipants());
+        assertEquals(3, job.getTotalChunks());
+        assertEquals(CertificateJob.Status.RUNNING, job.getStatus());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CertificateJobChunk>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository).saveAll(chunks.capture());
+        assertEquals(List.of(10L, 12L, 14L),
+                chunks.getValue().stream().map(CertificateJobChunk::getFirstRegistrationId).toList());
+        assertEquals(List.of(11L, 13L, 14L),
+                chunks.getValue().stream().map(CertificateJobChunk::getLastRegistrationId).toList());
+    }
+    
+    @Test
+    void testStartWithoutEligibleParticipantsCompletesImmediately() {
+        // Given
+        when(jobRepository.findFirstByEventIdAndStatus(1L, CertificateJob.Status.RUNNING)).thenReturn(Optional.empty());
+        when(jobRepository.save(any(CertificateJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        CertificateJob job = jobService.startJob(1L, false);
+        
+        // Then
+        assertEquals(CertificateJob.Status.COMPLETED, job.getStatus());
+        assertEquals(0, job.getTotalChunks());
+        assertNotNull(job.getCompletedAt());
+    }
+    
+    private Registration registration(Long id, Long userId, boolean attended) {
+        User user = User.builder().id(userId).firstName("Ana").lastName("Torres").email("ana" + userId + "@example.com").build();
+        return Registration.builder()
+                .id(id)
+                .user(user)
+                .status(RegistrationStatus.CONFIRMED)
+                .attended(attended)
+                .attendanceHours(8)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.eventpro.service;
+
+import com.eventpro.model.CertificateType;
+import com.eventpro.repository.CertificateRepository;
+import com.eventpro.repository.CertificateRepository.VerificationEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CertificateVerificationService
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateVerificationServiceTest {
+    
+    @Mock
+    private CertificateRepository certificateRepository;
+    
+    private CertificateVerificationService verificationService;
+    
+    @BeforeEach
+    void setUp() {
+        verificationService = new CertificateVerificationService(certificateRepository, 10_000, 0.01, 60_000);
+        List<VerificationEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            entries.add(entry(id, "CODE-" + id, LocalDateTime.now().minusHours(1)));
+        }
+        when(certificateRepository.findVerificationEntries(eq(0L), any())).thenReturn(entries);
+        verificationService.rebuild();
+    }
+    
+    @Test
+    void testIssuedCodeIsAnsweredFromIndex() {
+        // When
+        Optional<CertificateVerificationService.CertificateSummary> summary = verificationService.verify("CODE-42");
+        
+        // Then
+        assertTrue(summary.isPresent());
+        assertEquals("CERT-42", summary.get().certificateId());
+        assertEquals("Ana Torres", summary.get().participantName());
+        verify(certificateRepository, never()).findVerificationEntry(anyString());
+    }
+    
+    @Test
+    void testUnknownCodesRarelyReachTheDatabase() {
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(verificationService.verify("BOGUS-" + i).isEmpty());
+        }
+        
+        // Then
+        long databaseLookups = (long) verificationService.getStatistics().get("databaseLookups");
+        assertTrue(databaseLookups < 300, "Bloom filter let " + databaseLookups + " bogus codes through");
+        verify(certificateRepository, times((int) databaseLookups)).findVerificationEntry(anyString());
+    }
+    
+    @Test
+    void testNewCertificatesArePickedUpByCatchUp() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().plusSeconds(5);
+        when(certificateRepository.findVerificationEntriesCreatedAfter(any(), eq(0L), any()))
+                .thenReturn(List.of(entry(501L, "CODE-NEW", createdAt)));
+        
+        // When
+        verificationService.catchUp();
+        
+        // Then
+        assertEquals("CERT-501", verificationService.verify("CODE-NEW").orElseThrow().certificateId());
+        assertEquals(createdAt, verificationService.getStatistics().get("caughtUpTo"));
+    }
+    
+    @Test
+    void testCatchUpFindsRowsCommittedOutOfIdOrder() {
+        // Given: 502 commits first, 501 was inserted earlier but commits after the first catch-up
+        LocalDateTime now = LocalDateTime.now();
+        VerificationEntry late = entry(501L, "CODE-LATE", now.plusSeconds(9));
+        VerificationEntry early = entry(502L, "CODE-EARLY", now.plusSeconds(10));
+        when(certificateRepository.findVerificationEntriesCreatedAfter(any(), eq(0L), any()))
+                .thenReturn(List.of(early))
+                .thenReturn(List.of(late, early));
+        
+        // When
+        verificationService.catchUp();
+        verificationService.catchUp();
+        
+        // Then
+        assertTrue(verificationService.verify("CODE-LATE").isPresent());
+        assertTrue(verificationService.verify("CODE-EARLY").isPresent());
+        verify(certificateRepository, never()).findVerificationEntry(anyString());
+    }
+    
+    private static VerificationEntry entry(long id, String code, LocalDateTime createdAt) {
+        return new VerificationEntry() {
+            public Long getId() { return id; }
+            public String getCertificateId() { return "CERT-" + id; }
+            public String getVerificationCode() { return code; }
+            public CertificateType getType() { return CertificateType.STANDARD; }
+            public LocalDateTime getIssuedDate() { return LocalDateTime.of(2024, 5, 10, 17, 0); }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+            public String getFirstName() { return "Ana"; }
+            public String getLastName() { return "Torres"; }
+            public Long getEventId() { return 7L; }
+            public String getEventTitle() { return "Conferencia Tecnológica"; }
+        };
+    }
+}
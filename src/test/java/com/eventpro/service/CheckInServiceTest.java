@@ -0,0 +1,175 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.Registration;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.model.User;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import com.eventpro.repository.UserRepository;
+import com.eventpro.service.CheckInService.Scan;
+import com.eventpro.service.CheckInService.ScanType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for bulk check-in ingestion against the database
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import(CheckInService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CheckInServiceTest {
+    
+    private static final LocalDateTime DOORS_OPEN = LocalDateTime.of(2026, 3, 1, 9, 0);
+    
+    @Autowired
+    private CheckInService checkInService;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    private User organizer;
+    private Event event;
+    
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(User.builder()
+                .firstName("Ana")
+                .lastName("Torres")
+                .email(UUID.randomUUID() + "@email.com")
+                .build());
+        event = eventRepository.save(Event.builder()
+                .title("Conferencia " + UUID.randomUUID())
+                .description("Evento de prueba")
+                .location("Lima")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1).plusHours(8))
+                .maxAttendees(100)
+                .organizer(organizer)
+                .build());
+    }
+    
+    @Test
+    void testHoursComeFromStoredCheckInAndNeverGoNegative() {
+        // Given
+        Registration first = registration(RegistrationStatus.CONFIRMED);
+        Registration second = registration(RegistrationStatus.CONFIRMED);
+        checkInService.ingest(List.of(
+                new Scan(first.getId(), ScanType.CHECK_IN, DOORS_OPEN),
+                new Scan(second.getId(), ScanType.CHECK_IN, DOORS_OPEN.plusHours(2))));
+        checkInService.flush();
+        
+        // When
+        checkInService.ingest(List.of(
+                new Scan(first.getId(), ScanType.CHECK_OUT, DOORS_OPEN.plusHours(3).plusMinutes(30)),
+                new Scan(second.getId(), ScanType.CHECK_OUT, DOORS_OPEN.plusHours(1))));
+        checkInService.flush();
+        
+        // Then
+        assertEquals(3, reload(first).getAttendanceHours());
+        assertEquals(0, reload(second).getAttendanceHours(), "A check-out before the check-in is clamped at 0");
+    }
+    
+    @Test
+    void testUnappliedCheckInDoesNotBlockLaterScansOrSkewHours() {
+        // Given: the registration is not confirmed yet, so the first scan matches no row
+        Registration registration = registration(RegistrationStatus.PENDING);
+        checkInService.ingest(List.of(new Scan(registration.getId(), ScanType.CHECK_IN, DOORS_OPEN)));
+        checkInService.flush();
+        registration.setStatus(RegistrationStatus.CONFIRMED);
+        registrationRepository.save(registration);
+        
+        // When
+        CheckInService.ScanBatchAck rescan = checkInService.ingest(
+                List.of(new Scan(registration.getId(), ScanType.CHECK_IN, DOORS_OPEN.plusHours(2))));
+        checkInService.flush();
+        checkInService.ingest(List.of(new Scan(registration.getId(), ScanType.CHECK_OUT, DOORS_OPEN.plusHours(5))));
+        checkInService.flush();
+        
+        // Then
+        assertEquals(1, rescan.accepted(), "The unapplied scan should not count as a duplicate");
+        Registration stored = reload(registration);
+        assertEquals(DOORS_OPEN.plusHours(2), stored.getCheckInTime());
+        assertEquals(3, stored.getAttendanceHours(), "Hours are measured from the check-in that was stored");
+    }
+    
+    @Test
+    void testCheckOutAheadOfItsCheckInWaitsForIt() {
+        // Given
+        Registration registration = registration(RegistrationStatus.CONFIRMED);
+        checkInService.ingest(List.of(new Scan(registration.getId(), ScanType.CHECK_OUT, DOORS_OPEN.plusHours(4))));
+        checkInService.flush();
+        assertEquals(1, checkInService.getPendingScans(), "The check-out should stay queued");
+        
+        // When
+        checkInService.ingest(List.of(new Scan(registration.getId(), ScanType.CHECK_IN, DOORS_OPEN)));
+        checkInService.flush();
+        
+        // Then
+        Registration stored = reload(registration);
+        assertEquals(DOORS_OPEN.plusHours(4), stored.getCheckOutTime());
+        assertEquals(4, stored.getAttendanceHours());
+        assertEquals(0, checkInService.getPendingScans());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailingFlushIsRetriedABoundedNumberOfTimes() {
+        // Given
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        when(failing.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        CheckInService service = new CheckInService(failing, 100, 3);
+        service.ingest(List.of(new Scan(1L, ScanType.CHECK_IN, DOORS_OPEN)));
+        
+        // When
+        for (int i = 0; i < 5; i++) {
+            service.flush();
+        }
+        
+        // Then
+        assertEquals(0, service.getPendingScans(), "The scan should be dropped after the last attempt");
+        verify(failing, times(3)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1, service.ingest(List.of(new Scan(1L, ScanType.CHECK_IN, DOORS_OPEN))).accepted(),
+                "A dropped scan can be scanned again");
+    }
+    
+    private Registration registration(RegistrationStatus status) {
+        User user = userRepository.save(User.builder()
+                .firstName("Participante")
+                .lastName("Uno")
+                .email(UUID.randomUUID() + "@email.com")
+                .build());
+        return registrationRepository.save(Registration.builder()
+                .user(user)
+                .event(event)
+                .status(status)
+                .build());
+    }
+    
+    private Registration reload(Registration registration) {
+        return registrationRepository.findById(registration.getId()).orElseThrow();
+    }
+}
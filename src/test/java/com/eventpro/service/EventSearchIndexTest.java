@@ -0,0 +1,118 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for EventSearchIndex
+ */
+class EventSearchIndexTest {
+    
+    private EventSearchIndex searchIndex;
+    
+    @BeforeEach
+    void setUp() {
+        searchIndex = new EventSearchIndex(mock(EventRepository.class), mock(PlatformTransactionManager.class));
+        
+        searchIndex.index(event(1L, "Conferencia de Tecnología", "Charlas sobre IA", "Madrid", Set.of("ia")));
+        searchIndex.index(event(2L, "Workshop de React", "Taller práctico de tecnología web", "Bogotá", Set.of("frontend")));
+        searchIndex.index(event(3L, "Seminario de Diseño", "Diseño de producto", "Lima", Set.of("ux")));
+    }
+    
+    @Test
+    void testAccentFoldedSearch() {
+        // When
+        EventSearchIndex.SearchHits hits = searchIndex.search("TECNOLOGIA", 0, 10);
+        
+        // Then
+        assertEquals(2, hits.totalHits(), "Both events mentioning tecnología should match");
+        assertEquals(1L, hits.eventIds().get(0), "Title match should rank above description match");
+    }
+    
+    @Test
+    void testAllTermsMustMatchAndLastTermIsPrefix() {
+        // When
+        EventSearchIndex.SearchHits hits = searchIndex.search("taller bogo", 0, 10);
+        
+        // Then
+        assertEquals(List.of(2L), hits.eventIds(), "Only the workshop in Bogotá should match");
+    }
+    
+    @Test
+    void testUpdateAndRemoveReplacePostings() {
+        // When
+        searchIndex.index(event(3L, "Meetup de Kotlin", "Comunidad", "Lima", Set.of()));
+        
+        // Then
+        assertEquals(0, searchIndex.search("diseño", 0, 10).totalHits(), "Stale terms should be removed");
+        assertEquals(List.of(3L), searchIndex.search("kotlin", 0, 10).eventIds());
+        
+        searchIndex.remove(3L);
+        assertEquals(0, searchIndex.search("kotlin", 0, 10).totalHits(), "Removed event should not match");
+    }
+    
+    @Test
+    void testStopWordOnlyQueryCannotBeSearched() {
+        // Then
+        assertFalse(searchIndex.canSearch("de la"), "Stop words are not indexed");
+        assertTrue(searchIndex.canSearch("taller de"), "Remaining terms can still be searched");
+    }
+    
+    @Test
+    void testStablePaging() {
+        // Given
+        for (long id = 10; id < 30; id++) {
+            searchIndex.index(event(id, "Hackathon", "Evento", "Quito", Set.of()));
+        }
+        
+        // When
+        List<Long> firstPage = searchIndex.search("hackathon", 0, 5).eventIds();
+        List<Long> secondPage = searchIndex.search("hackathon", 5, 5).eventIds();
+        
+        // Then
+        assertEquals(List.of(10L, 11L, 12L, 13L, 14L), firstPage, "Equal scores should be ordered by id");
+        assertEquals(List.of(15L, 16L, 17L, 18L, 19L), secondPage);
+    }
+    
+    @Test
+    void testWritesInsideTransactionApplyOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            searchIndex.index(event(4L, "Congreso de Robótica", "Robots", "Quito", Set.of()));
+            searchIndex.remove(1L);
+            
+            // Then
+            assertEquals(0, searchIndex.search("robotica", 0, 10).totalHits(), "Uncommitted event should not match");
+            assertEquals(List.of(1L), searchIndex.search("madrid", 0, 10).eventIds(), "Uncommitted removal should not apply");
+            
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of(4L), searchIndex.search("robotica", 0, 10).eventIds());
+            assertEquals(0, searchIndex.search("madrid", 0, 10).totalHits());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    private Event event(Long id, String title, String description, String location, Set<String> tags) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .location(location)
+                .tags(tags)
+                .build();
+    }
+}
@@ -3,21 +3,34 @@ package com.eventpro.service;
 import com.eventpro.model.Event;
 import com.eventpro.model.EventStatus;
 import com.eventpro.model.EventType;
+import com.eventpro.model.RegistrationStatus;
 import com.eventpro.model.User;
 import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
 import com.eventpro.patterns.observer.EventManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -32,6 +45,24 @@ class EventServiceTest {
     @Mock
     private EventManager eventManager;
     
+    @Mock
+    private EventSearchIndex searchIndex;
+    
+    @Mock
+    private UpcomingEventIndex upcomingEventIndex;
+    
+    @Mock
+    private PlatformStatistics platformStatistics;
+    
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+    
+    @Mock
+    private WaitlistManager waitlistManager;
+    
+    @Spy
+    private EventCache eventCache = new EventCache(100, 60);
+    
     @InjectMocks
     private EventService eventService;
     
@@ -77,6 +108,7 @@ class EventServiceTest {
         assertEquals(0, createdEvent.getCurrentAttendees(), "Current attendees should be 0");
         
         verify(eventRepository).save(testEvent);
+        verify(searchIndex).index(testEvent);
         verify(eventManager).createEvent(testEvent);
     }
     
@@ -95,6 +127,24 @@ class EventServiceTest {
         verify(eventRepository).findById(1L);
     }
     
+    @Test
+    void testGetEventByIdIsCachedUntilInvalidated() {
+        // Given
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        
+        // When
+        eventService.getEventById(1L);
+        eventService.getEventById(1L);
+        eventService.publishEvent(1L);
+        Optional<Event> afterPublish = eventService.getEventById(1L);
+        
+        // Then
+        assertEquals(EventStatus.PUBLISHED, afterPublish.get().getStatus(), "Publish should invalidate the cached view");
+        verify(eventRepository, times(3)).findById(1L);
+        assertEquals(1, eventService.getEventCacheStatistics().hits(), "Second read should be a cache hit");
+    }
+    
     @Test
     void testGetEventByIdNotFound() {
         // Given
@@ -133,9 +183,65 @@ class EventServiceTest {
         
         verify(eventRepository).findById(1L);
         verify(eventRepository).save(any(Event.class));
+        verify(seatReservationEngine).updateCapacity(eq(1L), anyInt());
         verify(eventManager).updateEvent(eq(1L), any(Event.class));
     }
     
+    @Test
+    void testCapacityIncreasePromotesWaitlist() {
+        // Given
+        Event updatedEvent = Event.builder()
+                .title("Test Event")
+                .maxAttendees(110)
+                .build();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        
+        // When
+        eventService.updateEvent(1L, updatedEvent);
+        
+        // Then
+        verify(seatReservationEngine).updateCapacity(1L, 110);
+        verify(waitlistManager).promoteIntoFreeSeats(1L, "Test Event");
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCapacityIncreasePromotesWaitlistWithoutLoadedSeatCounter() {
+        // Given
+        RegistrationRepository registrationRepository = mock(RegistrationRepository.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SeatReservationEngine engine = new SeatReservationEngine(eventRepository, registrationRepository,
+                jdbcTemplate, eventCache, upcomingEventIndex);
+        WaitlistManager waitlist = new WaitlistManager(registrationRepository, engine, platformStatistics,
+                eventManager, jdbcTemplate);
+        EventService service = new EventService(eventRepository, eventManager, searchIndex, eventCache,
+                upcomingEventIndex, platformStatistics, engine, waitlist);
+        engine.reconcile();
+        
+        Event updatedEvent = Event.builder()
+                .title("Test Event")
+                .maxAttendees(102)
+                .build();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        // The counter is loaded after the save, so it already sees the new capacity
+        when(eventRepository.findMaxAttendeesById(1L)).thenReturn(Optional.of(102));
+        when(registrationRepository.countByEventIdAndStatus(1L, RegistrationStatus.CONFIRMED)).thenReturn(100L);
+        when(registrationRepository.findUserIdsByEventIdAndStatusInOrder(1L, RegistrationStatus.WAITLIST))
+                .thenReturn(List.of(5L, 6L, 7L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+        
+        // When
+        service.updateEvent(1L, updatedEvent);
+        
+        // Then
+        verify(eventManager).promoteFromWaitlist(1L, "Test Event", List.of(5L, 6L));
+        assertEquals(0, engine.getAvailableSeats(1L), "Waitlisted users should take the new seats");
+        assertEquals(1, waitlist.size(1L));
+    }
+    
     @Test
     void testUpdateEventNotFound() {
         // Given
@@ -180,6 +286,8 @@ class EventServiceTest {
         
         verify(eventRepository).findById(1L);
         verify(eventRepository).save(testEvent);
+        verify(upcomingEventIndex).refresh(testEvent);
+        verify(platformStatistics).onEventStatusChanged(EventStatus.DRAFT, testEvent);
         verify(eventManager).cancelEvent(1L, testEvent.getTitle());
     }
     
@@ -200,6 +308,23 @@ class EventServiceTest {
         verify(eventManager).completeEvent(1L, testEvent.getTitle());
     }
     
+    @Test
+    void testStopWordOnlySearchFallsBackToDatabase() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Event> page = new PageImpl<>(List.of(testEvent), pageable, 1);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.canSearch("de la")).thenReturn(false);
+        when(eventRepository.searchEvents("de la", pageable)).thenReturn(page);
+        
+        // When
+        Page<Event> result = eventService.searchEvents("de la", pageable);
+        
+        // Then
+        assertEquals(List.of(testEvent), result.getContent(), "Database search should serve the query");
+        verify(searchIndex, never()).search(anyString(), anyInt(), anyInt());
+    }
+    
     @Test
     void testDeleteEvent() {
         // Given
@@ -211,6 +336,7 @@ class EventServiceTest {
         // Then
         verify(eventRepository).existsById(1L);
         verify(eventRepository).deleteById(1L);
+        verify(searchIndex).remove(1L);
     }
     
     @Test
@@ -226,4 +352,31 @@ class EventServiceTest {
         verify(eventRepository).existsById(999L);
         verify(eventRepository, never()).deleteById(999L);
     }
+    
+    @Test
+    void testGetEventsSliceSeeksFromCursor() {
+        // Given
+        Event secondEvent = Event.builder()
+                .id(2L)
+                .title("Second Event")
+                .startDate(testEvent.getStartDate().plusHours(1))
+                .build();
+        when(eventRepository.findAllByOrderByStartDateAscIdAsc(any()))
+                .thenReturn(List.of(testEvent, secondEvent));
+        when(eventRepository.findNextByStartDateAsc(eq(testEvent.getStartDate()), eq(1L), any()))
+                .thenReturn(List.of(secondEvent));
+        
+        // When
+        EventService.EventSlice firstSlice = eventService.getEventsSlice(null, 1, "startDate", false, false);
+        EventService.EventSlice secondSlice = eventService.getEventsSlice(firstSlice.nextCursor(), 1, "startDate", false, false);
+        
+        // Then
+        assertEquals(List.of(testEvent), firstSlice.content(), "First slice should contain only the first event");
+        assertTrue(firstSlice.hasNext(), "First slice should report a next page");
+        assertEquals(List.of(secondEvent), secondSlice.content(), "Second slice should seek after the cursor");
+        assertFalse(secondSlice.hasNext(), "Second slice should be the last one");
+        assertNull(secondSlice.nextCursor(), "Last slice should not carry a cursor");
+        
+        verify(eventRepository, never()).count();
+    }
 }
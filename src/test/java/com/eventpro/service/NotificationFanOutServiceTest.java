@@ -0,0 +1,207 @@
+package com.eventpro.service;
+
+import com.eventpro.model.NotificationFanOut;
+import com.eventpro.model.NotificationType;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.patterns.factory.NotificationFactory;
+import com.eventpro.patterns.factory.notifications.DeliveryResult;
+import com.eventpro.patterns.factory.notifications.INotification;
+import com.eventpro.repository.NotificationFanOutRepository;
+import com.eventpro.repository.RegistrationRepository;
+import com.eventpro.repository.RegistrationRepository.RegistrantContact;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationFanOutService
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationFanOutServiceTest {
+    
+    @Mock
+    private RegistrationRepository registrationRepository;
+    
+    @Mock
+    private NotificationFanOutRepository fanOutRepository;
+    
+    @Mock
+    private NotificationFactory notificationFactory;
+    
+    @Mock
+    private INotification email;
+    
+    @Mock
+    private INotification sms;
+    
+    private NotificationFanOutService fanOutService;
+    
+    @BeforeEach
+    void setUp() {
+        fanOutService = new NotificationFanOutService(registrationRepository, fanOutRepository, notificationFactory,
+                2, 10, 1);
+        AtomicLong ids = new AtomicLong();
+        lenient().when(fanOutRepository.save(any(NotificationFanOut.class))).thenAnswer(invocation -> {
+            NotificationFanOut fanOut = invocation.getArgument(0);
+            if (fanOut.getId() == null) {
+                fanOut.setId(ids.incrementAndGet());
+            }
+            return fanOut;
+        });
+        lenient().when(notificationFactory.createNotification(NotificationType.EMAIL)).thenReturn(email);
+        lenient().when(notificationFactory.createNotification(NotificationType.SMS)).thenReturn(sms);
+        lenient().when(email.isValidRecipient(any())).thenAnswer(invocation -> invocation.getArgument(0) != null);
+        lenient().when(sms.isValidRecipient(any())).thenAnswer(invocation -> invocation.getArgument(0) != null);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        fanOutService.shutdown();
+    }
+    
+    @Test
+    void testFanOutStreamsChunksAndHonorsEmailPreference() throws InterruptedException {
+        // Given
+        when(registrationRepository.findRegistrantContacts(eq(1L), eq(RegistrationStatus.CANCELLED), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(contact(1L, "ana@eventpro.com", null, true),
+                        contact(2L, "luis@eventpro.com", "+51999888777", true)));
+        when(registrationRepository.findRegistrantContacts(eq(1L), eq(RegistrationStatus.CANCELLED), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(contact(3L, "eva@eventpro.com", null, true)));
+        when(email.sendBulk(anyList(), anyString(), anyString(), anyMap())).thenAnswer(invocation -> {
+            List<String> recipients = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(recipients.stream().map(DeliveryResult::delivered).toList());
+        });
+        when(sms.getMaxMessageLength()).thenReturn(160);
+        when(sms.send(anyString(), anyString(), anyString(), anyMap())).thenReturn(CompletableFuture.completedFuture(true));
+        
+        // When
+        NotificationFanOutService.FanOutJob job = fanOutService.notifyRegistrants(1L, "Evento cancelado", "Lo sentimos");
+        waitFor(job);
+        
+        // Then
+        assertEquals(NotificationFanOutService.JobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getRecipientsScanned());
+        assertEquals(3L, job.getSentByChannel().get(NotificationType.EMAIL));
+        assertEquals(1L, job.getSentByChannel().get(NotificationType.SMS));
+        assertEquals(0, job.getSkipped());
+        verify(email).sendBulk(eq(List.of("ana@eventpro.com", "luis@eventpro.com")), anyString(), anyString(), anyMap());
+        verify(email).sendBulk(eq(List.of("eva@eventpro.com")), anyString(), anyString(), anyMap());
+        verify(fanOutRepository, atLeastOnce()).save(argThat(fanOut ->
+                fanOut.getStatus() == NotificationFanOut.Status.COMPLETED && fanOut.getLastRegistrationId() == 3L));
+    }
+    
+    @Test
+    void testOptedOutRegistrantGetsNoSms() throws InterruptedException {
+        // Given
+        when(registrationRepository.findRegistrantContacts(eq(1L), eq(RegistrationStatus.CANCELLED), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(contact(1L, "luis@eventpro.com", "+51999888777", false)));
+        
+        // When
+        NotificationFanOutService.FanOutJob job = fanOutService.notifyRegistrants(1L, "Evento cancelado", "Lo sentimos");
+        waitFor(job);
+        
+        // Then
+        assertEquals(NotificationFanOutService.JobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getSkipped());
+        verify(sms, never()).send(anyString(), anyString(), anyString(), anyMap());
+        verify(email, never()).sendBulk(anyList(), anyString(), anyString(), anyMap());
+    }
+    
+    @Test
+    void testCompletedFanOutIsNotSentAgain() {
+        // Given
+        NotificationFanOut sent = NotificationFanOut.builder()
+                .id(5L)
+                .eventId(1L)
+                .dedupeKey("1:CANCELLED")
+                .subject("Evento cancelado")
+                .message("Lo sentimos")
+                .status(NotificationFanOut.Status.COMPLETED)
+                .build();
+        when(fanOutRepository.findByDedupeKey("1:CANCELLED")).thenReturn(Optional.of(sent));
+        
+        // When
+        NotificationFanOutService.FanOutJob job = fanOutService.notifyRegistrantsOnce(1L, "1:CANCELLED",
+                "Evento cancelado", "Lo sentimos");
+        
+        // Then
+        assertEquals(NotificationFanOutService.JobStatus.COMPLETED, job.getStatus());
+        verifyNoInteractions(registrationRepository);
+        verify(fanOutRepository, never()).save(any());
+    }
+    
+    @Test
+    void testInterruptedFanOutResumesAfterCheckpoint() throws InterruptedException {
+        // Given
+        NotificationFanOut interrupted = NotificationFanOut.builder()
+                .id(5L)
+                .eventId(1L)
+                .dedupeKey("1:CANCELLED")
+                .subject("Evento cancelado")
+                .message("Lo sentimos")
+                .lastRegistrationId(2L)
+                .build();
+        when(fanOutRepository.findByStatus(NotificationFanOut.Status.RUNNING)).thenReturn(List.of(interrupted));
+        when(registrationRepository.findRegistrantContacts(eq(1L), eq(RegistrationStatus.CANCELLED), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(contact(3L, "eva@eventpro.com", null, true)));
+        when(email.sendBulk(anyList(), anyString(), anyString(), anyMap())).thenAnswer(invocation -> {
+            List<String> recipients = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(recipients.stream().map(DeliveryResult::delivered).toList());
+        });
+        
+        // When
+        fanOutService.resumeInterruptedFanOuts();
+        NotificationFanOutService.FanOutJob job = fanOutService.getJob("5").orElseThrow();
+        waitFor(job);
+        
+        // Then
+        assertEquals(NotificationFanOutService.JobStatus.COMPLETED, job.getStatus());
+        verify(email).sendBulk(eq(List.of("eva@eventpro.com")), anyString(), anyString(), anyMap());
+        verify(registrationRepository, never()).findRegistrantContacts(eq(1L), any(), eq(0L), any(Pageable.class));
+    }
+    
+    @Test
+    void testUnreachableRegistrantIsSkipped() throws InterruptedException {
+        // Given
+        when(registrationRepository.findRegistrantContacts(eq(1L), eq(RegistrationStatus.CANCELLED), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(contact(1L, "ana@eventpro.com", null, false)));
+        
+        // When
+        NotificationFanOutService.FanOutJob job = fanOutService.notifyRegistrants(1L, "Evento cancelado", "Lo sentimos");
+        waitFor(job);
+        
+        // Then
+        assertEquals(NotificationFanOutService.JobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getSkipped());
+        verify(email, never()).sendBulk(anyList(), anyString(), anyString(), anyMap());
+    }
+    
+    private void waitFor(NotificationFanOutService.FanOutJob job) throws InterruptedException {
+        for (int i = 0; i < 100 && job.getStatus() == NotificationFanOutService.JobStatus.RUNNING; i++) {
+            Thread.sleep(50);
+        }
+    }
+    
+    private RegistrantContact contact(Long registrationId, String email, String phone, boolean emailNotifications) {
+        return new RegistrantContact() {
+            public Long getRegistrationId() { return registrationId; }
+            public Long getUserId() { return registrationId; }
+            public String getEmail() { return email; }
+            public String getPhone() { return phone; }
+            public Boolean getEmailNotifications() { return emailNotifications; }
+        };
+    }
+}
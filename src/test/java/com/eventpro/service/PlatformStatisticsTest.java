@@ -0,0 +1,114 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PlatformStatistics
+ */
+@ExtendWith(MockitoExtension.class)
+class PlatformStatisticsTest {
+    
+    @Mock
+    private EventRepository eventRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private PlatformStatistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = new PlatformStatistics(eventRepository, userRepository);
+        lenient().when(eventRepository.countEventsByStatus(any())).thenReturn(0L);
+        lenient().when(eventRepository.getTotalAttendeesByStatus(EventStatus.PUBLISHED)).thenReturn(0L);
+        lenient().when(userRepository.countActiveUsersByRole(any())).thenReturn(0L);
+    }
+    
+    @Test
+    void testChangesAreServedFromCountersAfterReconcile() {
+        // Given
+        statistics.reconcile();
+        
+        // When
+        statistics.onEventCreated(event(EventStatus.DRAFT, 0));
+        Event published = event(EventStatus.PUBLISHED, 25);
+        statistics.onEventStatusChanged(EventStatus.DRAFT, published);
+        statistics.onPublishedAttendeesChanged(5);
+        EventService.EventStatistics result = statistics.getEventStatistics();
+        
+        // Then
+        assertEquals(1L, result.totalEvents());
+        assertEquals(1L, result.publishedEvents());
+        assertEquals(30L, result.totalAttendees());
+        verify(eventRepository, times(1)).count();
+    }
+    
+    @Test
+    void testChangesInsideTransactionApplyOnlyAfterCommit() {
+        // Given
+        statistics.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            statistics.onEventCreated(event(EventStatus.PUBLISHED, 10));
+            statistics.onPublishedAttendeesChanged(2);
+            
+            // Then
+            assertEquals(0L, statistics.getEventStatistics().totalEvents(), "Uncommitted changes should not count");
+            
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1L, statistics.getEventStatistics().totalEvents());
+            assertEquals(12L, statistics.getEventStatistics().totalAttendees());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void testReconcileCorrectsDrift() {
+        // Given
+        statistics.onEventCreated(event(EventStatus.DRAFT, 0));
+        statistics.onEventCreated(event(EventStatus.DRAFT, 0));
+        when(eventRepository.count()).thenReturn(7L);
+        
+        // When
+        statistics.reconcile();
+        
+        // Then
+        assertEquals(7, statistics.getTotalEvents(), "Counter should match the database after reconcile");
+    }
+    
+    @Test
+    void testIncrementDuringAggregateQueryIsKept() {
+        // Given
+        when(eventRepository.count()).thenAnswer(invocation -> {
+            // An event is created while the count query is running
+            statistics.onEventCreated(event(EventStatus.DRAFT, 0));
+            return 3L;
+        });
+        
+        // When
+        statistics.reconcile();
+        
+        // Then
+        assertEquals(4, statistics.getTotalEvents(), "The concurrent increment should survive reconcile");
+    }
+    
+    private Event event(EventStatus status, int attendees) {
+        return Event.builder().status(status).currentAttendees(attendees).build();
+    }
+}
@@ -0,0 +1,254 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.model.User;
+import com.eventpro.patterns.observer.EventManager;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import com.eventpro.repository.UserRepository;
+import com.eventpro.service.RegistrationService.RegistrationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrency tests for the batched registration pipeline against the database
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import({RegistrationService.class, SeatReservationEngine.class, WaitlistManager.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegistrationServiceTest {
+    
+    private static final int CAPACITY = 50;
+    
+    @Autowired
+    private RegistrationService registrationService;
+    
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+    
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @MockBean
+    private EventService eventService;
+    
+    @MockBean
+    private PlatformStatistics platformStatistics;
+    
+    @MockBean
+    private EventManager eventManager;
+    
+    @MockBean
+    private EventCache eventCache;
+    
+    @MockBean
+    private UpcomingEventIndex upcomingEventIndex;
+    
+    private List<User> users;
+    private Event event;
+    
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            users.add(userRepository.save(User.builder()
+                    .firstName("Participante")
+                    .lastName(String.valueOf(i))
+                    .email(UUID.randomUUID() + "@email.com")
+                    .build()));
+        }
+        event = eventRepository.save(Event.builder()
+                .title("Conferencia " + UUID.randomUUID())
+                .description("Evento de prueba")
+                .location("Lima")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1).plusHours(8))
+                .maxAttendees(CAPACITY)
+                .status(EventStatus.PUBLISHED)
+                .organizer(users.get(0))
+                .build());
+        when(eventService.getEventById(event.getId())).thenReturn(Optional.of(event));
+    }
+    
+    @Test
+    void testConcurrentSignUpsNeverOversellOrDuplicate() throws Exception {
+        // Given
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<CompletableFuture<CompletableFuture<RegistrationResult>>> submitted = new ArrayList<>();
+        
+        // When: every user signs up twice, from different threads
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (User user : users) {
+                submitted.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return registrationService.register(user.getId(), event.getId(), null);
+                }, executor));
+            }
+        }
+        start.countDown();
+        List<RegistrationResult> results = new ArrayList<>();
+        for (CompletableFuture<CompletableFuture<RegistrationResult>> future : submitted) {
+            results.add(future.get(30, TimeUnit.SECONDS).get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        
+        // Then
+        Map<RegistrationResult.Outcome, Long> outcomes = results.stream()
+                .collect(Collectors.groupingBy(RegistrationResult::outcome, Collectors.counting()));
+        assertEquals(users.size(), outcomes.get(RegistrationResult.Outcome.ACCEPTED));
+        assertEquals(users.size(), outcomes.get(RegistrationResult.Outcome.DUPLICATE));
+        assertEquals(CAPACITY, registrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.CONFIRMED),
+                "Confirmed rows must never exceed capacity");
+        assertEquals(users.size(), rowsPerUser().size(), "Every user should have a registration row");
+        assertTrue(rowsPerUser().values().stream().allMatch(count -> count == 1),
+                "Exactly one row per (user, event)");
+        assertEquals(CAPACITY, seatReservationEngine.getReservedSeats(event.getId()));
+    }
+    
+    @Test
+    void testFailedRowRollsBackItsBatchBeforeTheRetry() throws Exception {
+        // Given: queue a batch with a row that violates the user foreign key
+        registrationService.stopWriter();
+        List<CompletableFuture<RegistrationResult>> valid = new ArrayList<>();
+        for (User user : users.subList(0, 10)) {
+            valid.add(registrationService.register(user.getId(), event.getId(), null));
+        }
+        CompletableFuture<RegistrationResult> invalid = registrationService.register(-1L, event.getId(), null);
+        for (User user : users.subList(10, 20)) {
+            valid.add(registrationService.register(user.getId(), event.getId(), null));
+        }
+        
+        // When
+        registrationService.startWriter();
+        List<RegistrationResult> results = new ArrayList<>();
+        for (CompletableFuture<RegistrationResult> future : valid) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        
+        // Then
+        assertEquals(RegistrationResult.Outcome.REJECTED, invalid.get(30, TimeUnit.SECONDS).outcome());
+        assertTrue(results.stream().allMatch(result -> result.outcome() == RegistrationResult.Outcome.ACCEPTED),
+                "Rows ahead of the failing one must not come back as duplicates");
+        long confirmed = registrationRepository.countByEventIdAndStatus(event.getId(), RegistrationStatus.CONFIRMED);
+        assertEquals(20, confirmed);
+        assertEquals(confirmed, seatReservationEngine.getReservedSeats(event.getId()),
+                "Seat counter should match the stored confirmed rows");
+    }
+    
+    @Test
+    void testSeatFreedWhileWaitlistRowIsQueuedIsNotLeftEmpty() throws Exception {
+        // Given: the event is full and one more sign-up is still queued
+        List<CompletableFuture<RegistrationResult>> confirmed = new ArrayList<>();
+        for (User user : users.subList(0, CAPACITY)) {
+            confirmed.add(registrationService.register(user.getId(), event.getId(), null));
+        }
+        for (CompletableFuture<RegistrationResult> future : confirmed) {
+            assertEquals(RegistrationStatus.CONFIRMED, future.get(30, TimeUnit.SECONDS).status());
+        }
+        registrationService.stopWriter();
+        User late = users.get(CAPACITY);
+        CompletableFuture<RegistrationResult> waitlisted = registrationService.register(late.getId(), event.getId(), null);
+        
+        // When: a seat frees before the waitlist row is written
+        registrationService.cancel(users.get(0).getId(), event.getId());
+        registrationService.startWriter();
+        
+        // Then
+        assertEquals(RegistrationStatus.WAITLIST, waitlisted.get(30, TimeUnit.SECONDS).status());
+        // Stopping the writer waits for the batch, including its waitlist re-check
+        registrationService.stopWriter();
+        registrationService.startWriter();
+        assertEquals(RegistrationStatus.CONFIRMED, registrationRepository
+                .findByUserIdAndEventId(late.getId(), event.getId()).orElseThrow().getStatus(),
+                "The freed seat should go to the queued waitlist registration");
+        assertEquals(CAPACITY, seatReservationEngine.getReservedSeats(event.getId()));
+    }
+    
+    @Test
+    void testRolledBackCancellationKeepsTheSeat() throws Exception {
+        // Given
+        List<CompletableFuture<RegistrationResult>> confirmed = new ArrayList<>();
+        for (User user : users.subList(0, CAPACITY + 1)) {
+            confirmed.add(registrationService.register(user.getId(), event.getId(), null));
+        }
+        for (CompletableFuture<RegistrationResult> future : confirmed) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        Long waitlisted = users.get(CAPACITY).getId();
+        
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            registrationService.cancel(users.get(0).getId(), event.getId());
+            assertEquals(CAPACITY, seatReservationEngine.getReservedSeats(event.getId()),
+                    "The seat is released only once the cancellation commits");
+            status.setRollbackOnly();
+        });
+        
+        // Then
+        assertEquals(CAPACITY, seatReservationEngine.getReservedSeats(event.getId()));
+        assertEquals(RegistrationStatus.WAITLIST, registrationRepository
+                .findByUserIdAndEventId(waitlisted, event.getId()).orElseThrow().getStatus());
+        
+        registrationService.cancel(users.get(0).getId(), event.getId());
+        assertEquals(RegistrationStatus.CONFIRMED, registrationRepository
+                .findByUserIdAndEventId(waitlisted, event.getId()).orElseThrow().getStatus(),
+                "A committed cancellation promotes the head of the waitlist");
+        assertEquals(CAPACITY, seatReservationEngine.getReservedSeats(event.getId()));
+    }
+    
+    private Map<Long, Long> rowsPerUser() {
+        return jdbcTemplate.queryForList("SELECT user_id FROM registrations WHERE event_id = ?", Long.class, event.getId())
+                .stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.eventpro.service;
+
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.repository.EventRepository;
+import com.eventpro.repository.RegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SeatReservationEngine
+ */
+class SeatReservationEngineTest {
+    
+    private EventRepository eventRepository;
+    private RegistrationRepository registrationRepository;
+    private JdbcTemplate jdbcTemplate;
+    private EventCache eventCache;
+    private UpcomingEventIndex upcomingEventIndex;
+    private SeatReservationEngine engine;
+    
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        registrationRepository = mock(RegistrationRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventCache = mock(EventCache.class);
+        upcomingEventIndex = mock(UpcomingEventIndex.class);
+        engine = new SeatReservationEngine(eventRepository, registrationRepository, jdbcTemplate, eventCache,
+                upcomingEventIndex);
+        
+        when(eventRepository.findMaxAttendeesById(1L)).thenReturn(Optional.of(5_000));
+        when(registrationRepository.countByEventIdAndStatus(1L, RegistrationStatus.CONFIRMED)).thenReturn(10L);
+    }
+    
+    @Test
+    void testConcurrentReservationsNeverOversell() throws Exception {
+        // Given
+        int threads = 32;
+        int attemptsPerThread = 1_000;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (engine.tryReserve(1L)) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "Reservations should finish");
+        
+        // Then
+        assertEquals(4_990, granted.get(), "Only the seats left after confirmed registrations should be granted");
+        assertEquals(0, engine.getAvailableSeats(1L), "Event should be full");
+    }
+    
+    @Test
+    void testReleaseAndCapacityIncreaseFreeSeats() {
+        // Given
+        engine.tryReserve(1L, 4_990);
+        
+        // When
+        engine.release(1L, 3);
+        int freed = engine.updateCapacity(1L, 5_010);
+        
+        // Then
+        assertEquals(10, freed, "Capacity increase should free the extra seats");
+        assertEquals(13, engine.getAvailableSeats(1L));
+    }
+    
+    @Test
+    void testCapacityIncreaseFreesSeatsWithoutLoadedCounter() {
+        // Given
+        engine.reconcile();
+        
+        // When
+        int freed = engine.updateCapacity(1L, 5_010);
+        
+        // Then
+        assertEquals(10, freed, "An unloaded counter should be loaded before the capacity changes");
+        assertEquals(5_000, engine.getAvailableSeats(1L));
+    }
+    
+    @Test
+    void testFlushWritesDirtyCountersInOneBatch() {
+        // Given
+        engine.tryReserve(1L);
+        
+        // When
+        engine.flush();
+        engine.flush();
+        
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(eventCache, times(1)).invalidate(1L);
+        verify(upcomingEventIndex, times(1)).updateAttendees(1L, 11);
+    }
+    
+    @Test
+    void testUnknownEventIsRejected() {
+        // Given
+        when(eventRepository.findMaxAttendeesById(99L)).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertThrows(RuntimeException.class, () -> engine.tryReserve(99L),
+                "Should throw exception when event not found");
+    }
+}
@@ -0,0 +1,146 @@
+package com.eventpro.service;
+
+import com.eventpro.model.Event;
+import com.eventpro.model.EventStatus;
+import com.eventpro.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for UpcomingEventIndex
+ */
+class UpcomingEventIndexTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 9, 0);
+    
+    private MutableClock clock;
+    private UpcomingEventIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        index = new UpcomingEventIndex(mock(EventRepository.class), clock);
+        
+        index.refresh(event(3L, NOW.plusDays(3), EventStatus.PUBLISHED));
+        index.refresh(event(1L, NOW.plusHours(1), EventStatus.PUBLISHED));
+        index.refresh(event(2L, NOW.plusDays(3), EventStatus.PUBLISHED));
+        index.refresh(event(4L, NOW.plusDays(1), EventStatus.DRAFT));
+    }
+    
+    @Test
+    void testNextIsOrderedByStartDateThenId() {
+        // When
+        List<Event> next = index.next(10);
+        
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), next.stream().map(Event::getId).toList(),
+                "Drafts are not indexed and equal start dates are ordered by id");
+        assertEquals(List.of(1L, 2L), index.next(2).stream().map(Event::getId).toList());
+    }
+    
+    @Test
+    void testBetweenIncludesBothBounds() {
+        // When
+        List<Event> range = index.between(NOW.plusDays(1), NOW.plusDays(3), 10);
+        
+        // Then
+        assertEquals(List.of(2L, 3L), range.stream().map(Event::getId).toList());
+        assertTrue(index.between(NOW.plusDays(4), NOW.plusDays(2), 10).isEmpty(), "Inverted range is empty");
+    }
+    
+    @Test
+    void testStartedAndCancelledEventsAreEvicted() {
+        // Given
+        index.refresh(event(3L, NOW.plusDays(3), EventStatus.CANCELLED));
+        
+        // When
+        clock.advance(Duration.ofHours(2));
+        List<Event> next = index.next(10);
+        
+        // Then
+        assertEquals(List.of(2L), next.stream().map(Event::getId).toList());
+        assertEquals(1, index.size(), "Started event should be dropped from the skip list");
+    }
+    
+    @Test
+    void testFlushedAttendeeCountsReachSnapshots() {
+        // When
+        index.updateAttendees(2L, 42);
+        index.updateAttendees(99L, 7);
+        
+        // Then
+        Event updated = index.next(10).stream().filter(event -> event.getId() == 2L).findFirst().orElseThrow();
+        assertEquals(42, updated.getCurrentAttendees());
+        assertEquals(3, index.size(), "Unknown events are ignored");
+    }
+    
+    @Test
+    void testWritesInsideTransactionApplyOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.refresh(event(5L, NOW.plusMinutes(30), EventStatus.PUBLISHED));
+            index.remove(2L);
+            
+            // Then
+            assertEquals(List.of(1L, 2L, 3L), index.next(10).stream().map(Event::getId).toList(),
+                    "Uncommitted writes should not be visible");
+            
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of(5L, 1L, 3L), index.next(10).stream().map(Event::getId).toList());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    private Event event(Long id, LocalDateTime startDate, EventStatus status) {
+        return Event.builder()
+                .id(id)
+                .title("Evento " + id)
+                .startDate(startDate)
+                .status(status)
+                .currentAttendees(0)
+                .build();
+    }
+    
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+        
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+        
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.eventpro.service;
+
+import com.eventpro.model.RegistrationStatus;
+import com.eventpro.patterns.observer.EventManager;
+import com.eventpro.repository.RegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitlistManager
+ */
+@ExtendWith(MockitoExtension.class)
+class WaitlistManagerTest {
+    
+    @Mock
+    private RegistrationRepository registrationRepository;
+    
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+    
+    @Mock
+    private PlatformStatistics platformStatistics;
+    
+    @Mock
+    private EventManager eventManager;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    private WaitlistManager waitlistManager;
+    
+    @BeforeEach
+    void setUp() {
+        waitlistManager = new WaitlistManager(registrationRepository, seatReservationEngine, platformStatistics,
+                eventManager, jdbcTemplate);
+        when(registrationRepository.findUserIdsByEventIdAndStatusInOrder(1L, RegistrationStatus.WAITLIST))
+                .thenReturn(List.of(5L, 6L, 7L));
+        lenient().when(seatReservationEngine.tryReserve(1L)).thenReturn(true);
+    }
+    
+    @Test
+    void testPromotionFollowsWaitlistOrder() {
+        // Given
+        stubUpdatedRows(1, 1);
+        waitlistManager.enqueue(1L, 8L);
+        waitlistManager.remove(1L, 6L);
+        
+        // When
+        List<Long> promoted = waitlistManager.promote(1L, "Conferencia", 2);
+        
+        // Then
+        assertEquals(List.of(5L, 7L), promoted, "Removed users are skipped, the rest keep FIFO order");
+        assertEquals(1, waitlistManager.size(1L));
+        verify(eventManager).promoteFromWaitlist(1L, "Conferencia", List.of(5L, 7L));
+        verify(platformStatistics).onPublishedAttendeesChanged(2);
+    }
+    
+    @Test
+    void testFullEventKeepsHeadOfWaitlist() {
+        // Given
+        when(seatReservationEngine.tryReserve(1L)).thenReturn(false);
+        
+        // When
+        List<Long> promoted = waitlistManager.promote(1L, "Conferencia", 1);
+        
+        // Then
+        assertTrue(promoted.isEmpty());
+        assertEquals(3, waitlistManager.size(1L));
+        verifyNoInteractions(jdbcTemplate, eventManager);
+    }
+    
+    @Test
+    void testRowCancelledDuringPromotionGivesSeatBack() {
+        // Given
+        stubUpdatedRows(1, 0);
+        
+        // When
+        List<Long> promoted = waitlistManager.promote(1L, "Conferencia", 2);
+        
+        // Then
+        assertEquals(List.of(5L), promoted);
+        verify(seatReservationEngine).release(1L, 1);
+    }
+    
+    @Test
+    void testFreeSeatsArePromotedWhenWaitlistIsRechecked() {
+        // Given
+        stubUpdatedRows(1, 1);
+        when(seatReservationEngine.getAvailableSeats(1L)).thenReturn(2);
+        
+        // When
+        List<Long> promoted = waitlistManager.promoteIntoFreeSeats(1L, "Conferencia");
+        
+        // Then
+        assertEquals(List.of(5L, 6L), promoted);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void stubUpdatedRows(int... rows) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{Arrays.copyOf(rows, rows.length)});
+    }
+}